@@ -0,0 +1,29 @@
+package com.example.apigateway.aggregation;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A product with its price and stock, composed at the gateway. A part whose service failed or
+ * timed out is left null and named in {@code unavailable}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProductDetail {
+    private Long id;
+    private String name;
+    private String brand;
+    private String description;
+    private String category;
+    private Double price;
+    private String quantityStatus; // "In Stock" or "Out of Stock"
+    private List<String> unavailable;
+}
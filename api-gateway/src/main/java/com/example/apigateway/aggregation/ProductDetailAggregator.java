@@ -0,0 +1,160 @@
+package com.example.apigateway.aggregation;
+
+import com.example.apigateway.filter.DeadlineFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Builds a {@link ProductDetail} from product-service (include=none, so it makes no calls of its
+ * own), pricing-service and inventory-service, called concurrently and without blocking. Each
+ * call has its own timeout, further cut to the request's remaining budget. The product is
+ * required: if it is missing or its call fails, so does the detail. Price and stock are not: a
+ * failed or late one leaves its field null and is listed as unavailable. Each call is timed as
+ * gateway.product-detail.leg by leg and outcome.
+ */
+@Component
+public class ProductDetailAggregator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductDetailAggregator.class);
+
+    static final String TRACE_HEADER = "X-Trace-Id";
+
+    /** Outcome of one aggregation: the HTTP status and message to answer with, and the detail if any. */
+    public record Result(HttpStatus status, String message, ProductDetail detail) {
+    }
+
+    // One downstream call: the ApiResponse data on success, else why it is missing and the status to report
+    private record Leg(JsonNode data, String failure, HttpStatus status) {
+        static Leg failed(String failure, HttpStatus status) {
+            return new Leg(null, failure, status);
+        }
+    }
+
+    private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+    private final Duration productTimeout;
+    private final Duration priceTimeout;
+    private final Duration inventoryTimeout;
+
+    public ProductDetailAggregator(WebClient.Builder loadBalancedWebClientBuilder, MeterRegistry meterRegistry,
+                                   @Value("${gateway.product-detail.product-timeout:2s}") Duration productTimeout,
+                                   @Value("${gateway.product-detail.price-timeout:1s}") Duration priceTimeout,
+                                   @Value("${gateway.product-detail.inventory-timeout:1s}") Duration inventoryTimeout) {
+        this.webClient = loadBalancedWebClientBuilder.build();
+        this.meterRegistry = meterRegistry;
+        this.productTimeout = productTimeout;
+        this.priceTimeout = priceTimeout;
+        this.inventoryTimeout = inventoryTimeout;
+    }
+
+    /**
+     * @param budget what is left of the caller's deadline, or null for none
+     */
+    public Mono<Result> aggregate(Long productId, String traceId, Duration budget) {
+        Mono<Leg> product = call("product", "http://PRODUCT-SERVICE/com/api/product-service/product?id={id}&include=none",
+                productId, traceId, bounded(productTimeout, budget));
+        Mono<Leg> price = call("price", "http://PRICING-SERVICE/com/api/price-service/getProductId?productId={id}",
+                productId, traceId, bounded(priceTimeout, budget));
+        Mono<Leg> inventory = call("inventory", "http://INVENTORY-SERVICE/com/api/inventory-service/getByProductId?productId={id}",
+                productId, traceId, bounded(inventoryTimeout, budget));
+
+        return Mono.zip(product, price, inventory)
+                .map(legs -> compose(productId, traceId, legs.getT1(), legs.getT2(), legs.getT3()));
+    }
+
+    private Result compose(Long productId, String traceId, Leg product, Leg price, Leg inventory) {
+        if (product.data() == null) {
+            logger.warn("[{}] Product detail for {} failed: {}", traceId, productId, product.failure());
+            return new Result(product.status(), "Failed to retrieve product details: " + product.failure(), null);
+        }
+
+        JsonNode data = product.data();
+        List<String> unavailable = new ArrayList<>();
+        ProductDetail.ProductDetailBuilder detail = ProductDetail.builder()
+                .id(data.path("id").asLong())
+                .name(text(data, "name"))
+                .brand(text(data, "brand"))
+                .description(text(data, "description"))
+                .category(text(data, "category"));
+
+        if (price.data() != null && price.data().hasNonNull("price")) {
+            detail.price(price.data().get("price").asDouble());
+        } else {
+            unavailable.add("price");
+            logger.warn("[{}] Price unavailable for product {}: {}", traceId, productId, price.failure());
+        }
+        if (inventory.data() != null && inventory.data().hasNonNull("quantity")) {
+            detail.quantityStatus(inventory.data().get("quantity").asInt() > 0 ? "In Stock" : "Out of Stock");
+        } else {
+            unavailable.add("inventory");
+            logger.warn("[{}] Inventory unavailable for product {}: {}", traceId, productId, inventory.failure());
+        }
+
+        if (unavailable.isEmpty()) {
+            return new Result(HttpStatus.OK, "Product retrieved successfully", detail.build());
+        }
+        return new Result(HttpStatus.OK, "Product retrieved without " + String.join(", ", unavailable),
+                detail.unavailable(unavailable).build());
+    }
+
+    // Never errors: a failed, late or unsuccessful call becomes a failed Leg
+    private Mono<Leg> call(String leg, String uri, Long productId, String traceId, Duration timeout) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return webClient.get()
+                    .uri(uri, productId)
+                    .header(TRACE_HEADER, traceId)
+                    .header(DeadlineFilter.HEADER, Long.toString(timeout.toMillis()))
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .timeout(timeout)
+                    .map(body -> body.path("success").asBoolean()
+                            ? new Leg(body.path("data"), null, HttpStatus.OK)
+                            : Leg.failed(body.path("message").asText("unsuccessful response"), reportedStatus(body)))
+                    .defaultIfEmpty(Leg.failed("empty response", HttpStatus.BAD_GATEWAY))
+                    .onErrorResume(e -> Mono.just(e instanceof TimeoutException
+                            ? Leg.failed("timed out after " + timeout.toMillis() + "ms", HttpStatus.GATEWAY_TIMEOUT)
+                            : Leg.failed(e.getMessage(), HttpStatus.BAD_GATEWAY)))
+                    .doOnNext(result -> legTimer(leg, result).record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private Timer legTimer(String leg, Leg result) {
+        String outcome = result.data() != null ? "success"
+                : result.status() == HttpStatus.GATEWAY_TIMEOUT ? "timeout" : "failure";
+        return Timer.builder("gateway.product-detail.leg")
+                .description("Downstream calls made to compose a product detail")
+                .tag("leg", leg)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    // Services answer errors as ApiResponse with the real status in httpStatus; a 404 is passed on as is
+    private static HttpStatus reportedStatus(JsonNode body) {
+        HttpStatus status = HttpStatus.resolve(body.path("httpStatus").asInt());
+        return status == HttpStatus.NOT_FOUND || status == HttpStatus.BAD_REQUEST ? status : HttpStatus.BAD_GATEWAY;
+    }
+
+    private static Duration bounded(Duration timeout, Duration budget) {
+        return budget == null || budget.compareTo(timeout) >= 0 ? timeout : budget;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.apigateway.cache;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.util.IllegalReferenceCountException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Instant;
+
+/**
+ * A cached downstream response: the headers worth replaying and the body in a pooled Netty
+ * buffer. The cache owns one reference to the body and releases it on eviction; every response
+ * written from the entry takes its own reference, so an entry evicted mid-write stays valid
+ * until that write finishes.
+ */
+public final class CachedResponse {
+
+    private final HttpHeaders headers;
+    private final ByteBuf body;
+    private final String etag;
+    private final Instant storedAt;
+    private final Instant expiresAt;
+
+    public CachedResponse(HttpHeaders headers, ByteBuf body, String etag, Instant storedAt, Instant expiresAt) {
+        this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+        this.body = body;
+        this.etag = etag;
+        this.storedAt = storedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public HttpHeaders headers() {
+        return headers;
+    }
+
+    public String etag() {
+        return etag;
+    }
+
+    public Instant storedAt() {
+        return storedAt;
+    }
+
+    public Instant expiresAt() {
+        return expiresAt;
+    }
+
+    public int size() {
+        return body.readableBytes();
+    }
+
+    /**
+     * The body for one response, sharing the pooled memory when the server is Netty (the
+     * response releases it once written), copied otherwise. Null if the entry was evicted
+     * and released in the meantime.
+     */
+    public DataBuffer retainedBody(DataBufferFactory bufferFactory) {
+        try {
+            if (bufferFactory instanceof NettyDataBufferFactory nettyBufferFactory) {
+                return nettyBufferFactory.wrap(body.retainedDuplicate());
+            }
+            return bufferFactory.wrap(ByteBufUtil.getBytes(body));
+        } catch (IllegalReferenceCountException e) {
+            return null;
+        }
+    }
+
+    void release() {
+        body.release();
+    }
+}
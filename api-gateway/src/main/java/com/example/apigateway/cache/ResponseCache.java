@@ -0,0 +1,92 @@
+package com.example.apigateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Downstream GET responses cached at the gateway (see ResponseCacheFilter), keyed by normalized
+ * path and query. Bodies live in pooled direct buffers from {@link #allocator()}; the cache is
+ * bounded by their total size (maximum-bytes), evicting least recently and least frequently used
+ * entries first, and each entry expires at its own expiresAt. Entries larger than
+ * max-entry-bytes are never stored. Size, hits and misses are published as cache.*
+ * (cache=gatewayResponses) and gateway.response.cache.bytes.
+ */
+@Component
+public class ResponseCache {
+
+    private final Cache<String, CachedResponse> entries;
+    private final int maxEntryBytes;
+
+    public ResponseCache(@Value("${gateway.response-cache.maximum-bytes:67108864}") long maximumBytes,
+                         @Value("${gateway.response-cache.max-entry-bytes:1048576}") int maxEntryBytes,
+                         MeterRegistry meterRegistry) {
+        this.maxEntryBytes = maxEntryBytes;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((String key, CachedResponse response) -> key.length() + response.size())
+                .expireAfter(untilExpiresAt())
+                .removalListener((String key, CachedResponse response, RemovalCause cause) -> {
+                    if (response != null) {
+                        response.release();
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "gatewayResponses");
+        Gauge.builder("gateway.response.cache.bytes", entries,
+                        cache -> cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .description("Bytes of response bodies held in the gateway response cache")
+                .register(meterRegistry);
+    }
+
+    public CachedResponse get(String key) {
+        return entries.getIfPresent(key);
+    }
+
+    public void put(String key, CachedResponse response) {
+        entries.put(key, response);
+    }
+
+    public void invalidateAll() {
+        entries.invalidateAll();
+    }
+
+    public int maxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    public ByteBufAllocator allocator() {
+        return PooledByteBufAllocator.DEFAULT;
+    }
+
+    private static Expiry<String, CachedResponse> untilExpiresAt() {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+                return Math.max(0, Duration.between(Instant.now(), response.expiresAt()).toNanos());
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, CachedResponse response, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, response, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String key, CachedResponse response, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+}
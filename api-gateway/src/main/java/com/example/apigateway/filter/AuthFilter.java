@@ -2,6 +2,7 @@ package com.example.apigateway.filter;
 
 import com.example.apigateway.response.ApiResponse;
 import com.example.apigateway.util.JwtUtil;
+import com.example.apigateway.util.VerifiedToken;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
@@ -20,7 +21,6 @@ import reactor.core.publisher.Mono;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 //@Component
@@ -122,21 +122,15 @@ public class AuthFilter extends AbstractGatewayFilterFactory<AuthFilter.Config>
 
     private static final Logger logger = LoggerFactory.getLogger(AuthFilter.class);
 
+    /** Exchange attribute holding the {@link VerifiedToken} of an authenticated request. */
+    public static final String VERIFIED_TOKEN_ATTRIBUTE = AuthFilter.class.getName() + ".verifiedToken";
+
     private static final List<String> TRUSTED_SERVICES = Arrays.asList(
             "PRICING-SERVICE", "INVENTORY-SERVICE", "PRODUCT-SERVICE"
     );
 
-    private static final Map<String, String> ADMIN_REQUIRED_URLS = Map.of(
-            "/com/api/user-service/assign-role", "Only ADMIN users can assign roles.",
-            "/com/api/category-service", "Only ADMIN users can manage categories.",
-            "/com/api/product-service/create", "Only ADMIN users can add products.",
-            "/com/api/product-service/update", "Only ADMIN users can update products.",
-            "/com/api/price-service", "Only ADMIN users can update pricing.",
-            "/com/api/inventory-service", "Only ADMIN users can update inventory."
-    );
-
     @Autowired
-    private RouteValidator routeValidator;
+    private RoutePolicyMatcher routePolicyMatcher;
 
     @Autowired
     private JwtUtil jwtUtil;
@@ -153,7 +147,15 @@ public class AuthFilter extends AbstractGatewayFilterFactory<AuthFilter.Config>
 
             logger.info("Incoming request: {} | Trace ID: {}", requestPath, traceId);
 
-            if (routeValidator.isSecured.test(exchange.getRequest())) {
+            // Resolved on the parsed path so matrix parameters and empty segments cannot dodge a rule
+            RoutePolicy policy = routePolicyMatcher.resolve(exchange.getRequest().getMethod(),
+                    exchange.getRequest().getPath().pathWithinApplication());
+            // Internal endpoints: no header a client can send, Service-Name included, opens them
+            if (policy.access() == RoutePolicy.Access.DENY) {
+                logger.error("Access denied to internal path: {} | Trace ID: {}", requestPath, traceId);
+                return handleErrorResponse(exchange, policy.message(), traceId, HttpStatus.FORBIDDEN);
+            }
+            if (policy.access() != RoutePolicy.Access.OPEN) {
                 logger.info("Request is secured for path: {} | Trace ID: {}", requestPath, traceId);
 
                 String serviceName = exchange.getRequest().getHeaders().getFirst("Service-Name");
@@ -177,18 +179,15 @@ public class AuthFilter extends AbstractGatewayFilterFactory<AuthFilter.Config>
                 String token = authHeader.substring(7);
 
                 try {
-                    jwtUtil.validateToken(token);
-                    String userRole = jwtUtil.extractRole(token);  // Extract role from the token
+                    VerifiedToken verifiedToken = jwtUtil.verify(token);  // Verified once; repeat tokens come from the claims cache
+                    String userRole = verifiedToken.role();
+                    exchange.getAttributes().put(VERIFIED_TOKEN_ATTRIBUTE, verifiedToken);
                     logger.info("Token validated successfully for path: {} | User role: {} | Trace ID: {}", requestPath, userRole, traceId);
 
-                    // Check if the requested path requires ADMIN role
-                    for (Map.Entry<String, String> entry : ADMIN_REQUIRED_URLS.entrySet()) {
-                        if (requestPath.startsWith(entry.getKey())) {
-                            if (!"ADMIN".equalsIgnoreCase(userRole)) {
-                                logger.error("Access denied for path: {} | Required role: ADMIN | User role: {} | Trace ID: {}", requestPath, userRole, traceId);
-                                return handleErrorResponse(exchange, entry.getValue(), traceId, HttpStatus.FORBIDDEN);
-                            }
-                        }
+                    // Check if the requested path requires a role
+                    if (!policy.permits(userRole)) {
+                        logger.error("Access denied for path: {} | Required role: {} | User role: {} | Trace ID: {}", requestPath, policy.role(), userRole, traceId);
+                        return handleErrorResponse(exchange, policy.message(), traceId, HttpStatus.FORBIDDEN);
                     }
 
                     ServerHttpRequest.Builder requestBuilder = exchange.getRequest().mutate()
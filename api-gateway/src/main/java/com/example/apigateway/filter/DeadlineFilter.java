@@ -0,0 +1,61 @@
+package com.example.apigateway.filter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Stamps every routed request with the time budget the gateway is still willing to wait for it,
+ * as a relative timeout in {@link #HEADER} (milliseconds; relative so host clock skew is
+ * irrelevant). The budget is the gateway's own response timeout less a small margin, so services
+ * give up, and say why, just before the gateway would. A caller may ask for a tighter budget by
+ * sending the header itself; it can never ask for a looser one.
+ */
+@Component
+public class DeadlineFilter implements GlobalFilter, Ordered {
+
+    public static final String HEADER = "X-Request-Timeout-Ms";
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineFilter.class);
+
+    @Value("${spring.cloud.gateway.httpclient.response-timeout:10s}")
+    private Duration responseTimeout;
+
+    @Value("${gateway.deadline.margin-ms:100}")
+    private long marginMillis;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long budgetMillis = Math.max(0, responseTimeout.toMillis() - marginMillis);
+
+        String requested = exchange.getRequest().getHeaders().getFirst(HEADER);
+        if (requested != null) {
+            try {
+                budgetMillis = Math.min(budgetMillis, Long.parseLong(requested.trim()));
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring malformed {} header: {}", HEADER, requested);
+            }
+        }
+
+        String budget = Long.toString(budgetMillis);
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> headers.set(HEADER, budget))
+                .build();
+        return chain.filter(exchange.mutate().request(request).build());
+    }
+
+    // Ahead of route filters so the budget is measured from as close to arrival as possible
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
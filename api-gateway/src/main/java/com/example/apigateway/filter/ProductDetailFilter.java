@@ -0,0 +1,103 @@
+package com.example.apigateway.filter;
+
+import com.example.apigateway.aggregation.ProductDetailAggregator;
+import com.example.apigateway.response.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Answers GET ?id= on its route with a product detail composed by {@link ProductDetailAggregator}
+ * instead of proxying, so the route needs no real uri (no://op). Put it last, after AuthFilter and
+ * the other route filters. Partial details are marked Cache-Control: no-store so a
+ * ResponseCacheFilter on the route keeps only complete ones.
+ */
+@Component
+public class ProductDetailFilter extends AbstractGatewayFilterFactory<ProductDetailFilter.Config> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductDetailFilter.class);
+
+    @Autowired
+    private ProductDetailAggregator productDetailAggregator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public ProductDetailFilter() {
+        super(Config.class);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            String traceId = request.getHeaders().getFirst("X-Trace-Id");
+            if (traceId == null) {
+                traceId = UUID.randomUUID().toString();
+            }
+
+            Long productId;
+            try {
+                productId = Long.valueOf(request.getQueryParams().getFirst("id"));
+            } catch (NumberFormatException e) {
+                logger.error("Invalid product id: {} | Trace ID: {}", request.getQueryParams().getFirst("id"), traceId);
+                return write(exchange, ApiResponse.failure("Query parameter 'id' must be a product ID", traceId, HttpStatus.BAD_REQUEST), false);
+            }
+
+            String requestTraceId = traceId;
+            logger.info("Composing product detail for product: {} | Trace ID: {}", productId, traceId);
+            return productDetailAggregator.aggregate(productId, traceId, budget(request))
+                    .flatMap(result -> {
+                        ApiResponse response = result.detail() != null
+                                ? ApiResponse.success(result.detail(), result.message(), requestTraceId, result.status())
+                                : ApiResponse.failure(result.message(), requestTraceId, result.status());
+                        boolean partial = result.detail() != null && result.detail().getUnavailable() != null;
+                        return write(exchange, response, partial);
+                    });
+        };
+    }
+
+    // Set by DeadlineFilter, which runs first
+    private static Duration budget(ServerHttpRequest request) {
+        String budget = request.getHeaders().getFirst(DeadlineFilter.HEADER);
+        try {
+            return budget == null ? null : Duration.ofMillis(Long.parseLong(budget.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, ApiResponse apiResponse, boolean noStore) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.valueOf(apiResponse.getHttpStatus()));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        if (noStore || !apiResponse.isSuccess()) {
+            response.getHeaders().setCacheControl(CacheControl.noStore());
+        }
+        try {
+            byte[] responseBytes = objectMapper.writeValueAsBytes(apiResponse);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(responseBytes)));
+        } catch (JsonProcessingException e) {
+            logger.error("Error while converting ApiResponse to JSON: {}", e.getMessage());
+            return Mono.error(e);
+        }
+    }
+
+    public static class Config {
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.apigateway.filter;
+
+import com.example.apigateway.ratelimit.TokenBucketStore;
+import com.example.apigateway.response.ApiResponse;
+import com.example.apigateway.util.VerifiedToken;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-route token-bucket rate limit. Requests are counted per caller: the JWT subject when
+ * {@link AuthFilter} has verified a token, otherwise the client IP (open routes, trusted
+ * services). List it after AuthFilter on the route, with optional replenish rate (tokens per
+ * second) and burst capacity, e.g. {@code RateLimitFilter=5,10}; omitted values fall back to
+ * gateway.rate-limit.*. Over the limit the request gets 429 with Retry-After (whole seconds) and
+ * never reaches the service. Counted as gateway.ratelimit.requests by route and outcome.
+ */
+@Component
+public class RateLimitFilter extends AbstractGatewayFilterFactory<RateLimitFilter.Config> {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    @Autowired
+    private TokenBucketStore tokenBucketStore;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${gateway.rate-limit.replenish-rate:20}")
+    private double defaultReplenishRate;
+
+    @Value("${gateway.rate-limit.burst-capacity:40}")
+    private long defaultBurstCapacity;
+
+    public RateLimitFilter() {
+        super(Config.class);
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("replenishRate", "burstCapacity");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        String routeId = config.getRouteId() != null ? config.getRouteId() : "default";
+        double replenishRate = config.getReplenishRate() != null ? config.getReplenishRate() : defaultReplenishRate;
+        long burstCapacity = config.getBurstCapacity() != null ? config.getBurstCapacity() : defaultBurstCapacity;
+        if (replenishRate <= 0 || burstCapacity < 1) {
+            throw new IllegalArgumentException("Rate limit for route " + routeId
+                    + " needs a positive replenish rate and a burst capacity of at least 1");
+        }
+        Counter allowed = requestCounter(routeId, "allowed");
+        Counter rejected = requestCounter(routeId, "rejected");
+
+        return (exchange, chain) -> {
+            String caller = callerKey(exchange);
+            TokenBucketStore.Decision decision = tokenBucketStore.tryAcquire(routeId + '|' + caller, replenishRate, burstCapacity);
+            if (decision.allowed()) {
+                allowed.increment();
+                exchange.getResponse().getHeaders().set(REMAINING_HEADER, Long.toString(decision.remaining()));
+                return chain.filter(exchange);
+            }
+
+            rejected.increment();
+            long retryAfterSeconds = Math.max(1, (decision.retryAfter().toMillis() + 999) / 1000);
+            String traceId = UUID.randomUUID().toString();
+            logger.warn("Rate limit exceeded on route: {} | Caller: {} | Retry after: {}s | Trace ID: {}",
+                    routeId, caller, retryAfterSeconds, traceId);
+            return tooManyRequests(exchange, retryAfterSeconds, traceId);
+        };
+    }
+
+    private static String callerKey(ServerWebExchange exchange) {
+        VerifiedToken token = exchange.getAttribute(AuthFilter.VERIFIED_TOKEN_ATTRIBUTE);
+        if (token != null && token.subject() != null) {
+            return "user:" + token.subject();
+        }
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        return "ip:" + (remoteAddress != null && remoteAddress.getAddress() != null
+                ? remoteAddress.getAddress().getHostAddress() : "unknown");
+    }
+
+    private Mono<Void> tooManyRequests(ServerWebExchange exchange, long retryAfterSeconds, String traceId) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.getHeaders().set(REMAINING_HEADER, "0");
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        ApiResponse apiResponse = ApiResponse.failure(
+                "Too many requests. Please retry after " + retryAfterSeconds + " seconds.", traceId, HttpStatus.TOO_MANY_REQUESTS);
+        try {
+            byte[] responseBytes = objectMapper.writeValueAsBytes(apiResponse);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(responseBytes)));
+        } catch (JsonProcessingException e) {
+            logger.error("Error while converting ApiResponse to JSON: {}", e.getMessage());
+            return Mono.error(e);
+        }
+    }
+
+    private Counter requestCounter(String routeId, String outcome) {
+        return Counter.builder("gateway.ratelimit.requests")
+                .description("Requests checked against the gateway rate limit")
+                .tag("route", routeId)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Data
+    public static class Config implements HasRouteId {
+        private Double replenishRate;
+        private Long burstCapacity;
+        private String routeId;
+    }
+}
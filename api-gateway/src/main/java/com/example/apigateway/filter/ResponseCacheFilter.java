@@ -0,0 +1,391 @@
+package com.example.apigateway.filter;
+
+import com.example.apigateway.cache.CachedResponse;
+import com.example.apigateway.cache.ResponseCache;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import lombok.Data;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.support.HasRouteId;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves GETs on the route from {@link ResponseCache}, keyed by normalized path and query (the
+ * response must not depend on who asks). List it after AuthFilter, so access is still checked
+ * on every hit, and before RateLimitFilter, so hits do not spend the caller's tokens, e.g.
+ * {@code ResponseCacheFilter=30s}.
+ * <p>
+ * A 200 response is stored as it streams to the client, unless it carries Set-Cookie or Vary,
+ * is larger than max-entry-bytes, or its Cache-Control says no-store, no-cache or private. The
+ * services report failures as HTTP 200 ApiResponse envelopes, so a JSON body is only stored when
+ * its top-level {@code success} is true. It is kept for s-maxage, else max-age, else the route's
+ * ttl. Responses without an ETag get one computed from the body, sent on the response that fills
+ * the cache as well as on hits, so clients can revalidate; such a body is held back until it is
+ * complete (at most max-entry-bytes) to compute it. A request whose If-None-Match matches a
+ * cached entry gets 304 from the gateway. Hits carry Age and X-Cache: HIT. Counted as
+ * cache.* (cache=gatewayResponses) and gateway.response.cache.not-modified.
+ */
+@Component
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCacheFilter.class);
+
+    public static final String CACHE_HEADER = "X-Cache";
+
+    // Replayed on hits; everything else (hop-by-hop, rate limit, trace headers) is per response
+    private static final List<String> STORED_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LANGUAGE, HttpHeaders.CACHE_CONTROL,
+            HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED);
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    public ResponseCacheFilter() {
+        super(Config.class);
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        Duration defaultTtl = config.getTtl();
+        Counter notModified = Counter.builder("gateway.response.cache.not-modified")
+                .description("Conditional requests answered 304 from the gateway response cache")
+                .tag("route", config.getRouteId() != null ? config.getRouteId() : "default")
+                .register(meterRegistry);
+
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+
+            String key = cacheKey(request);
+            CachedResponse cached = responseCache.get(key);
+            if (cached != null) {
+                Mono<Void> served = serve(exchange, cached, notModified);
+                if (served != null) {
+                    return served;
+                }
+            }
+
+            exchange.getResponse().getHeaders().set(CACHE_HEADER, "MISS");
+            ServerHttpResponse capturing = new CapturingResponse(exchange.getResponse(), key, defaultTtl);
+            return chain.filter(exchange.mutate().response(capturing).build());
+        };
+    }
+
+    // Null when the entry was released under us; the request then goes downstream as a miss
+    private Mono<Void> serve(ServerWebExchange exchange, CachedResponse cached, Counter notModified) {
+        ServerHttpResponse response = exchange.getResponse();
+        long ageSeconds = Math.max(0, Duration.between(cached.storedAt(), Instant.now()).getSeconds());
+
+        if (matches(exchange.getRequest().getHeaders().getIfNoneMatch(), cached.etag())) {
+            notModified.increment();
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            copyHeader(cached.headers(), response.getHeaders(), HttpHeaders.ETAG);
+            copyHeader(cached.headers(), response.getHeaders(), HttpHeaders.CACHE_CONTROL);
+            response.getHeaders().set(HttpHeaders.AGE, Long.toString(ageSeconds));
+            response.getHeaders().set(CACHE_HEADER, "HIT");
+            return response.setComplete();
+        }
+
+        DataBuffer body = cached.retainedBody(response.bufferFactory());
+        if (body == null) {
+            return null;
+        }
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().putAll(cached.headers());
+        response.getHeaders().setContentLength(cached.size());
+        response.getHeaders().set(HttpHeaders.AGE, Long.toString(ageSeconds));
+        response.getHeaders().set(CACHE_HEADER, "HIT");
+        return response.writeWith(Mono.just(body));
+    }
+
+    /** Path with empty segments and the trailing slash dropped; query parameters sorted by name. */
+    static String cacheKey(ServerHttpRequest request) {
+        StringBuilder key = new StringBuilder();
+        for (String segment : request.getPath().value().split("/")) {
+            if (!segment.isEmpty()) {
+                key.append('/').append(segment);
+            }
+        }
+        if (key.length() == 0) {
+            key.append('/');
+        }
+
+        MultiValueMap<String, String> params = request.getQueryParams();
+        if (!params.isEmpty()) {
+            char separator = '?';
+            for (String name : params.keySet().stream().sorted().toList()) {
+                for (String value : params.get(name)) {
+                    key.append(separator).append(UriUtils.encodeQueryParam(name, StandardCharsets.UTF_8));
+                    if (value != null) {
+                        key.append('=').append(UriUtils.encodeQueryParam(value, StandardCharsets.UTF_8));
+                    }
+                    separator = '&';
+                }
+            }
+        }
+        return key.toString();
+    }
+
+    private static boolean matches(List<String> ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch) {
+            if ("*".equals(candidate) || stripWeak(candidate).equals(stripWeak(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static void copyHeader(HttpHeaders from, HttpHeaders to, String name) {
+        List<String> values = from.get(name);
+        if (values != null) {
+            to.put(name, values);
+        }
+    }
+
+    /** How long the downstream lets the response be shared; null if it must not be stored. */
+    static Duration freshness(HttpHeaders headers, Duration defaultTtl) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl == null) {
+            return defaultTtl;
+        }
+        Long maxAge = null;
+        Long sharedMaxAge = null;
+        for (String directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+            String trimmed = directive.trim();
+            if (trimmed.equals("no-store") || trimmed.equals("no-cache") || trimmed.equals("private")) {
+                return null;
+            }
+            try {
+                if (trimmed.startsWith("s-maxage=")) {
+                    sharedMaxAge = Long.parseLong(trimmed.substring("s-maxage=".length()));
+                } else if (trimmed.startsWith("max-age=")) {
+                    maxAge = Long.parseLong(trimmed.substring("max-age=".length()));
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        Long seconds = sharedMaxAge != null ? sharedMaxAge : maxAge;
+        if (seconds == null) {
+            return defaultTtl;
+        }
+        return seconds > 0 ? Duration.ofSeconds(seconds) : null;
+    }
+
+    /** Copies a cacheable response body into a pooled buffer while passing it through unchanged. */
+    private class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final String key;
+        private final Duration defaultTtl;
+
+        CapturingResponse(ServerHttpResponse delegate, String key, Duration defaultTtl) {
+            super(delegate);
+            this.key = key;
+            this.defaultTtl = defaultTtl;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpHeaders headers = getHeaders();
+            Duration ttl = getStatusCode() != null && getStatusCode().value() == HttpStatus.OK.value()
+                    && !headers.containsKey(HttpHeaders.SET_COOKIE)
+                    && !headers.containsKey(HttpHeaders.VARY)
+                    && headers.getContentLength() <= responseCache.maxEntryBytes()
+                    ? freshness(headers, defaultTtl) : null;
+            if (ttl == null) {
+                return super.writeWith(body);
+            }
+
+            Capture capture = new Capture(headers.getContentLength());
+            if (headers.getETag() != null) {
+                Flux<DataBuffer> teed = Flux.<DataBuffer>from(body)
+                        .doOnNext(capture::append)
+                        .doOnComplete(() -> capture.store(headers, ttl))
+                        .doOnError(e -> capture.discard())
+                        .doOnCancel(capture::discard);
+                return super.writeWith(teed);
+            }
+
+            // No downstream ETag: hold the body back while it fits in max-entry-bytes, so the ETag
+            // computed for the cache goes out on this response too. Headers are committed with the
+            // first buffer written; a larger body is released as soon as it outgrows the limit.
+            AtomicLong heldBytes = new AtomicLong();
+            Flux<DataBuffer> held = Flux.<DataBuffer>from(body)
+                    .doOnNext(capture::append)
+                    .bufferUntil(chunk -> heldBytes.addAndGet(chunk.readableByteCount()) > responseCache.maxEntryBytes())
+                    .concatMap(chunks -> {
+                        if (heldBytes.get() <= responseCache.maxEntryBytes()) {
+                            String etag = capture.store(headers, ttl);
+                            if (etag != null) {
+                                headers.setETag(etag);
+                            }
+                        }
+                        return Flux.fromIterable(chunks);
+                    })
+                    .doOnError(e -> capture.discard())
+                    .doOnCancel(capture::discard)
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+            return super.writeWith(held);
+        }
+
+        private final class Capture {
+
+            private final long expectedLength;
+            private ByteBuf buffer;
+            private boolean abandoned;
+
+            Capture(long expectedLength) {
+                this.expectedLength = expectedLength;
+            }
+
+            void append(DataBuffer chunk) {
+                if (abandoned) {
+                    return;
+                }
+                int size = buffer == null ? 0 : buffer.readableBytes();
+                if (size + chunk.readableByteCount() > responseCache.maxEntryBytes()) {
+                    discard();
+                    return;
+                }
+                if (buffer == null) {
+                    int initialCapacity = (int) Math.max(0, Math.min(expectedLength, responseCache.maxEntryBytes()));
+                    buffer = responseCache.allocator().directBuffer(initialCapacity, responseCache.maxEntryBytes());
+                }
+                try (DataBuffer.ByteBufferIterator iterator = chunk.readableByteBuffers()) {
+                    while (iterator.hasNext()) {
+                        ByteBuffer byteBuffer = iterator.next();
+                        buffer.writeBytes(byteBuffer);
+                    }
+                }
+            }
+
+            // Returns the stored entry's ETag, or null when nothing was stored
+            String store(HttpHeaders headers, Duration ttl) {
+                if (abandoned) {
+                    return null;
+                }
+                if (buffer == null) {
+                    buffer = responseCache.allocator().directBuffer(0);
+                }
+                if (isJson(headers) && !isSuccessEnvelope(buffer)) {
+                    logger.debug("Not caching failure response for {}", key);
+                    discard();
+                    return null;
+                }
+                HttpHeaders stored = new HttpHeaders();
+                STORED_HEADERS.forEach(name -> copyHeader(headers, stored, name));
+                String etag = stored.getETag();
+                if (etag == null) {
+                    etag = computeEtag(buffer);
+                    stored.setETag(etag);
+                }
+                Instant now = Instant.now();
+                int size = buffer.readableBytes();
+                responseCache.put(key, new CachedResponse(stored, buffer, etag, now, now.plus(ttl)));
+                buffer = null;
+                logger.debug("Cached response for {} ({} bytes) for {}", key, size, ttl);
+                return etag;
+            }
+
+            void discard() {
+                abandoned = true;
+                if (buffer != null) {
+                    buffer.release();
+                    buffer = null;
+                }
+            }
+        }
+    }
+
+    private static boolean isJson(HttpHeaders headers) {
+        MediaType contentType = headers.getContentType();
+        return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(contentType);
+    }
+
+    // Reads only as far as the top-level "success" field; anything unparseable counts as a failure
+    private static boolean isSuccessEnvelope(ByteBuf body) {
+        try (JsonParser parser = JSON_FACTORY.createParser((InputStream) new ByteBufInputStream(body.duplicate()))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("success".equals(field)) {
+                    return value == JsonToken.VALUE_TRUE;
+                }
+                parser.skipChildren();
+            }
+            return false;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // Same form as Spring's ShallowEtagHeaderFilter
+    private static String computeEtag(ByteBuf body) {
+        try (ByteBufInputStream in = new ByteBufInputStream(body.duplicate())) {
+            return "\"0" + DigestUtils.md5DigestAsHex(in) + "\"";
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Data
+    public static class Config implements HasRouteId {
+        private Duration ttl = Duration.ofSeconds(30);
+        private String routeId;
+    }
+}
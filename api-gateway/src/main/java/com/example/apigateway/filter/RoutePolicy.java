@@ -0,0 +1,26 @@
+package com.example.apigateway.filter;
+
+/**
+ * What a request needs to pass {@link AuthFilter}: nothing (OPEN), any valid token
+ * (AUTHENTICATED), or a valid token carrying {@code role} (ROLE). DENY paths are internal
+ * and refused to every caller, trusted-service header or not. {@code message} is the
+ * reason given when a token has the wrong role or the path is denied.
+ */
+public record RoutePolicy(Access access, String role, String message) {
+
+    public enum Access {
+        OPEN, AUTHENTICATED, ROLE, DENY
+    }
+
+    public static final RoutePolicy OPEN = new RoutePolicy(Access.OPEN, null, null);
+    public static final RoutePolicy AUTHENTICATED = new RoutePolicy(Access.AUTHENTICATED, null, null);
+    public static final RoutePolicy DENY = new RoutePolicy(Access.DENY, null, "This resource is not available through the gateway.");
+
+    public boolean permits(String userRole) {
+        return switch (access) {
+            case OPEN, AUTHENTICATED -> true;
+            case ROLE -> role.equalsIgnoreCase(userRole);
+            case DENY -> false;
+        };
+    }
+}
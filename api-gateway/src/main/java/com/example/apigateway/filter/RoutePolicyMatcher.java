@@ -0,0 +1,72 @@
+package com.example.apigateway.filter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Holds the route policy table from gateway.route-policies, compiled into a {@link RoutePolicyTrie}.
+ * The table is compiled at startup, where a bad rule fails the start, and again whenever an
+ * EnvironmentChangeEvent touches gateway.route-policies (e.g. a config refresh); a bad
+ * table on reload is logged and the previous one stays in force.
+ */
+@Component
+public class RoutePolicyMatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoutePolicyMatcher.class);
+
+    static final String PREFIX = "gateway.route-policies";
+
+    private final Environment environment;
+    private volatile RoutePolicyTrie trie;
+
+    public RoutePolicyMatcher(Environment environment) {
+        this.environment = environment;
+        this.trie = compile();
+        logger.info("Loaded {} route policies", trie.size());
+    }
+
+    public RoutePolicy resolve(HttpMethod method, String path) {
+        return trie.resolve(method, path);
+    }
+
+    public RoutePolicy resolve(HttpMethod method, PathContainer path) {
+        return trie.resolve(method, path);
+    }
+
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        if (event.getKeys().stream().noneMatch(key -> key.startsWith(PREFIX))) {
+            return;
+        }
+        try {
+            trie = compile();
+            logger.info("Reloaded {} route policies", trie.size());
+        } catch (RuntimeException e) {
+            logger.error("Keeping previous route policies; reload failed: {}", e.getMessage());
+        }
+    }
+
+    private RoutePolicyTrie compile() {
+        Binder binder = Binder.get(environment);
+        List<RouteRule> rules = binder.bind(PREFIX + ".rules", Bindable.listOf(RouteRule.class)).orElse(List.of());
+        RoutePolicy.Access defaultAccess = binder.bind(PREFIX + ".default-access", RoutePolicy.Access.class)
+                .orElse(RoutePolicy.Access.AUTHENTICATED);
+        RoutePolicy defaultPolicy = switch (defaultAccess) {
+            case OPEN -> RoutePolicy.OPEN;
+            case AUTHENTICATED -> RoutePolicy.AUTHENTICATED;
+            case DENY -> RoutePolicy.DENY;
+            case ROLE -> throw new IllegalArgumentException(PREFIX + ".default-access cannot be ROLE");
+        };
+        return RoutePolicyTrie.compile(rules, defaultPolicy);
+    }
+}
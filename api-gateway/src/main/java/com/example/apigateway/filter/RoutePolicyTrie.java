@@ -0,0 +1,195 @@
+package com.example.apigateway.filter;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Route rules compiled into a trie of path segments, so a request resolves to its policy in one
+ * walk over its path, however many rules there are. The most specific rule wins regardless of
+ * the order rules are listed in: a deeper match beats a shallower one, an exact match beats a
+ * trailing {@code **} at the same depth, a literal segment beats {@code *}, and a rule naming
+ * the request's method beats one for all methods. Literal segments are followed in preference
+ * to {@code *} without backtracking. Paths no rule covers get the default policy. Requests are
+ * matched on their decoded segments, without matrix parameters, so every spelling of a path that
+ * reaches a handler resolves to the same policy.
+ * <p>
+ * Immutable once built; two rules for the same path and method are rejected as ambiguous.
+ */
+public final class RoutePolicyTrie {
+
+    private static final String ANY_SEGMENT = "*";
+    private static final String ANY_REMAINDER = "**";
+
+    private final Node root = new Node();
+    private final RoutePolicy defaultPolicy;
+    private final int size;
+
+    private RoutePolicyTrie(RoutePolicy defaultPolicy, int size) {
+        this.defaultPolicy = defaultPolicy;
+        this.size = size;
+    }
+
+    public static RoutePolicyTrie compile(List<RouteRule> rules, RoutePolicy defaultPolicy) {
+        RoutePolicyTrie trie = new RoutePolicyTrie(defaultPolicy, rules.size());
+        for (RouteRule rule : rules) {
+            trie.add(rule);
+        }
+        return trie;
+    }
+
+    public RoutePolicy resolve(HttpMethod method, String path) {
+        return resolve(method, PathContainer.parsePath(path));
+    }
+
+    public RoutePolicy resolve(HttpMethod method, PathContainer path) {
+        Node node = root;
+        RoutePolicy best = null;
+        for (String segment : segmentsToMatch(path)) {
+            RoutePolicy remainder = Policies.forMethod(node.remainder, method);
+            if (remainder != null) {
+                best = remainder;
+            }
+            Node next = node.children.get(segment);
+            if (next == null) {
+                next = node.anySegment;
+            }
+            if (next == null) {
+                return best != null ? best : defaultPolicy;
+            }
+            node = next;
+        }
+        RoutePolicy exact = Policies.forMethod(node.exact, method);
+        if (exact != null) {
+            return exact;
+        }
+        RoutePolicy remainder = Policies.forMethod(node.remainder, method);
+        if (remainder != null) {
+            return remainder;
+        }
+        return best != null ? best : defaultPolicy;
+    }
+
+    // Segments as the handler will match them: decoded, ";" parameters dropped, empty segments from
+    // "//" or a trailing "/" skipped, and "." / ".." resolved
+    private static List<String> segmentsToMatch(PathContainer path) {
+        List<String> segments = new ArrayList<>();
+        for (PathContainer.Element element : path.elements()) {
+            if (!(element instanceof PathContainer.PathSegment pathSegment)) {
+                continue;
+            }
+            String segment = pathSegment.valueToMatch();
+            if (segment.isEmpty() || ".".equals(segment)) {
+                continue;
+            }
+            if ("..".equals(segment)) {
+                if (!segments.isEmpty()) {
+                    segments.remove(segments.size() - 1);
+                }
+                continue;
+            }
+            segments.add(segment);
+        }
+        return segments;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void add(RouteRule rule) {
+        String path = rule.getPath();
+        if (path == null || !path.startsWith("/")) {
+            throw new IllegalArgumentException("Route rule path must start with '/': " + path);
+        }
+        RoutePolicy policy = toPolicy(rule);
+
+        String[] segments = path.substring(1).split("/");
+        Node node = root;
+        boolean remainder = false;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (ANY_REMAINDER.equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' is only allowed as the last segment: " + path);
+                }
+                remainder = true;
+            } else if (ANY_SEGMENT.equals(segment)) {
+                node = node.anySegment != null ? node.anySegment : (node.anySegment = new Node());
+            } else {
+                node = node.children.computeIfAbsent(segment, ignored -> new Node());
+            }
+        }
+
+        if (remainder) {
+            node.remainder = add(node.remainder, rule, policy);
+        } else {
+            node.exact = add(node.exact, rule, policy);
+        }
+    }
+
+    private static Policies add(Policies policies, RouteRule rule, RoutePolicy policy) {
+        Policies target = policies != null ? policies : new Policies();
+        if (rule.getMethods() == null || rule.getMethods().isEmpty()) {
+            if (target.anyMethod != null) {
+                throw new IllegalArgumentException("Duplicate route rule for " + rule.getPath());
+            }
+            target.anyMethod = policy;
+        } else {
+            for (String method : rule.getMethods()) {
+                HttpMethod httpMethod = HttpMethod.valueOf(method.trim().toUpperCase());
+                if (target.byMethod.putIfAbsent(httpMethod, policy) != null) {
+                    throw new IllegalArgumentException("Duplicate route rule for " + httpMethod + " " + rule.getPath());
+                }
+            }
+        }
+        return target;
+    }
+
+    private static RoutePolicy toPolicy(RouteRule rule) {
+        if (rule.getAccess() == null) {
+            throw new IllegalArgumentException("Route rule for " + rule.getPath() + " has no access");
+        }
+        return switch (rule.getAccess()) {
+            case OPEN -> RoutePolicy.OPEN;
+            case AUTHENTICATED -> RoutePolicy.AUTHENTICATED;
+            case DENY -> rule.getMessage() != null
+                    ? new RoutePolicy(RoutePolicy.Access.DENY, null, rule.getMessage()) : RoutePolicy.DENY;
+            case ROLE -> {
+                if (rule.getRole() == null || rule.getRole().isBlank()) {
+                    throw new IllegalArgumentException("Route rule for " + rule.getPath() + " requires a role");
+                }
+                String message = rule.getMessage() != null ? rule.getMessage()
+                        : "Only " + rule.getRole() + " users can access this resource.";
+                yield new RoutePolicy(RoutePolicy.Access.ROLE, rule.getRole(), message);
+            }
+        };
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Node anySegment;
+        private Policies exact;
+        private Policies remainder;
+    }
+
+    private static final class Policies {
+        private final Map<HttpMethod, RoutePolicy> byMethod = new HashMap<>();
+        private RoutePolicy anyMethod;
+
+        private static RoutePolicy forMethod(Policies policies, HttpMethod method) {
+            if (policies == null) {
+                return null;
+            }
+            RoutePolicy policy = policies.byMethod.get(method);
+            return policy != null ? policy : policies.anyMethod;
+        }
+    }
+}
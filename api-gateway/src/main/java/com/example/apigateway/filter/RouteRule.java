@@ -0,0 +1,21 @@
+package com.example.apigateway.filter;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One entry of gateway.route-policies.rules. {@code path} is matched segment by segment:
+ * {@code *} stands for one segment and a trailing {@code **} for any number, including none.
+ * No {@code methods} means the rule applies to every method.
+ */
+@Data
+public class RouteRule {
+
+    private String path;
+    private RoutePolicy.Access access = RoutePolicy.Access.AUTHENTICATED;
+    private String role;
+    private List<String> methods = new ArrayList<>();
+    private String message;
+}
@@ -1,21 +0,0 @@
-package com.example.apigateway.filter;
-
-import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.stereotype.Component;
-
-import java.util.List;
-import java.util.function.Predicate;
-
-@Component
-public class RouteValidator {
-    public static final List<String> openApiEndPoints = List.of(
-            "/com/api/user-service/users",
-            "/com/api/user-service/login",
-            "/eureka"
-    );
-
-    public Predicate<ServerHttpRequest> isSecured =
-            request -> openApiEndPoints
-                    .stream()
-                    .noneMatch(uri -> request.getURI().getPath().contains(uri));
-}
\ No newline at end of file
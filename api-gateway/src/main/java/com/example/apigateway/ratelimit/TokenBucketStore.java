@@ -0,0 +1,124 @@
+package com.example.apigateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory token buckets, one per key, for this gateway instance only (no shared store).
+ * <p>
+ * Each bucket is a single AtomicLong holding the time at which it would be full again (the
+ * GCRA form of a token bucket), so taking a token is one compare-and-set with no lock and no
+ * allocation. Buckets live in a fixed number of stripes, each its own map. A bucket that has
+ * been full for longer than idle-after is indistinguishable from a new one and is dropped;
+ * each stripe sweeps itself at most once per sweep-interval, on a request that lands in it,
+ * so no background thread is needed. Published as gateway.ratelimit.buckets (live buckets)
+ * and gateway.ratelimit.evicted.
+ */
+@Component
+public class TokenBucketStore {
+
+    /** {@code remaining} tokens left after this request; {@code retryAfter} is zero when allowed. */
+    public record Decision(boolean allowed, long remaining, Duration retryAfter) {
+    }
+
+    private final Stripe[] stripes;
+    private final Ticker ticker;
+    private final long idleNanos;
+    private final long sweepIntervalNanos;
+    private final Counter evicted;
+
+    @Autowired
+    public TokenBucketStore(@Value("${gateway.rate-limit.stripes:16}") int stripes,
+                            @Value("${gateway.rate-limit.idle-after:5m}") Duration idleAfter,
+                            @Value("${gateway.rate-limit.sweep-interval:30s}") Duration sweepInterval,
+                            MeterRegistry meterRegistry) {
+        this(stripes, idleAfter, sweepInterval, meterRegistry, Ticker.systemTicker());
+    }
+
+    TokenBucketStore(int stripes, Duration idleAfter, Duration sweepInterval, MeterRegistry meterRegistry, Ticker ticker) {
+        // Power of two so a stripe is picked with a mask
+        int count = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new Stripe[count];
+        this.ticker = ticker;
+        this.idleNanos = idleAfter.toNanos();
+        this.sweepIntervalNanos = sweepInterval.toNanos();
+        long now = ticker.read();
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe(now + sweepIntervalNanos);
+        }
+
+        Gauge.builder("gateway.ratelimit.buckets", this, TokenBucketStore::size)
+                .description("Rate limit buckets held in memory")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("gateway.ratelimit.evicted")
+                .description("Idle rate limit buckets dropped")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes one token from {@code key}'s bucket, which holds at most {@code burstCapacity} tokens
+     * and refills at {@code replenishRate} per second. The limits are passed on every call, so a
+     * changed route configuration applies to existing buckets straight away.
+     */
+    public Decision tryAcquire(String key, double replenishRate, long burstCapacity) {
+        long now = ticker.read();
+        Stripe stripe = stripes[spread(key.hashCode()) & (stripes.length - 1)];
+        stripe.sweepIfDue(now);
+
+        long interval = Math.max(1, (long) (1_000_000_000L / replenishRate));
+        long tolerance = interval * burstCapacity;
+        AtomicLong bucket = stripe.buckets.computeIfAbsent(key, ignored -> new AtomicLong(now));
+        while (true) {
+            long fullAt = bucket.get();
+            long next = (fullAt - now > 0 ? fullAt : now) + interval;
+            long debt = next - now;
+            if (debt > tolerance) {
+                return new Decision(false, 0, Duration.ofNanos(debt - tolerance));
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                return new Decision(true, (tolerance - debt) / interval, Duration.ZERO);
+            }
+        }
+    }
+
+    public int size() {
+        return Arrays.stream(stripes).mapToInt(stripe -> stripe.buckets.size()).sum();
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class Stripe {
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicLong nextSweep;
+
+        private Stripe(long firstSweep) {
+            this.nextSweep = new AtomicLong(firstSweep);
+        }
+
+        private void sweepIfDue(long now) {
+            long due = nextSweep.get();
+            if (now - due < 0 || !nextSweep.compareAndSet(due, now + sweepIntervalNanos)) {
+                return;
+            }
+            // A request racing with the removal may spend its token on the dropped bucket; only
+            // buckets already idle and full are removed, so at most that one token goes uncounted
+            buckets.forEach((key, bucket) -> {
+                if (now - bucket.get() > idleNanos && buckets.remove(key, bucket)) {
+                    evicted.increment();
+                }
+            });
+        }
+    }
+}
@@ -1,66 +1,119 @@
 package com.example.apigateway.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.util.Date;
-import java.util.function.Function;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 
+/**
+ * Verifies gateway tokens. The signing key and parser are built once; each token is verified
+ * once and its claims kept, keyed by the token's SHA-256 digest, until the token's exp (or
+ * max-ttl if sooner, or if it has none), so repeat requests with the same token skip the HMAC
+ * and JSON parse. Only verified tokens are cached. Hits and misses are published as cache.*
+ * (cache=jwtClaims).
+ */
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    String secretKey;
-    public void validateToken(final String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getKey())
-                    .build()
-                    .parseClaimsJws(token);
-        } catch (JwtException e) {
-            throw new RuntimeException("Invalid JWT Token: " + e.getMessage());
-        }
-    }
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verified;
 
-    private SecretKey getKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtUtil(@Value("${jwt.secret}") String secretKey,
+                   @Value("${jwt.verified-cache.maximum-size:10000}") long maximumSize,
+                   @Value("${jwt.verified-cache.max-ttl:5m}") Duration maxTtl,
+                   MeterRegistry meterRegistry) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
+                .build();
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(untilTokenExpiry(maxTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "jwtClaims");
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /** Signature and expiry checked once per distinct token; throws if the token is not valid. */
+    public VerifiedToken verify(final String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verified.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+        VerifiedToken verifiedToken = parse(token);
+        verified.put(digest, verifiedToken);
+        return verifiedToken;
     }
 
-    private Date extractExpiration(String token) {
-        return  extractClaim(token, Claims::getExpiration);
+    public void validateToken(final String token) {
+        verify(token);
     }
 
-    public  String extractUserName(String token){
-        return extractClaim(token,Claims::getSubject);
+    public String extractUserName(String token) {
+        return verify(token).subject();
     }
 
-    public String extractRole(String token){
-        return extractClaim(token,claims -> claims.get("role",String.class));
+    public String extractRole(String token) {
+        return verify(token).role();
     }
 
-    private <T> T extractClaim(String token, Function<Claims,T> claimsResolver){
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    private VerifiedToken parse(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            return new VerifiedToken(claims.getSubject(), claims.get("role", String.class),
+                    claims.getExpiration() == null ? null : claims.getExpiration().toInstant());
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new RuntimeException("Invalid JWT Token: " + e.getMessage());
+        }
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
+    // An entry never outlives its token: it expires at exp, or after maxTtl if that comes first
+    private static Expiry<String, VerifiedToken> untilTokenExpiry(Duration maxTtl) {
+        long maxTtlNanos = maxTtl.toNanos();
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                if (token.expiresAt() == null) {
+                    return maxTtlNanos;
+                }
+                long remainingNanos = Duration.between(Instant.now(), token.expiresAt()).toNanos();
+                return Math.max(0, Math.min(maxTtlNanos, remainingNanos));
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, token, currentTime);
+            }
 
+            @Override
+            public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
 }
@@ -0,0 +1,7 @@
+package com.example.apigateway.util;
+
+import java.time.Instant;
+
+/** Claims the gateway uses from a token whose signature and expiry have been checked. */
+public record VerifiedToken(String subject, String role, Instant expiresAt) {
+}
@@ -0,0 +1,104 @@
+package com.example.apigateway.aggregation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ProductDetailAggregatorTest {
+
+    private static final String PRODUCT = "{\"success\":true,\"data\":{\"id\":42,\"name\":\"Phone\",\"brand\":\"Acme\","
+            + "\"description\":\"A phone\",\"price\":0.0,\"category\":\"Electronics\"},\"httpStatus\":200}";
+    private static final String PRICE = "{\"success\":true,\"data\":{\"productId\":42,\"price\":199.5},\"httpStatus\":200}";
+    private static final String INVENTORY = "{\"success\":true,\"data\":{\"productId\":42,\"quantity\":3},\"httpStatus\":200}";
+
+    @Test
+    void testAggregate_MergesAllThreeServices() {
+        // Arrange
+        ProductDetailAggregator aggregator = aggregator(Map.of(
+                "PRODUCT-SERVICE", json(PRODUCT), "PRICING-SERVICE", json(PRICE), "INVENTORY-SERVICE", json(INVENTORY)));
+
+        // Act
+        ProductDetailAggregator.Result result = aggregator.aggregate(42L, "trace", null).block();
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.status());
+        assertEquals("Phone", result.detail().getName());
+        assertEquals("Electronics", result.detail().getCategory());
+        assertEquals(199.5, result.detail().getPrice());
+        assertEquals("In Stock", result.detail().getQuantityStatus());
+        assertNull(result.detail().getUnavailable());
+    }
+
+    @Test
+    void testAggregate_SlowAndFailingLegsGivePartialResult() {
+        // Arrange
+        ProductDetailAggregator aggregator = aggregator(Map.of(
+                "PRODUCT-SERVICE", json(PRODUCT),
+                "PRICING-SERVICE", Mono.never(),
+                "INVENTORY-SERVICE", Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build())));
+
+        // Act
+        ProductDetailAggregator.Result result = aggregator.aggregate(42L, "trace", null).block(Duration.ofSeconds(5));
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.status());
+        assertEquals("Phone", result.detail().getName());
+        assertNull(result.detail().getPrice());
+        assertNull(result.detail().getQuantityStatus());
+        assertEquals(List.of("price", "inventory"), result.detail().getUnavailable());
+    }
+
+    @Test
+    void testAggregate_MissingProductFailsWholeDetail() {
+        // Arrange
+        String notFound = "{\"success\":false,\"message\":\"Product not found with ID: 42\",\"httpStatus\":404}";
+        ProductDetailAggregator aggregator = aggregator(Map.of(
+                "PRODUCT-SERVICE", json(notFound), "PRICING-SERVICE", json(PRICE), "INVENTORY-SERVICE", json(INVENTORY)));
+
+        // Act
+        ProductDetailAggregator.Result result = aggregator.aggregate(42L, "trace", null).block();
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, result.status());
+        assertNull(result.detail());
+    }
+
+    @Test
+    void testAggregate_RequestBudgetCapsLegTimeouts() {
+        // Arrange
+        ProductDetailAggregator aggregator = aggregator(Map.of(
+                "PRODUCT-SERVICE", Mono.never(), "PRICING-SERVICE", json(PRICE), "INVENTORY-SERVICE", json(INVENTORY)));
+
+        // Act
+        ProductDetailAggregator.Result result = aggregator.aggregate(42L, "trace", Duration.ofMillis(50)).block(Duration.ofSeconds(1));
+
+        // Assert
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, result.status());
+    }
+
+    private static ProductDetailAggregator aggregator(Map<String, Mono<ClientResponse>> responses) {
+        WebClient.Builder builder = WebClient.builder()
+                .exchangeFunction(request -> responses.get(request.url().getHost()));
+        return new ProductDetailAggregator(builder, new SimpleMeterRegistry(),
+                Duration.ofSeconds(2), Duration.ofMillis(100), Duration.ofMillis(100));
+    }
+
+    private static Mono<ClientResponse> json(String body) {
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.apigateway.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.apigateway.filter.AuthFilter;
+import com.example.apigateway.filter.RoutePolicyMatcher;
+import com.example.apigateway.util.JwtUtil;
+import com.example.apigateway.util.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verification on the AuthFilter hot path: the old code (key and parser rebuilt, token
+ * parsed twice per request) against a single parse with the prebuilt parser (what a claims-cache
+ * miss costs) and a cached {@link JwtUtil#verify}, plus the whole filter for a secured request.
+ * Run from the api-gateway directory after {@code mvn test-compile}:
+ * <pre>
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     com.example.apigateway.benchmark.AuthFilterBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthFilterBenchmark {
+
+    private static final String SECRET = "xdEY0pU7jQ4oTp/u2WOZ+XKLW8+WrUUEeYNah/0URi0=";
+
+    private String token;
+    private JwtParser parser;
+    private JwtUtil jwtUtil;
+    private GatewayFilter authFilter;
+
+    @Setup
+    public void setUp() {
+        // The filter logs every request at INFO; keep the console out of the measurement
+        ((Logger) LoggerFactory.getLogger(AuthFilter.class)).setLevel(Level.WARN);
+
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        token = Jwts.builder()
+                .setSubject("alice")
+                .claim("role", "USER")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(key)
+                .compact();
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+        jwtUtil = new JwtUtil(SECRET, 10_000, Duration.ofMinutes(5), new SimpleMeterRegistry());
+
+        AuthFilter factory = new AuthFilter();
+        ReflectionTestUtils.setField(factory, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(factory, "routePolicyMatcher", new RoutePolicyMatcher(new MockEnvironment()));
+        authFilter = factory.apply(new AuthFilter.Config());
+    }
+
+    @Benchmark
+    public String legacyValidateThenExtract() {
+        legacyParser().parseClaimsJws(token);
+        return legacyParser().parseClaimsJws(token).getBody().get("role", String.class);
+    }
+
+    @Benchmark
+    public String singleParse() {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        return claims.get("role", String.class);
+    }
+
+    @Benchmark
+    public VerifiedToken cachedVerify() {
+        return jwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public Void securedRequestThroughFilter() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/com/api/product-service/products/42")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+        return authFilter.filter(exchange, ignored -> Mono.empty()).block();
+    }
+
+    // What JwtUtil did before: a fresh key and parser for every validateToken/extractRole call
+    private static JwtParser legacyParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(AuthFilterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
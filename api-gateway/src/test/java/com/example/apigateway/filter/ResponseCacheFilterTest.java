@@ -0,0 +1,201 @@
+package com.example.apigateway.filter;
+
+import com.example.apigateway.cache.ResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ResponseCacheFilterTest {
+
+    private static final String BODY = "{\"success\":true,\"data\":[]}";
+
+    private final AtomicInteger downstreamCalls = new AtomicInteger();
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ResponseCacheFilter factory = new ResponseCacheFilter();
+        ReflectionTestUtils.setField(factory, "responseCache", new ResponseCache(1024 * 1024, 64 * 1024, meterRegistry));
+        ReflectionTestUtils.setField(factory, "meterRegistry", meterRegistry);
+        ResponseCacheFilter.Config config = new ResponseCacheFilter.Config();
+        config.setTtl(Duration.ofMinutes(1));
+        filter = factory.apply(config);
+    }
+
+    @Test
+    void testFilter_SecondGetIsServedFromCache() {
+        // Arrange
+        MockServerWebExchange first = get("/com/api/product-service/products?size=10&after=5");
+        MockServerWebExchange second = get("/com/api/product-service//products/?after=5&size=10");
+
+        // Act
+        filter.filter(first, downstream(null)).block();
+        filter.filter(second, downstream(null)).block();
+
+        // Assert
+        assertEquals(1, downstreamCalls.get());
+        assertEquals(HttpStatus.OK.value(), second.getResponse().getStatusCode().value());
+        assertEquals("HIT", second.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_HEADER));
+        assertEquals(BODY, second.getResponse().getBodyAsString().block());
+        assertEquals(MediaType.APPLICATION_JSON, second.getResponse().getHeaders().getContentType());
+        assertNotNull(second.getResponse().getHeaders().getETag());
+    }
+
+    @Test
+    void testFilter_MatchingIfNoneMatchGets304WithoutDownstreamCall() {
+        // Arrange
+        filter.filter(get("/com/api/product-service/products"), downstream("\"v1\"")).block();
+        MockServerWebExchange conditional = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/com/api/product-service/products")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"v1\""));
+
+        // Act
+        filter.filter(conditional, downstream("\"v1\"")).block();
+
+        // Assert
+        assertEquals(1, downstreamCalls.get());
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), conditional.getResponse().getStatusCode().value());
+        assertEquals("\"v1\"", conditional.getResponse().getHeaders().getETag());
+    }
+
+    @Test
+    void testFilter_NoStoreResponseIsNotCached() {
+        // Arrange
+        GatewayFilterChain noStore = exchange -> {
+            downstreamCalls.incrementAndGet();
+            exchange.getResponse().getHeaders().setCacheControl("no-store");
+            return write(exchange);
+        };
+
+        // Act
+        filter.filter(get("/com/api/product-service/products"), noStore).block();
+        MockServerWebExchange second = get("/com/api/product-service/products");
+        filter.filter(second, noStore).block();
+
+        // Assert
+        assertEquals(2, downstreamCalls.get());
+        assertEquals("MISS", second.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_HEADER));
+    }
+
+    @Test
+    void testFilter_FailureEnvelopeIsNotCached() {
+        // Arrange
+        String failure = "{\"message\":\"Product not found with ID: 7\",\"traceId\":\"t-1\",\"success\":false,\"httpStatus\":404}";
+        GatewayFilterChain notFound = exchange -> {
+            downstreamCalls.incrementAndGet();
+            return write(exchange, failure);
+        };
+
+        // Act
+        filter.filter(get("/com/api/product-service/product?id=7"), notFound).block();
+        MockServerWebExchange second = get("/com/api/product-service/product?id=7");
+        filter.filter(second, notFound).block();
+
+        // Assert
+        assertEquals(2, downstreamCalls.get());
+        assertEquals("MISS", second.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_HEADER));
+        assertEquals(failure, second.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void testFilter_MissCarriesTheEtagComputedForTheCache() {
+        // Arrange
+        MockServerWebExchange miss = get("/com/api/product-service/products");
+        MockServerWebExchange hit = get("/com/api/product-service/products");
+
+        // Act
+        filter.filter(miss, downstream(null)).block();
+        filter.filter(hit, downstream(null)).block();
+
+        // Assert
+        assertEquals("MISS", miss.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_HEADER));
+        assertNotNull(miss.getResponse().getHeaders().getETag());
+        assertEquals(miss.getResponse().getHeaders().getETag(), hit.getResponse().getHeaders().getETag());
+        assertEquals(BODY, miss.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void testFilter_BodyLargerThanMaxEntryIsStreamedWithoutEtag() {
+        // Arrange
+        String chunk = "x".repeat(40 * 1024);
+        GatewayFilterChain large = exchange -> {
+            downstreamCalls.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            exchange.getResponse().getHeaders().setContentType(MediaType.TEXT_PLAIN);
+            return exchange.getResponse().writeWith(Flux.just(chunk, chunk, chunk)
+                    .map(part -> DefaultDataBufferFactory.sharedInstance.wrap(part.getBytes(StandardCharsets.UTF_8))));
+        };
+        MockServerWebExchange first = get("/com/api/product-service/products/export");
+        MockServerWebExchange second = get("/com/api/product-service/products/export");
+
+        // Act
+        filter.filter(first, large).block();
+        filter.filter(second, large).block();
+
+        // Assert
+        assertEquals(2, downstreamCalls.get());
+        assertNull(first.getResponse().getHeaders().getETag());
+        assertEquals(chunk.repeat(3), first.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void testFreshness_PrefersSharedMaxAgeAndFallsBackToRouteTtl() {
+        // Arrange
+        HttpHeaders shared = new HttpHeaders();
+        shared.setCacheControl("public, max-age=60, s-maxage=10");
+        HttpHeaders none = new HttpHeaders();
+        HttpHeaders zero = new HttpHeaders();
+        zero.setCacheControl("max-age=0");
+
+        // Act & Assert
+        assertEquals(Duration.ofSeconds(10), ResponseCacheFilter.freshness(shared, Duration.ofSeconds(30)));
+        assertEquals(Duration.ofSeconds(30), ResponseCacheFilter.freshness(none, Duration.ofSeconds(30)));
+        assertEquals(null, ResponseCacheFilter.freshness(zero, Duration.ofSeconds(30)));
+    }
+
+    private static MockServerWebExchange get(String uri) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(uri));
+    }
+
+    private GatewayFilterChain downstream(String etag) {
+        return exchange -> {
+            downstreamCalls.incrementAndGet();
+            if (etag != null) {
+                exchange.getResponse().getHeaders().setETag(etag);
+            }
+            return write(exchange);
+        };
+    }
+
+    private static Mono<Void> write(ServerWebExchange exchange) {
+        return write(exchange, BODY);
+    }
+
+    private static Mono<Void> write(ServerWebExchange exchange, String body) {
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        return exchange.getResponse().writeWith(Mono.just(DefaultDataBufferFactory.sharedInstance.wrap(bytes)));
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.apigateway.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RoutePolicyMatcherTest {
+
+    @Test
+    void testResolve_MostSpecificRuleWinsRegardlessOfOrder() {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("gateway.route-policies.rules[0].path", "/api/**")
+                .withProperty("gateway.route-policies.rules[0].access", "ROLE")
+                .withProperty("gateway.route-policies.rules[0].role", "ADMIN")
+                .withProperty("gateway.route-policies.rules[1].path", "/api/*/public")
+                .withProperty("gateway.route-policies.rules[1].access", "OPEN")
+                .withProperty("gateway.route-policies.rules[2].path", "/api/orders/public")
+                .withProperty("gateway.route-policies.rules[2].access", "AUTHENTICATED");
+        RoutePolicyMatcher matcher = new RoutePolicyMatcher(environment);
+
+        // Act & Assert
+        assertEquals(RoutePolicy.Access.AUTHENTICATED, matcher.resolve(HttpMethod.GET, "/api/orders/public").access());
+        assertEquals(RoutePolicy.Access.OPEN, matcher.resolve(HttpMethod.GET, "/api/items/public/").access());
+        assertEquals(RoutePolicy.Access.ROLE, matcher.resolve(HttpMethod.GET, "/api/items/42").access());
+        assertEquals(RoutePolicy.Access.ROLE, matcher.resolve(HttpMethod.GET, "/api").access());
+        assertEquals(RoutePolicy.Access.AUTHENTICATED, matcher.resolve(HttpMethod.GET, "/other").access());
+    }
+
+    @Test
+    void testResolve_MethodSpecificRuleOverridesAnyMethod() {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("gateway.route-policies.rules[0].path", "/com/api/price-service/**")
+                .withProperty("gateway.route-policies.rules[0].access", "ROLE")
+                .withProperty("gateway.route-policies.rules[0].role", "ADMIN")
+                .withProperty("gateway.route-policies.rules[0].message", "Only ADMIN users can update pricing.")
+                .withProperty("gateway.route-policies.rules[1].path", "/com/api/price-service/**")
+                .withProperty("gateway.route-policies.rules[1].methods", "GET,HEAD")
+                .withProperty("gateway.route-policies.rules[1].access", "AUTHENTICATED");
+        RoutePolicyMatcher matcher = new RoutePolicyMatcher(environment);
+
+        // Act
+        RoutePolicy get = matcher.resolve(HttpMethod.GET, "/com/api/price-service/prices/7");
+        RoutePolicy put = matcher.resolve(HttpMethod.PUT, "/com/api/price-service/prices/7");
+
+        // Assert
+        assertEquals(RoutePolicy.AUTHENTICATED, get);
+        assertEquals("ADMIN", put.role());
+        assertEquals("Only ADMIN users can update pricing.", put.message());
+        assertEquals(false, put.permits("USER"));
+        assertEquals(true, put.permits("admin"));
+    }
+
+    @Test
+    void testResolve_PathSpellingsCannotDodgeRoleRules() {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("gateway.route-policies.rules[0].path", "/com/api/category-service/**")
+                .withProperty("gateway.route-policies.rules[0].access", "ROLE")
+                .withProperty("gateway.route-policies.rules[0].role", "ADMIN")
+                .withProperty("gateway.route-policies.rules[1].path", "/com/api/product-service/create/**")
+                .withProperty("gateway.route-policies.rules[1].access", "ROLE")
+                .withProperty("gateway.route-policies.rules[1].role", "ADMIN")
+                .withProperty("gateway.route-policies.rules[2].path", "/com/api/product-service/create")
+                .withProperty("gateway.route-policies.rules[2].methods", "POST")
+                .withProperty("gateway.route-policies.rules[2].access", "ROLE")
+                .withProperty("gateway.route-policies.rules[2].role", "ADMIN");
+        RoutePolicyMatcher matcher = new RoutePolicyMatcher(environment);
+
+        // Act & Assert
+        for (String path : List.of(
+                "/com/api/product-service/create",
+                "/com/api/product-service/create;x=1",
+                "/com/api/product-service;v=2/create",
+                "/com/api/product-service//create",
+                "//com/api/product-service/create",
+                "/com/api/product-service/create/",
+                "/com/api/product-service/create//",
+                "/com/api/product-service/./create",
+                "/com/api/product-service/x/../create",
+                "/com/api/product-service/cr%65ate",
+                "/com/api/category-service;x/categories",
+                "/com/api/category-service//categories",
+                "/com/api/category-service/categories/")) {
+            assertEquals(RoutePolicy.Access.ROLE, matcher.resolve(HttpMethod.POST, path).access(), path);
+        }
+        assertEquals(RoutePolicy.Access.AUTHENTICATED,
+                matcher.resolve(HttpMethod.POST, "/com/api/product-service/create/../product").access());
+    }
+
+    @Test
+    void testResolve_DeniedPathPermitsNoRole() {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("gateway.route-policies.rules[0].path", "/com/api/product-service/projection/**")
+                .withProperty("gateway.route-policies.rules[0].access", "DENY");
+        RoutePolicyMatcher matcher = new RoutePolicyMatcher(environment);
+
+        // Act
+        RoutePolicy denied = matcher.resolve(HttpMethod.POST, "/com/api/product-service/projection/price-changes");
+        RoutePolicy dodged = matcher.resolve(HttpMethod.POST, "/com/api/product-service/projection;x=1//inventory-changes/");
+
+        // Assert
+        assertEquals(RoutePolicy.Access.DENY, denied.access());
+        assertEquals(RoutePolicy.Access.DENY, dodged.access());
+        assertEquals(false, denied.permits("ADMIN"));
+        assertEquals(RoutePolicy.Access.AUTHENTICATED,
+                matcher.resolve(HttpMethod.GET, "/com/api/product-service/products").access());
+    }
+
+    @Test
+    void testCompile_DuplicateRuleIsRejected() {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("gateway.route-policies.rules[0].path", "/eureka/**")
+                .withProperty("gateway.route-policies.rules[0].access", "OPEN")
+                .withProperty("gateway.route-policies.rules[1].path", "/eureka/**")
+                .withProperty("gateway.route-policies.rules[1].access", "AUTHENTICATED");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new RoutePolicyMatcher(environment));
+    }
+
+    @Test
+    void testOnEnvironmentChange_ReloadsAndKeepsPreviousTableOnError() {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("gateway.route-policies.rules[0].path", "/eureka/**")
+                .withProperty("gateway.route-policies.rules[0].access", "OPEN");
+        RoutePolicyMatcher matcher = new RoutePolicyMatcher(environment);
+
+        // Act
+        environment.setProperty("gateway.route-policies.rules[0].access", "AUTHENTICATED");
+        matcher.onEnvironmentChange(new EnvironmentChangeEvent(Set.of("gateway.route-policies.rules[0].access")));
+        RoutePolicy reloaded = matcher.resolve(HttpMethod.GET, "/eureka/apps");
+
+        environment.setProperty("gateway.route-policies.rules[0].access", "ROLE");
+        matcher.onEnvironmentChange(new EnvironmentChangeEvent(Set.of("gateway.route-policies.rules[0].access")));
+        RoutePolicy afterBadReload = matcher.resolve(HttpMethod.GET, "/eureka/apps");
+
+        // Assert
+        assertEquals(RoutePolicy.Access.AUTHENTICATED, reloaded.access());
+        assertEquals(RoutePolicy.Access.AUTHENTICATED, afterBadReload.access());
+    }
+}
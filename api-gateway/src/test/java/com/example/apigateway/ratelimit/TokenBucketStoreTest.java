@@ -0,0 +1,83 @@
+package com.example.apigateway.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketStoreTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+    private TokenBucketStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new TokenBucketStore(4, Duration.ofMinutes(5), Duration.ofSeconds(30), meterRegistry, now::get);
+    }
+
+    @Test
+    void testTryAcquire_AllowsBurstThenRejectsWithRetryAfter() {
+        // Arrange: 2 tokens per second, burst of 3
+
+        // Act
+        TokenBucketStore.Decision first = store.tryAcquire("alice", 2, 3);
+        store.tryAcquire("alice", 2, 3);
+        TokenBucketStore.Decision third = store.tryAcquire("alice", 2, 3);
+        TokenBucketStore.Decision fourth = store.tryAcquire("alice", 2, 3);
+
+        // Assert
+        assertTrue(first.allowed());
+        assertEquals(2, first.remaining());
+        assertTrue(third.allowed());
+        assertEquals(0, third.remaining());
+        assertFalse(fourth.allowed());
+        assertEquals(Duration.ofMillis(500), fourth.retryAfter());
+    }
+
+    @Test
+    void testTryAcquire_RefillsOverTimeAndKeysAreIndependent() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            store.tryAcquire("alice", 2, 3);
+        }
+
+        // Act
+        TokenBucketStore.Decision exhausted = store.tryAcquire("alice", 2, 3);
+        TokenBucketStore.Decision otherCaller = store.tryAcquire("bob", 2, 3);
+        now.addAndGet(Duration.ofMillis(500).toNanos());
+        TokenBucketStore.Decision refilled = store.tryAcquire("alice", 2, 3);
+
+        // Assert
+        assertFalse(exhausted.allowed());
+        assertTrue(otherCaller.allowed());
+        assertTrue(refilled.allowed());
+        assertEquals(0, refilled.remaining());
+    }
+
+    @Test
+    void testTryAcquire_SweepsIdleBuckets() {
+        // Arrange
+        for (int i = 0; i < 50; i++) {
+            store.tryAcquire("caller-" + i, 10, 10);
+        }
+        assertEquals(50, store.size());
+
+        // Act: long past idle-after, every stripe sweeps itself on its next request
+        now.addAndGet(Duration.ofMinutes(10).toNanos());
+        for (int i = 0; i < 50; i++) {
+            store.tryAcquire("caller-" + i, 10, 10);
+        }
+
+        // Assert: swept buckets were recreated by the requests that triggered the sweep
+        assertEquals(50, store.size());
+        assertEquals(50.0, meterRegistry.get("gateway.ratelimit.evicted").counter().count());
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.inventoryservice.config;
+
+import com.example.inventoryservice.feignclient.DeadlineAwareClient;
+import com.example.inventoryservice.feignclient.DeadlineCapability;
+import feign.Capability;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wraps the transport of ProductServiceFeignClient (and any other Feign client) in {@link DeadlineAwareClient}, so each attempt (retries
+ * included) is checked against and bounded by the request's remaining budget. Baseline timeouts
+ * come from spring.cloud.openfeign.client.config.default.*; the deadline can only shorten them.
+ */
+@Configuration
+public class DeadlineFeignConfig {
+
+    @Bean
+    public Capability deadlineCapability() {
+        return new DeadlineCapability();
+    }
+}
@@ -1,18 +1,28 @@
 package com.example.inventoryservice.config;
 
 
+import com.example.inventoryservice.dto.InventoryChangeEvent;
 import com.example.inventoryservice.feignclient.ProductServiceFeignClient;
 import com.example.inventoryservice.response.ApiResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class ProductServiceFeignFallback implements ProductServiceFeignClient {
 
     @Override
-    public ApiResponse getProductById(Long productId, String serviceName) {
+    public ApiResponse productExists(Long productId, String serviceName) {
         return ApiResponse.failure("Product Service is currently unavailable. Returning fallback response.",
                 null,
                 HttpStatus.SERVICE_UNAVAILABLE);
     }
+
+    @Override
+    public ApiResponse applyInventoryChanges(List<InventoryChangeEvent> changes, String serviceName) {
+        return ApiResponse.failure("Product Service is currently unavailable. Inventory changes will be retried.",
+                null,
+                HttpStatus.SERVICE_UNAVAILABLE);
+    }
 }
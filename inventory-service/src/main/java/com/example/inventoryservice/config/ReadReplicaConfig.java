@@ -0,0 +1,84 @@
+package com.example.inventoryservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Active only when inventory.datasource.replica-urls is set: replaces the single auto-configured pool
+ * with a primary pool (spring.datasource.*) plus one read-only pool per replica URL, with the same
+ * credentials and Hikari settings, behind {@link ReplicaRoutingDataSource}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "inventory.datasource.replica-urls")
+public class ReadReplicaConfig {
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${inventory.datasource.replica-urls}")
+    private List<String> replicaUrls;
+
+    @Value("${inventory.datasource.replica-max-lag-seconds:5}")
+    private long replicaMaxLagSeconds;
+
+    @Value("${inventory.datasource.replica-check-interval-ms:5000}")
+    private long replicaCheckIntervalMs;
+
+    // Not injectable itself: everything uses the lazy proxy below
+    @Bean(initMethod = "startLagChecks", destroyMethod = "close", autowireCandidate = false)
+    public ReplicaRoutingDataSource replicaRoutingDataSource() {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (String replicaUrl : replicaUrls) {
+            HikariDataSource replica = new HikariDataSource();
+            primary.copyStateTo(replica);
+            replica.setJdbcUrl(replicaUrl.trim());
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, replicaMaxLagSeconds,
+                Duration.ofMillis(replicaCheckIntervalMs));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource() {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource());
+    }
+
+    /**
+     * Hibernate otherwise holds a session's connection until the session closes, and open-in-view
+     * keeps one session per request: a request that read first would run its later writes on the
+     * replica connection. Releasing after each transaction makes every transaction route afresh.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
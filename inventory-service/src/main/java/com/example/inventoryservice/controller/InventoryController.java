@@ -8,9 +8,11 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -19,6 +21,10 @@ public class InventoryController {
 
     private static final Logger logger = LoggerFactory.getLogger(InventoryController.class);
 
+    // Upper bound on IDs per bulk lookup; callers are expected to chunk larger sets
+    @Value("${inventory.bulk-lookup.max-product-ids:500}")
+    private int maxBulkProductIds = 500;
+
     @Autowired
     private InventoryService inventoryService;
 
@@ -57,4 +63,29 @@ public class InventoryController {
         logger.warn("[{}] Unauthorized request. Service-Name header is missing or incorrect.", traceId);
         return ApiResponse.failure("Unauthorized request. Service-Name header is missing or incorrect.", traceId, HttpStatus.UNAUTHORIZED);
     }
+
+    @GetMapping("/getByProductIds")
+    public ApiResponse<List<InventoryDto>> getInventoriesByProductIds(@RequestParam("productIds") List<Long> productIds,
+                                                                      @RequestHeader(value = "Service-Name", required = false) String serviceName) {
+        String traceId = UUID.randomUUID().toString();
+        logger.info("[{}] Request to fetch inventory for {} productIds from Service: {}", traceId, productIds.size(), serviceName);
+
+        if (serviceName == null || "PRODUCT-SERVICE".equalsIgnoreCase(serviceName)) {
+            if (productIds.size() > maxBulkProductIds) {
+                logger.warn("[{}] Too many productIds requested: {}", traceId, productIds.size());
+                return ApiResponse.failure("At most " + maxBulkProductIds + " productIds can be requested at once", traceId, HttpStatus.BAD_REQUEST);
+            }
+            try {
+                List<InventoryDto> response = inventoryService.getInventoriesByProductIds(productIds);
+                logger.info("[{}] Successfully fetched {} inventory records", traceId, response.size());
+                return ApiResponse.success(response, "Inventory fetched successfully", traceId, HttpStatus.OK);
+            } catch (Exception e) {
+                logger.error("[{}] Error while fetching inventory: {}", traceId, e.getMessage(), e);
+                return ApiResponse.failure("Failed to fetch inventory", traceId, HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+        }
+
+        logger.warn("[{}] Unauthorized request. Service-Name header is missing or incorrect.", traceId);
+        return ApiResponse.failure("Unauthorized request. Service-Name header is missing or incorrect.", traceId, HttpStatus.UNAUTHORIZED);
+    }
 }
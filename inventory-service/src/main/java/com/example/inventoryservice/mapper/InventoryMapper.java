@@ -0,0 +1,25 @@
+package com.example.inventoryservice.mapper;
+
+import com.example.inventoryservice.dto.InventoryDto;
+import com.example.inventoryservice.model.Inventory;
+import com.example.inventoryservice.request.InventoryRequest;
+import org.springframework.stereotype.Component;
+
+@Component
+public class InventoryMapper {
+
+    public InventoryDto toDto(Inventory inventory) {
+        InventoryDto inventoryDto = new InventoryDto();
+        inventoryDto.setId(inventory.getId());
+        inventoryDto.setProductId(inventory.getProductId());
+        inventoryDto.setQuantity(inventory.getQuantity());
+        return inventoryDto;
+    }
+
+    public Inventory toEntity(InventoryRequest inventoryRequest) {
+        Inventory inventory = new Inventory();
+        inventory.setProductId(inventoryRequest.getProductId());
+        inventory.setQuantity(inventoryRequest.getQuantity());
+        return inventory;
+    }
+}
@@ -4,10 +4,14 @@ import com.example.inventoryservice.model.Inventory;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface InventoryRepository extends JpaRepository<Inventory, Long> {
 
     Inventory findByProductId(Long productId);
+
+    List<Inventory> findByProductIdIn(Collection<Long> productIds);
 }
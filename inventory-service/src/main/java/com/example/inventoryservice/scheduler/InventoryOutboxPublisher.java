@@ -0,0 +1,80 @@
+package com.example.inventoryservice.scheduler;
+
+import com.example.inventoryservice.dto.InventoryChangeEvent;
+import com.example.inventoryservice.feignclient.ProductServiceFeignClient;
+import com.example.inventoryservice.model.OutboxEvent;
+import com.example.inventoryservice.repository.OutboxEventRepository;
+import com.example.inventoryservice.response.ApiResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Relays unpublished inventory changes from the outbox to product-service. Delivery is
+ * at-least-once; product-service ignores changes older than what it already holds,
+ * so redelivery after a failed acknowledgement is harmless.
+ */
+@Slf4j
+@Component
+public class InventoryOutboxPublisher {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ProductServiceFeignClient productServiceFeignClient;
+
+    @Value("${inventory.outbox.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${inventory.outbox.retention-hours:24}")
+    private int retentionHours = 24;
+
+    @Scheduled(fixedDelayString = "${inventory.outbox.poll-interval-ms:1000}")
+    public void publishPendingChanges() {
+        List<OutboxEvent> pending = outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(PageRequest.of(0, batchSize));
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        String traceId = UUID.randomUUID().toString();
+        List<InventoryChangeEvent> changes = pending.stream()
+                .map(event -> new InventoryChangeEvent(event.getProductId(), event.getQuantity(), event.getChangedAt()))
+                .toList();
+
+        try {
+            log.info("[{}] Publishing {} inventory changes to Product Service", traceId, changes.size());
+            ApiResponse response = productServiceFeignClient.applyInventoryChanges(changes, "INVENTORY-SERVICE");
+
+            if (response == null || !response.isSuccess()) {
+                log.warn("[{}] Product Service did not accept inventory changes; will retry. Message: {}",
+                        traceId, response == null ? null : response.getMessage());
+                return;
+            }
+
+            LocalDateTime publishedAt = LocalDateTime.now();
+            pending.forEach(event -> event.setPublishedAt(publishedAt));
+            outboxEventRepository.saveAll(pending);
+            log.info("[{}] Published {} inventory changes", traceId, pending.size());
+        } catch (Exception ex) {
+            log.error("[{}] Error while publishing inventory changes; will retry. Error: {}", traceId, ex.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${inventory.outbox.purge-cron:0 0 * * * *}")
+    @Transactional
+    public void purgePublishedChanges() {
+        int purged = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (purged > 0) {
+            log.info("Purged {} published inventory changes older than {} hours", purged, retentionHours);
+        }
+    }
+}
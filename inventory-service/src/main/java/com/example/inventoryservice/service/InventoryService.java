@@ -4,7 +4,10 @@ import com.example.inventoryservice.dto.InventoryDto;
 import com.example.inventoryservice.request.InventoryRequest;
 import com.example.inventoryservice.response.ApiResponse;
 
+import java.util.List;
+
 public interface InventoryService {
     ApiResponse updateInventory(InventoryRequest inventory);
     InventoryDto getInventoryByProductId(Long productId);
+    List<InventoryDto> getInventoriesByProductIds(List<Long> productIds);
 }
@@ -1,21 +1,26 @@
 package com.example.inventoryservice.service.serviceImpl;
 
 import com.example.inventoryservice.dto.InventoryDto;
+import com.example.inventoryservice.exception.DeadlineExceededException;
 import com.example.inventoryservice.exception.ResourceNotFoundException;
 import com.example.inventoryservice.feignclient.ProductServiceFeignClient;
+import com.example.inventoryservice.mapper.InventoryMapper;
 import com.example.inventoryservice.model.Inventory;
+import com.example.inventoryservice.model.OutboxEvent;
 import com.example.inventoryservice.repository.InventoryRepository;
+import com.example.inventoryservice.repository.OutboxEventRepository;
 import com.example.inventoryservice.request.InventoryRequest;
 import com.example.inventoryservice.response.ApiResponse;
 import com.example.inventoryservice.service.InventoryService;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -30,7 +35,10 @@ public class InventoryServiceImpl implements InventoryService {
     private ProductServiceFeignClient productServiceFeignClient;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private InventoryMapper inventoryMapper;
 
     @Override
     @Transactional
@@ -40,7 +48,7 @@ public class InventoryServiceImpl implements InventoryService {
             log.info("[{}] Checking if product exists via Product Service for Product ID: {}", traceId, inventoryDto.getProductId());
 
             // Check if the product exists via Product Service
-            ApiResponse productResponse = productServiceFeignClient.getProductById(inventoryDto.getProductId(),"INVENTORY-SERVICE");
+            ApiResponse productResponse = productServiceFeignClient.productExists(inventoryDto.getProductId(),"INVENTORY-SERVICE");
 
             if (productResponse == null || productResponse.getData() == null) {
                 log.error("[{}] Product not found for Product ID: {}", traceId, inventoryDto.getProductId());
@@ -48,22 +56,33 @@ public class InventoryServiceImpl implements InventoryService {
             }
 
             // Convert DTO to entity
-            Inventory inventory = modelMapper.map(inventoryDto, Inventory.class);
+            Inventory inventory = inventoryMapper.toEntity(inventoryDto);
             // Save inventory to the database
             Inventory savedInventory = inventoryRepository.save(inventory);
 
+            // Recorded in the same transaction so product-service's read model never misses a committed change
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .productId(savedInventory.getProductId())
+                    .quantity(savedInventory.getQuantity())
+                    .changedAt(savedInventory.getUpdatedAt() != null ? savedInventory.getUpdatedAt() : LocalDateTime.now())
+                    .build());
+
             // Convert saved entity to DTO
-            InventoryDto savedInventoryDto = modelMapper.map(savedInventory, InventoryDto.class);
+            InventoryDto savedInventoryDto = inventoryMapper.toDto(savedInventory);
 
             log.info("[{}] Inventory updated successfully for Product ID: {}", traceId, inventoryDto.getProductId());
             return ApiResponse.success(savedInventoryDto, "Inventory updated successfully", traceId, HttpStatus.OK);
 
+        } catch (DeadlineExceededException ex) {
+            log.error("[{}] Deadline exceeded while updating inventory: {}", traceId, ex.getMessage());
+            throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "Request deadline exceeded", ex);
         } catch (Exception ex) {
             log.error("[{}] Error while updating inventory: {}", traceId, ex.getMessage());
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to update inventory", ex);
         }
     }
 @Override
+@Transactional(readOnly = true)
    public InventoryDto getInventoryByProductId(Long productId) {
 
     String traceId = UUID.randomUUID().toString();
@@ -80,7 +99,7 @@ public class InventoryServiceImpl implements InventoryService {
            }
 
         // Convert entity to DTO
-           InventoryDto inventoryDto = modelMapper.map(inventory, InventoryDto.class);
+           InventoryDto inventoryDto = inventoryMapper.toDto(inventory);
 
         log.info("[{}] Inventory fetched successfully for Product ID: {}", traceId, productId);
            return inventoryDto;
@@ -91,4 +110,26 @@ public class InventoryServiceImpl implements InventoryService {
        } catch (Exception ex) {
            log.error("[{}] Unexpected error while fetching inventory for Product ID: {}. Error: {}", traceId, productId, ex.getMessage(), ex);
 }        throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch inventory. Error: " );
-}    }
+}
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<InventoryDto> getInventoriesByProductIds(List<Long> productIds) {
+        String traceId = UUID.randomUUID().toString();
+        try {
+            log.info("[{}] Fetching inventory for {} Product IDs", traceId, productIds.size());
+
+            // Single IN query instead of one lookup per product
+            List<InventoryDto> inventoryDtos = inventoryRepository.findByProductIdIn(productIds).stream()
+                    .map(inventory -> inventoryMapper.toDto(inventory))
+                    .toList();
+
+            log.info("[{}] Fetched {} inventory records for {} Product IDs", traceId, inventoryDtos.size(), productIds.size());
+            return inventoryDtos;
+
+        } catch (Exception ex) {
+            log.error("[{}] Unexpected error while fetching inventory in bulk. Error: {}", traceId, ex.getMessage(), ex);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch inventory", ex);
+        }
+    }
+}
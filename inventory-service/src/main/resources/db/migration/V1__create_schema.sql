@@ -0,0 +1,23 @@
+-- Baseline schema, matching what ddl-auto=update previously generated for these entities.
+-- IF NOT EXISTS lets it run against databases that were created before Flyway was introduced.
+
+CREATE TABLE IF NOT EXISTS inventory (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    product_id BIGINT,
+    quantity   INT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS inventory_outbox (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    product_id   BIGINT      NOT NULL,
+    quantity     INT,
+    changed_at   DATETIME(6) NOT NULL,
+    created_at   DATETIME(6),
+    published_at DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_inventory_outbox_published_at ON inventory_outbox (published_at);
@@ -0,0 +1,3 @@
+-- Serves findByProductId and the bulk findByProductIdIn lookup.
+-- Non-unique: updateInventory currently inserts a new row per call rather than updating.
+CREATE INDEX idx_inventory_product_id ON inventory (product_id);
@@ -0,0 +1,94 @@
+package com.example.inventoryservice.benchmark;
+
+import com.example.inventoryservice.dto.InventoryDto;
+import com.example.inventoryservice.mapper.InventoryMapper;
+import com.example.inventoryservice.model.Inventory;
+import com.example.inventoryservice.request.InventoryRequest;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link InventoryMapper} against the default ModelMapper it replaced.
+ * Run from the inventory-service directory after {@code mvn test-compile}:
+ * <pre>
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     com.example.inventoryservice.benchmark.MapperBenchmark
+ * </pre>
+ * The GC profiler reports gc.alloc.rate.norm, i.e. bytes allocated per mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private InventoryMapper inventoryMapper;
+    private Inventory inventory;
+    private InventoryRequest inventoryRequest;
+
+    @Setup
+    public void setUp() {
+        // Same configuration the service used before switching to InventoryMapper
+        modelMapper = new ModelMapper();
+        inventoryMapper = new InventoryMapper();
+
+        inventory = new Inventory();
+        inventory.setId(7L);
+        inventory.setProductId(42L);
+        inventory.setQuantity(12);
+        inventory.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        inventory.setUpdatedAt(LocalDateTime.of(2024, 1, 2, 12, 0));
+
+        inventoryRequest = new InventoryRequest();
+        inventoryRequest.setProductId(42L);
+        inventoryRequest.setQuantity(12);
+    }
+
+    @Benchmark
+    public InventoryDto modelMapperInventoryToDto() {
+        return modelMapper.map(inventory, InventoryDto.class);
+    }
+
+    @Benchmark
+    public InventoryDto inventoryMapperToDto() {
+        return inventoryMapper.toDto(inventory);
+    }
+
+    @Benchmark
+    public Inventory modelMapperRequestToEntity() {
+        return modelMapper.map(inventoryRequest, Inventory.class);
+    }
+
+    @Benchmark
+    public Inventory inventoryMapperToEntity() {
+        return inventoryMapper.toEntity(inventoryRequest);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -12,7 +12,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.List;
 import java.util.UUID;
 
 public class InventoryControllerTest {
@@ -45,7 +47,7 @@ public class InventoryControllerTest {
         ApiResponse response = inventoryController.updateInventory(inventoryRequest);
 
         // Assert
-        assertEquals(HttpStatus.OK, response.getHttpStatus());
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
         assertEquals("Inventory updated successfully", response.getMessage());
         assertNotNull(response.getData());
     }
@@ -62,7 +64,7 @@ public class InventoryControllerTest {
         ApiResponse response = inventoryController.updateInventory(inventoryRequest);
 
         // Assert
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getHttpStatus());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), response.getHttpStatus());
         assertEquals("Failed to update inventory", response.getMessage());
     }
 
@@ -82,7 +84,7 @@ public class InventoryControllerTest {
         ApiResponse response = inventoryController.getInventoryByProductId(productId, "PRODUCT-SERVICE");
 
         // Assert
-        assertEquals(HttpStatus.OK, response.getHttpStatus());
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
         assertEquals("Inventory fetched successfully", response.getMessage());
         assertNotNull(response.getData());
         assertEquals(productId, ((InventoryDto) response.getData()).getProductId());
@@ -99,7 +101,7 @@ public class InventoryControllerTest {
         ApiResponse response = inventoryController.getInventoryByProductId(productId, "PRODUCT-SERVICE");
 
         // Assert
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getHttpStatus());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), response.getHttpStatus());
         assertEquals("Failed to fetch inventory", response.getMessage());
     }
 
@@ -112,20 +114,55 @@ public class InventoryControllerTest {
         ApiResponse response = inventoryController.getInventoryByProductId(productId, "INVALID-SERVICE");
 
         // Assert
-        assertEquals(HttpStatus.UNAUTHORIZED, response.getHttpStatus());
+        assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getHttpStatus());
         assertEquals("Unauthorized request. Service-Name header is missing or incorrect.", response.getMessage());
     }
 
+    // Admin reads come through the gateway without the header; only a wrong caller name is refused
     @Test
-    public void testGetInventoryByProductId_MissingServiceNameHeader() {
+    public void testGetInventoryByProductId_MissingServiceNameHeaderIsAllowed() {
         // Arrange
         Long productId = 1L;
+        InventoryDto inventoryDto = new InventoryDto();
+        inventoryDto.setProductId(productId);
+
+        when(inventoryService.getInventoryByProductId(productId)).thenReturn(inventoryDto);
 
         // Act
         ApiResponse response = inventoryController.getInventoryByProductId(productId, null);
 
         // Assert
-        assertEquals(HttpStatus.UNAUTHORIZED, response.getHttpStatus());
-        assertEquals("Unauthorized request. Service-Name header is missing or incorrect.", response.getMessage());
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        assertEquals("Inventory fetched successfully", response.getMessage());
+        verify(inventoryService).getInventoryByProductId(productId);
+    }
+
+    // Test cases for the bulk lookup endpoint
+
+    @Test
+    public void testGetInventoriesByProductIds_RejectsMoreIdsThanTheConfiguredCap() {
+        // Arrange
+        ReflectionTestUtils.setField(inventoryController, "maxBulkProductIds", 2);
+
+        // Act
+        ApiResponse<List<InventoryDto>> response = inventoryController.getInventoriesByProductIds(List.of(1L, 2L, 3L), "PRODUCT-SERVICE");
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST.value(), response.getHttpStatus());
+        verifyNoInteractions(inventoryService);
+    }
+
+    @Test
+    public void testGetInventoriesByProductIds_AcceptsIdsUpToTheConfiguredCap() {
+        // Arrange
+        ReflectionTestUtils.setField(inventoryController, "maxBulkProductIds", 2);
+        when(inventoryService.getInventoriesByProductIds(List.of(1L, 2L))).thenReturn(List.of(new InventoryDto(), new InventoryDto()));
+
+        // Act
+        ApiResponse<List<InventoryDto>> response = inventoryController.getInventoriesByProductIds(List.of(1L, 2L), "PRODUCT-SERVICE");
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        assertEquals(2, response.getData().size());
     }
-}
\ No newline at end of file
+}
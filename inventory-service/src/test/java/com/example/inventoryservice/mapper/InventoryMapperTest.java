@@ -0,0 +1,45 @@
+package com.example.inventoryservice.mapper;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.inventoryservice.dto.InventoryDto;
+import com.example.inventoryservice.model.Inventory;
+import com.example.inventoryservice.request.InventoryRequest;
+import org.junit.jupiter.api.Test;
+
+public class InventoryMapperTest {
+
+    private final InventoryMapper inventoryMapper = new InventoryMapper();
+
+    @Test
+    public void testToDto() {
+        // Arrange
+        Inventory inventory = new Inventory();
+        inventory.setId(4L);
+        inventory.setProductId(1L);
+        inventory.setQuantity(12);
+
+        // Act
+        InventoryDto inventoryDto = inventoryMapper.toDto(inventory);
+
+        // Assert
+        assertEquals(4L, inventoryDto.getId());
+        assertEquals(1L, inventoryDto.getProductId());
+        assertEquals(12, inventoryDto.getQuantity());
+    }
+
+    @Test
+    public void testToEntity() {
+        // Arrange
+        InventoryRequest inventoryRequest = new InventoryRequest();
+        inventoryRequest.setProductId(1L);
+        inventoryRequest.setQuantity(12);
+
+        // Act
+        Inventory inventory = inventoryMapper.toEntity(inventoryRequest);
+
+        // Assert
+        assertNull(inventory.getId());
+        assertEquals(1L, inventory.getProductId());
+        assertEquals(12, inventory.getQuantity());
+    }
+}
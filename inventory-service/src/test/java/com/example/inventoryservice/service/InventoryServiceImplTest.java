@@ -5,8 +5,10 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.example.inventoryservice.dto.InventoryDto;
 import com.example.inventoryservice.exception.ResourceNotFoundException;
 import com.example.inventoryservice.feignclient.ProductServiceFeignClient;
+import com.example.inventoryservice.mapper.InventoryMapper;
 import com.example.inventoryservice.model.Inventory;
 import com.example.inventoryservice.repository.InventoryRepository;
+import com.example.inventoryservice.repository.OutboxEventRepository;
 import com.example.inventoryservice.request.InventoryRequest;
 import com.example.inventoryservice.response.ApiResponse;
 import com.example.inventoryservice.service.serviceImpl.InventoryServiceImpl;
@@ -15,10 +17,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
+
 public class InventoryServiceImplTest {
 
     @Mock
@@ -28,7 +31,10 @@ public class InventoryServiceImplTest {
     private ProductServiceFeignClient productServiceFeignClient;
 
     @Mock
-    private ModelMapper modelMapper;
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private InventoryMapper inventoryMapper;
 
     @InjectMocks
     private InventoryServiceImpl inventoryService;
@@ -58,10 +64,10 @@ public class InventoryServiceImplTest {
         inventoryDto.setProductId(1L);
         inventoryDto.setQuantity(10);
 
-        when(productServiceFeignClient.getProductById(1L, "INVENTORY-SERVICE")).thenReturn(productResponse);
-        when(modelMapper.map(inventoryRequest, Inventory.class)).thenReturn(inventory);
+        when(productServiceFeignClient.productExists(1L, "INVENTORY-SERVICE")).thenReturn(productResponse);
+        when(inventoryMapper.toEntity(inventoryRequest)).thenReturn(inventory);
         when(inventoryRepository.save(inventory)).thenReturn(inventory);
-        when(modelMapper.map(inventory, InventoryDto.class)).thenReturn(inventoryDto);
+        when(inventoryMapper.toDto(inventory)).thenReturn(inventoryDto);
 
         // Act
         ApiResponse response = inventoryService.updateInventory(inventoryRequest);
@@ -70,6 +76,8 @@ public class InventoryServiceImplTest {
         assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
         assertEquals("Inventory updated successfully", response.getMessage());
         assertNotNull(response.getData());
+        verify(outboxEventRepository, times(1)).save(argThat(event ->
+                event.getProductId().equals(1L) && event.getQuantity().equals(10) && event.getPublishedAt() == null));
     }
 
     @Test
@@ -78,7 +86,7 @@ public class InventoryServiceImplTest {
         InventoryRequest inventoryRequest = new InventoryRequest();
         inventoryRequest.setProductId(1L);
 
-        when(productServiceFeignClient.getProductById(1L, "INVENTORY-SERVICE")).thenReturn(null);
+        when(productServiceFeignClient.productExists(1L, "INVENTORY-SERVICE")).thenReturn(null);
 
         // Act
         ApiResponse response = inventoryService.updateInventory(inventoryRequest);
@@ -94,7 +102,7 @@ public class InventoryServiceImplTest {
         InventoryRequest inventoryRequest = new InventoryRequest();
         inventoryRequest.setProductId(1L);
 
-        when(productServiceFeignClient.getProductById(1L, "INVENTORY-SERVICE")).thenThrow(new RuntimeException("Feign Client Error"));
+        when(productServiceFeignClient.productExists(1L, "INVENTORY-SERVICE")).thenThrow(new RuntimeException("Feign Client Error"));
 
         // Act & Assert
         ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> inventoryService.updateInventory(inventoryRequest));
@@ -117,7 +125,7 @@ public class InventoryServiceImplTest {
         inventoryDto.setQuantity(10);
 
         when(inventoryRepository.findByProductId(productId)).thenReturn(inventory);
-        when(modelMapper.map(inventory, InventoryDto.class)).thenReturn(inventoryDto);
+        when(inventoryMapper.toDto(inventory)).thenReturn(inventoryDto);
 
         // Act
         InventoryDto result = inventoryService.getInventoryByProductId(productId);
@@ -152,4 +160,46 @@ public class InventoryServiceImplTest {
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exception.getStatusCode());
         assertTrue(exception.getReason().contains("Failed to fetch inventory"));
     }
-}
\ No newline at end of file
+
+    // Test cases for getInventoriesByProductIds method
+
+    @Test
+    public void testGetInventoriesByProductIds_Success() {
+        // Arrange
+        List<Long> productIds = List.of(1L, 2L);
+        Inventory inventory1 = new Inventory();
+        inventory1.setProductId(1L);
+        Inventory inventory2 = new Inventory();
+        inventory2.setProductId(2L);
+
+        InventoryDto inventoryDto1 = new InventoryDto();
+        inventoryDto1.setProductId(1L);
+        InventoryDto inventoryDto2 = new InventoryDto();
+        inventoryDto2.setProductId(2L);
+
+        when(inventoryRepository.findByProductIdIn(productIds)).thenReturn(List.of(inventory1, inventory2));
+        when(inventoryMapper.toDto(inventory1)).thenReturn(inventoryDto1);
+        when(inventoryMapper.toDto(inventory2)).thenReturn(inventoryDto2);
+
+        // Act
+        List<InventoryDto> result = inventoryService.getInventoriesByProductIds(productIds);
+
+        // Assert
+        assertEquals(List.of(inventoryDto1, inventoryDto2), result);
+        verify(inventoryRepository, times(1)).findByProductIdIn(productIds);
+        verify(inventoryRepository, never()).findByProductId(anyLong());
+    }
+
+    @Test
+    public void testGetInventoriesByProductIds_Exception() {
+        // Arrange
+        List<Long> productIds = List.of(1L, 2L);
+
+        when(inventoryRepository.findByProductIdIn(productIds)).thenThrow(new RuntimeException("Database Error"));
+
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> inventoryService.getInventoriesByProductIds(productIds));
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exception.getStatusCode());
+        assertEquals("Failed to fetch inventory", exception.getReason());
+    }
+}
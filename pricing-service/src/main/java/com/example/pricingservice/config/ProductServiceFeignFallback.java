@@ -2,18 +2,28 @@ package com.example.pricingservice.config;
 
 
 
+import com.example.pricingservice.dto.PriceChangeEvent;
 import com.example.pricingservice.feignclient.ProductServiceFeignClient;
 import com.example.pricingservice.response.ApiResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class ProductServiceFeignFallback implements ProductServiceFeignClient {
 
     @Override
-    public ApiResponse getProductById(Long productId, String serviceName) {
+    public ApiResponse productExists(Long productId, String serviceName) {
         return ApiResponse.failure("Product Service is currently unavailable. Returning fallback response.",
                 null,
                 HttpStatus.SERVICE_UNAVAILABLE);
     }
+
+    @Override
+    public ApiResponse applyPriceChanges(List<PriceChangeEvent> changes, String serviceName) {
+        return ApiResponse.failure("Product Service is currently unavailable. Price changes will be retried.",
+                null,
+                HttpStatus.SERVICE_UNAVAILABLE);
+    }
 }
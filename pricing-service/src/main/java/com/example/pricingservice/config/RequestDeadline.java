@@ -0,0 +1,44 @@
+package com.example.pricingservice.config;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deadline of the request being served on the current thread. The gateway sends the remaining
+ * budget as a relative timeout ({@link #HEADER}, in milliseconds) rather than an absolute time, so
+ * clock skew between hosts does not matter; it is turned into a local monotonic deadline on
+ * arrival and re-sent as whatever budget is left on every outgoing Feign call.
+ */
+public final class RequestDeadline {
+
+    public static final String HEADER = "X-Request-Timeout-Ms";
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static void start(long budgetMillis) {
+        DEADLINE_NANOS.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis));
+    }
+
+    public static boolean isSet() {
+        return DEADLINE_NANOS.get() != null;
+    }
+
+    /** Milliseconds left before the deadline, or {@link Long#MAX_VALUE} when the request has none. */
+    public static long remainingMillis() {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return Long.MAX_VALUE;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+    }
+
+    public static boolean isExpired() {
+        return remainingMillis() <= 0;
+    }
+
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+}
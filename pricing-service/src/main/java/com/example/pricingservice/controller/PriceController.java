@@ -7,6 +7,7 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,6 +21,10 @@ public class PriceController {
 
     private static final Logger logger = LoggerFactory.getLogger(PriceController.class);
 
+    // Upper bound on IDs per bulk lookup; callers are expected to chunk larger sets
+    @Value("${pricing.bulk-lookup.max-product-ids:500}")
+    private int maxBulkProductIds = 500;
+
     @Autowired
     private PriceService priceService;
 
@@ -68,4 +73,31 @@ public class PriceController {
         return ApiResponse.failure("Unauthorized request. Service-Name header is missing or incorrect.", traceId, HttpStatus.UNAUTHORIZED);
     }
 
+    @GetMapping("/getByProductIds")
+    public ApiResponse<List<PriceDto>> getPricesByProductIds(
+            @RequestParam("productIds") List<Long> productIds,
+            @RequestHeader(value = "Service-Name", required = false) String serviceName) {
+
+        String traceId = UUID.randomUUID().toString();
+        logger.info("[{}] Incoming request to fetch prices for {} Product IDs from Service: {}", traceId, productIds.size(), serviceName);
+
+        if (serviceName == null || "PRODUCT-SERVICE".equalsIgnoreCase(serviceName)) {
+            if (productIds.size() > maxBulkProductIds) {
+                logger.warn("[{}] Too many Product IDs requested: {}", traceId, productIds.size());
+                return ApiResponse.failure("At most " + maxBulkProductIds + " Product IDs can be requested at once", traceId, HttpStatus.BAD_REQUEST);
+            }
+            try {
+                List<PriceDto> prices = priceService.getPricesByProductIds(productIds);
+                logger.info("[{}] Successfully fetched {} prices", traceId, prices.size());
+                return ApiResponse.success(prices, "Prices fetched successfully", traceId, HttpStatus.OK);
+            } catch (Exception e) {
+                logger.error("[{}] Error while fetching prices: {}", traceId, e.getMessage(), e);
+                return ApiResponse.failure("Failed to fetch prices. Error: " + e.getMessage(), traceId, HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+        }
+
+        logger.warn("[{}] Unauthorized request. Service-Name header is missing or incorrect.", traceId);
+        return ApiResponse.failure("Unauthorized request. Service-Name header is missing or incorrect.", traceId, HttpStatus.UNAUTHORIZED);
+    }
+
 }
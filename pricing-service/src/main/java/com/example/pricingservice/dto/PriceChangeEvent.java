@@ -0,0 +1,19 @@
+package com.example.pricingservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PriceChangeEvent {
+
+    private Long productId;
+    private Double price;
+    private LocalDateTime changedAt;
+}
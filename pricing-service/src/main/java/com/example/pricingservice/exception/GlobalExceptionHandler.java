@@ -86,4 +86,13 @@ public class GlobalExceptionHandler {
         ApiResponse response = ApiResponse.failure(ex.getMessage(), traceId, HttpStatus.INTERNAL_SERVER_ERROR);
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<ApiResponse> handleDeadlineExceededException(DeadlineExceededException ex) {
+        String traceId = generateTraceId();
+        logger.error("Deadline exceeded: {} | TraceId: {}", ex.getMessage(), traceId);
+
+        ApiResponse response = ApiResponse.failure(ex.getMessage(), traceId, HttpStatus.GATEWAY_TIMEOUT);
+        return new ResponseEntity<>(response, HttpStatus.GATEWAY_TIMEOUT);
+    }
 }
@@ -0,0 +1,59 @@
+package com.example.pricingservice.feignclient;
+
+import com.example.pricingservice.config.RequestDeadline;
+import com.example.pricingservice.exception.DeadlineExceededException;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds each Feign call by the current request's deadline: connect and read timeouts are cut to
+ * the remaining budget, the budget is forwarded downstream in {@link RequestDeadline#HEADER}, and
+ * once it is used up the call is not made at all. Calls outside a request (schedulers, startup)
+ * carry no deadline and keep the configured timeouts.
+ */
+public class DeadlineAwareClient implements Client {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineAwareClient.class);
+
+    private final Client delegate;
+
+    public DeadlineAwareClient(Client delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        if (!RequestDeadline.isSet()) {
+            return delegate.execute(request, options);
+        }
+
+        long remainingMillis = RequestDeadline.remainingMillis();
+        if (remainingMillis <= 0) {
+            logger.warn("Skipping {} {}: request deadline exceeded", request.httpMethod(), request.url());
+            throw new DeadlineExceededException("Request deadline exceeded before calling " + request.url());
+        }
+
+        Request.Options bounded = new Request.Options(
+                Math.min(options.connectTimeoutMillis(), remainingMillis), TimeUnit.MILLISECONDS,
+                Math.min(options.readTimeoutMillis(), remainingMillis), TimeUnit.MILLISECONDS,
+                options.isFollowRedirects());
+        return delegate.execute(withBudgetHeader(request, remainingMillis), bounded);
+    }
+
+    private static Request withBudgetHeader(Request request, long remainingMillis) {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+        headers.put(RequestDeadline.HEADER, List.of(Long.toString(remainingMillis)));
+        return Request.create(request.httpMethod(), request.url(), headers, request.body(),
+                request.charset(), request.requestTemplate());
+    }
+}
@@ -1,17 +1,30 @@
 package com.example.pricingservice.feignclient;
 
 import com.example.pricingservice.config.ProductServiceFeignFallback;
+import com.example.pricingservice.dto.PriceChangeEvent;
 import com.example.pricingservice.response.ApiResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
 @FeignClient(name = "PRODUCT-SERVICE",fallback = ProductServiceFeignFallback.class)
 public interface ProductServiceFeignClient {
 
-    @GetMapping("/com/api/product-service/product")
-    ApiResponse getProductById(
+    // Existence only: unlike GET /product this triggers no price/inventory enrichment
+    @GetMapping("/com/api/product-service/product/exists")
+    ApiResponse productExists(
             @RequestParam("id") Long productId,
             @RequestHeader("Service-Name") String serviceName
     );
+
+    @PostMapping("/com/api/product-service/projection/price-changes")
+    ApiResponse applyPriceChanges(
+            @RequestBody List<PriceChangeEvent> changes,
+            @RequestHeader("Service-Name") String serviceName
+    );
 }
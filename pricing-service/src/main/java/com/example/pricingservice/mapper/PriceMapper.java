@@ -0,0 +1,26 @@
+package com.example.pricingservice.mapper;
+
+import com.example.pricingservice.dto.PriceDto;
+import com.example.pricingservice.model.Price;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PriceMapper {
+
+    public PriceDto toDto(Price price) {
+        PriceDto priceDto = new PriceDto();
+        priceDto.setId(price.getId());
+        priceDto.setProductId(price.getProductId());
+        priceDto.setPrice(price.getPrice());
+        return priceDto;
+    }
+
+    // Carries the ID through so a DTO with an existing ID updates that row
+    public Price toEntity(PriceDto priceDto) {
+        Price price = new Price();
+        price.setId(priceDto.getId());
+        price.setProductId(priceDto.getProductId());
+        price.setPrice(priceDto.getPrice());
+        return price;
+    }
+}
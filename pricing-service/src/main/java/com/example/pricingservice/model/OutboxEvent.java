@@ -0,0 +1,44 @@
+package com.example.pricingservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Price change recorded in the same transaction as the price itself, so product-service's
+ * read model is notified of every committed change even if the push to it fails.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "price_outbox", indexes = @Index(name = "idx_price_outbox_published_at", columnList = "publishedAt"))
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    private Double price;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    private LocalDateTime createdAt;
+
+    // Null until product-service has acknowledged the change
+    private LocalDateTime publishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
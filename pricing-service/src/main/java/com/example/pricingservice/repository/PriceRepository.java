@@ -4,9 +4,13 @@ import com.example.pricingservice.model.Price;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PriceRepository extends JpaRepository<Price,Long> {
     Optional<Price> findByProductId(Long productId);
+
+    List<Price> findByProductIdIn(Collection<Long> productIds);
 }
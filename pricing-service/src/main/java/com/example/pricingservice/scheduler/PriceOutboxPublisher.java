@@ -0,0 +1,80 @@
+package com.example.pricingservice.scheduler;
+
+import com.example.pricingservice.dto.PriceChangeEvent;
+import com.example.pricingservice.feignclient.ProductServiceFeignClient;
+import com.example.pricingservice.model.OutboxEvent;
+import com.example.pricingservice.repository.OutboxEventRepository;
+import com.example.pricingservice.response.ApiResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Relays unpublished price changes from the outbox to product-service. Delivery is
+ * at-least-once; product-service ignores changes older than what it already holds,
+ * so redelivery after a failed acknowledgement is harmless.
+ */
+@Slf4j
+@Component
+public class PriceOutboxPublisher {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ProductServiceFeignClient productServiceFeignClient;
+
+    @Value("${pricing.outbox.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${pricing.outbox.retention-hours:24}")
+    private int retentionHours = 24;
+
+    @Scheduled(fixedDelayString = "${pricing.outbox.poll-interval-ms:1000}")
+    public void publishPendingChanges() {
+        List<OutboxEvent> pending = outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(PageRequest.of(0, batchSize));
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        String traceId = UUID.randomUUID().toString();
+        List<PriceChangeEvent> changes = pending.stream()
+                .map(event -> new PriceChangeEvent(event.getProductId(), event.getPrice(), event.getChangedAt()))
+                .toList();
+
+        try {
+            log.info("[{}] Publishing {} price changes to Product Service", traceId, changes.size());
+            ApiResponse response = productServiceFeignClient.applyPriceChanges(changes, "PRICING-SERVICE");
+
+            if (response == null || !response.isSuccess()) {
+                log.warn("[{}] Product Service did not accept price changes; will retry. Message: {}",
+                        traceId, response == null ? null : response.getMessage());
+                return;
+            }
+
+            LocalDateTime publishedAt = LocalDateTime.now();
+            pending.forEach(event -> event.setPublishedAt(publishedAt));
+            outboxEventRepository.saveAll(pending);
+            log.info("[{}] Published {} price changes", traceId, pending.size());
+        } catch (Exception ex) {
+            log.error("[{}] Error while publishing price changes; will retry. Error: {}", traceId, ex.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${pricing.outbox.purge-cron:0 0 * * * *}")
+    @Transactional
+    public void purgePublishedChanges() {
+        int purged = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (purged > 0) {
+            log.info("Purged {} published price changes older than {} hours", purged, retentionHours);
+        }
+    }
+}
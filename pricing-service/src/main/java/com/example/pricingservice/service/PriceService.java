@@ -10,4 +10,5 @@ public interface PriceService {
 
     ApiResponse createOrUpdatePrice(PriceDto price);
     PriceDto getPriceByProductId(Long productId);
+    List<PriceDto> getPricesByProductIds(List<Long> productIds);
 }
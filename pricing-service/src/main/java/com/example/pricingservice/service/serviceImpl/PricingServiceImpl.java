@@ -1,16 +1,20 @@
 package com.example.pricingservice.service.serviceImpl;
 
 import com.example.pricingservice.dto.PriceDto;
+import com.example.pricingservice.exception.DeadlineExceededException;
 import com.example.pricingservice.feignclient.ProductServiceFeignClient;
+import com.example.pricingservice.mapper.PriceMapper;
+import com.example.pricingservice.model.OutboxEvent;
 import com.example.pricingservice.model.Price;
+import com.example.pricingservice.repository.OutboxEventRepository;
 import com.example.pricingservice.repository.PriceRepository;
 import com.example.pricingservice.response.ApiResponse;
 import com.example.pricingservice.service.PriceService;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
@@ -29,15 +33,19 @@ public class PricingServiceImpl implements PriceService {
     private ProductServiceFeignClient productServiceFeignClient;
 
     @Autowired
-    private ModelMapper  modelMapper;
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PriceMapper priceMapper;
 
 
     @Override
+    @Transactional
     public ApiResponse createOrUpdatePrice(PriceDto priceDto) {
         String traceId = UUID.randomUUID().toString();
         try {
-            log.info("[{}] Attempting to fetch product details for Product ID: {}", traceId, priceDto.getProductId());
-            ApiResponse productResponse = productServiceFeignClient.getProductById(priceDto.getProductId(),"PRICING-SERVICE");
+            log.info("[{}] Checking that product exists for Product ID: {}", traceId, priceDto.getProductId());
+            ApiResponse productResponse = productServiceFeignClient.productExists(priceDto.getProductId(),"PRICING-SERVICE");
 
             if (productResponse == null || productResponse.getData() == null) {
                 log.error("[{}] Product not found for Product ID: {}", traceId, priceDto.getProductId());
@@ -45,18 +53,28 @@ public class PricingServiceImpl implements PriceService {
             }
 
             // Convert DTO to entity
-            Price price = modelMapper.map(priceDto, Price.class);
+            Price price = priceMapper.toEntity(priceDto);
 
 
             // Save the price
             Price savedPrice = priceRepository.save(price);
 
+            // Recorded in the same transaction so product-service's read model never misses a committed change
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .productId(savedPrice.getProductId())
+                    .price(savedPrice.getPrice())
+                    .changedAt(savedPrice.getUpdatedAt() != null ? savedPrice.getUpdatedAt() : LocalDateTime.now())
+                    .build());
+
             // Convert saved entity to DTO
-            PriceDto savedPriceDto = modelMapper.map(savedPrice, PriceDto.class);
+            PriceDto savedPriceDto = priceMapper.toDto(savedPrice);
 
             log.info("[{}] Price saved successfully for Product ID: {}", traceId, priceDto.getProductId());
             return ApiResponse.success(savedPriceDto, "Price saved successfully", traceId, HttpStatus.OK);
 
+        } catch (DeadlineExceededException ex) {
+            log.error("[{}] Deadline exceeded while creating or updating price: {}", traceId, ex.getMessage());
+            throw ex;
         } catch (Exception ex) {
             log.error("[{}] Error while creating or updating price: {}", traceId, ex.getMessage());
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to save price", ex);
@@ -64,6 +82,7 @@ public class PricingServiceImpl implements PriceService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PriceDto getPriceByProductId(Long productId) {
         String traceId = UUID.randomUUID().toString();
         try {
@@ -79,7 +98,7 @@ public class PricingServiceImpl implements PriceService {
             Price price = priceOpt.get();
 
             // Convert entity to DTO
-            PriceDto priceDto = modelMapper.map(price, PriceDto.class);
+            PriceDto priceDto = priceMapper.toDto(price);
 
             log.info("[{}] Price retrieved successfully for Product ID: {}", traceId, productId);
             return priceDto;
@@ -90,5 +109,26 @@ public class PricingServiceImpl implements PriceService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<PriceDto> getPricesByProductIds(List<Long> productIds) {
+        String traceId = UUID.randomUUID().toString();
+        try {
+            log.info("[{}] Attempting to fetch price details for {} Product IDs", traceId, productIds.size());
+
+            // Single IN query instead of one lookup per product
+            List<PriceDto> priceDtos = priceRepository.findByProductIdIn(productIds).stream()
+                    .map(price -> priceMapper.toDto(price))
+                    .toList();
+
+            log.info("[{}] Retrieved {} prices for {} Product IDs", traceId, priceDtos.size(), productIds.size());
+            return priceDtos;
+
+        } catch (Exception ex) {
+            log.error("[{}] Error while fetching price details in bulk: {}", traceId, ex.getMessage());
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to retrieve prices", ex);
+        }
+    }
+
 
 }
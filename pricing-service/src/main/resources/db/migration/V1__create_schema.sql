@@ -0,0 +1,23 @@
+-- Baseline schema, matching what ddl-auto=update previously generated for these entities.
+-- IF NOT EXISTS lets it run against databases that were created before Flyway was introduced.
+
+CREATE TABLE IF NOT EXISTS price (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    product_id BIGINT,
+    price      DOUBLE,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS price_outbox (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    product_id   BIGINT      NOT NULL,
+    price        DOUBLE,
+    changed_at   DATETIME(6) NOT NULL,
+    created_at   DATETIME(6),
+    published_at DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_price_outbox_published_at ON price_outbox (published_at);
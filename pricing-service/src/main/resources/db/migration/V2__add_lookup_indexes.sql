@@ -0,0 +1,3 @@
+-- Serves findByProductId and the bulk findByProductIdIn lookup.
+-- Non-unique: createOrUpdatePrice currently inserts a new row per call rather than updating.
+CREATE INDEX idx_price_product_id ON price (product_id);
@@ -0,0 +1,94 @@
+package com.example.pricingservice.benchmark;
+
+import com.example.pricingservice.dto.PriceDto;
+import com.example.pricingservice.mapper.PriceMapper;
+import com.example.pricingservice.model.Price;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link PriceMapper} against the default ModelMapper it replaced.
+ * Run from the pricing-service directory after {@code mvn test-compile}:
+ * <pre>
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     com.example.pricingservice.benchmark.MapperBenchmark
+ * </pre>
+ * The GC profiler reports gc.alloc.rate.norm, i.e. bytes allocated per mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private PriceMapper priceMapper;
+    private Price price;
+    private PriceDto priceDto;
+
+    @Setup
+    public void setUp() {
+        // Same configuration the service used before switching to PriceMapper
+        modelMapper = new ModelMapper();
+        priceMapper = new PriceMapper();
+
+        price = new Price();
+        price.setId(7L);
+        price.setProductId(42L);
+        price.setPrice(19.99);
+        price.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        price.setUpdatedAt(LocalDateTime.of(2024, 1, 2, 12, 0));
+
+        priceDto = new PriceDto();
+        priceDto.setId(7L);
+        priceDto.setProductId(42L);
+        priceDto.setPrice(19.99);
+    }
+
+    @Benchmark
+    public PriceDto modelMapperPriceToDto() {
+        return modelMapper.map(price, PriceDto.class);
+    }
+
+    @Benchmark
+    public PriceDto priceMapperToDto() {
+        return priceMapper.toDto(price);
+    }
+
+    @Benchmark
+    public Price modelMapperDtoToEntity() {
+        return modelMapper.map(priceDto, Price.class);
+    }
+
+    @Benchmark
+    public Price priceMapperToEntity() {
+        return priceMapper.toEntity(priceDto);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -11,8 +11,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
 import java.util.UUID;
 
 public class PriceControllerTest {
@@ -45,7 +47,7 @@ public class PriceControllerTest {
         ApiResponse response = priceController.createOrUpdatePrice(priceDto);
 
         // Assert
-        assertEquals(HttpStatus.OK, response.getHttpStatus());
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
         assertEquals("Price successfully created/updated", response.getMessage());
         assertNotNull(response.getData());
     }
@@ -62,7 +64,7 @@ public class PriceControllerTest {
         ApiResponse response = priceController.createOrUpdatePrice(priceDto);
 
         // Assert
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getHttpStatus());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), response.getHttpStatus());
         assertEquals("Failed to create/update price", response.getMessage());
     }
 
@@ -82,7 +84,7 @@ public class PriceControllerTest {
         ApiResponse<PriceDto> response = priceController.getPriceByProductId(productId, "PRODUCT-SERVICE");
 
         // Assert
-        assertEquals(HttpStatus.OK, response.getHttpStatus());
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
         assertEquals("Price fetched successfully", response.getMessage());
         assertNotNull(response.getData());
         assertEquals(productId, response.getData().getProductId());
@@ -99,7 +101,7 @@ public class PriceControllerTest {
         ApiResponse<PriceDto> response = priceController.getPriceByProductId(productId, "PRODUCT-SERVICE");
 
         // Assert
-        assertEquals(HttpStatus.NOT_FOUND, response.getHttpStatus());
+        assertEquals(HttpStatus.NOT_FOUND.value(), response.getHttpStatus());
         assertEquals("Price not found for Product ID: " + productId, response.getMessage());
     }
 
@@ -114,7 +116,7 @@ public class PriceControllerTest {
         ApiResponse<PriceDto> response = priceController.getPriceByProductId(productId, "PRODUCT-SERVICE");
 
         // Assert
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getHttpStatus());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), response.getHttpStatus());
         assertTrue(response.getMessage().contains("Failed to fetch price"));
     }
 
@@ -127,20 +129,55 @@ public class PriceControllerTest {
         ApiResponse<PriceDto> response = priceController.getPriceByProductId(productId, "INVALID-SERVICE");
 
         // Assert
-        assertEquals(HttpStatus.UNAUTHORIZED, response.getHttpStatus());
+        assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getHttpStatus());
         assertEquals("Unauthorized request. Service-Name header is missing or incorrect.", response.getMessage());
     }
 
+    // Admin reads come through the gateway without the header; only a wrong caller name is refused
     @Test
-    public void testGetPriceByProductId_MissingServiceNameHeader() {
+    public void testGetPriceByProductId_MissingServiceNameHeaderIsAllowed() {
         // Arrange
         Long productId = 1L;
+        PriceDto priceDto = new PriceDto();
+        priceDto.setProductId(productId);
+
+        when(priceService.getPriceByProductId(productId)).thenReturn(priceDto);
 
         // Act
         ApiResponse<PriceDto> response = priceController.getPriceByProductId(productId, null);
 
         // Assert
-        assertEquals(HttpStatus.UNAUTHORIZED, response.getHttpStatus());
-        assertEquals("Unauthorized request. Service-Name header is missing or incorrect.", response.getMessage());
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        assertEquals("Price fetched successfully", response.getMessage());
+        verify(priceService).getPriceByProductId(productId);
+    }
+
+    // Test cases for the bulk lookup endpoint
+
+    @Test
+    public void testGetPricesByProductIds_RejectsMoreIdsThanTheConfiguredCap() {
+        // Arrange
+        ReflectionTestUtils.setField(priceController, "maxBulkProductIds", 2);
+
+        // Act
+        ApiResponse<List<PriceDto>> response = priceController.getPricesByProductIds(List.of(1L, 2L, 3L), "PRODUCT-SERVICE");
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST.value(), response.getHttpStatus());
+        verifyNoInteractions(priceService);
+    }
+
+    @Test
+    public void testGetPricesByProductIds_AcceptsIdsUpToTheConfiguredCap() {
+        // Arrange
+        ReflectionTestUtils.setField(priceController, "maxBulkProductIds", 2);
+        when(priceService.getPricesByProductIds(List.of(1L, 2L))).thenReturn(List.of(new PriceDto(), new PriceDto()));
+
+        // Act
+        ApiResponse<List<PriceDto>> response = priceController.getPricesByProductIds(List.of(1L, 2L), "PRODUCT-SERVICE");
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        assertEquals(2, response.getData().size());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package com.example.pricingservice.mapper;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.pricingservice.dto.PriceDto;
+import com.example.pricingservice.model.Price;
+import org.junit.jupiter.api.Test;
+
+public class PriceMapperTest {
+
+    private final PriceMapper priceMapper = new PriceMapper();
+
+    @Test
+    public void testToDto() {
+        // Arrange
+        Price price = new Price();
+        price.setId(9L);
+        price.setProductId(1L);
+        price.setPrice(19.99);
+
+        // Act
+        PriceDto priceDto = priceMapper.toDto(price);
+
+        // Assert
+        assertEquals(9L, priceDto.getId());
+        assertEquals(1L, priceDto.getProductId());
+        assertEquals(19.99, priceDto.getPrice());
+    }
+
+    @Test
+    public void testToEntity_KeepsIdForUpdates() {
+        // Arrange
+        PriceDto priceDto = new PriceDto();
+        priceDto.setId(9L);
+        priceDto.setProductId(1L);
+        priceDto.setPrice(19.99);
+
+        // Act
+        Price price = priceMapper.toEntity(priceDto);
+
+        // Assert
+        assertEquals(9L, price.getId());
+        assertEquals(1L, price.getProductId());
+        assertEquals(19.99, price.getPrice());
+        assertNull(price.getCreatedAt());
+    }
+}
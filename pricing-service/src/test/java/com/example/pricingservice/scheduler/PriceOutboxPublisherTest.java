@@ -0,0 +1,84 @@
+package com.example.pricingservice.scheduler;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.pricingservice.feignclient.ProductServiceFeignClient;
+import com.example.pricingservice.model.OutboxEvent;
+import com.example.pricingservice.repository.OutboxEventRepository;
+import com.example.pricingservice.response.ApiResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+public class PriceOutboxPublisherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ProductServiceFeignClient productServiceFeignClient;
+
+    @InjectMocks
+    private PriceOutboxPublisher priceOutboxPublisher;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    public void testPublishPendingChanges_MarksEventsPublishedOnSuccess() {
+        // Arrange
+        OutboxEvent event = OutboxEvent.builder().id(1L).productId(7L).price(19.99).changedAt(LocalDateTime.now()).build();
+        when(outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(event));
+        when(productServiceFeignClient.applyPriceChanges(anyList(), eq("PRICING-SERVICE")))
+                .thenReturn(ApiResponse.success(1, "Applied", UUID.randomUUID().toString(), HttpStatus.OK));
+
+        // Act
+        priceOutboxPublisher.publishPendingChanges();
+
+        // Assert
+        assertNotNull(event.getPublishedAt());
+        verify(productServiceFeignClient, times(1)).applyPriceChanges(argThat(changes ->
+                changes.size() == 1 && changes.get(0).getProductId().equals(7L) && changes.get(0).getPrice().equals(19.99)),
+                eq("PRICING-SERVICE"));
+        verify(outboxEventRepository, times(1)).saveAll(List.of(event));
+    }
+
+    @Test
+    public void testPublishPendingChanges_LeavesEventsPendingOnFailure() {
+        // Arrange
+        OutboxEvent event = OutboxEvent.builder().id(1L).productId(7L).price(19.99).changedAt(LocalDateTime.now()).build();
+        when(outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(event));
+        when(productServiceFeignClient.applyPriceChanges(anyList(), eq("PRICING-SERVICE")))
+                .thenReturn(ApiResponse.failure("Unavailable", null, HttpStatus.SERVICE_UNAVAILABLE));
+
+        // Act
+        priceOutboxPublisher.publishPendingChanges();
+
+        // Assert
+        assertNull(event.getPublishedAt());
+        verify(outboxEventRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    public void testPublishPendingChanges_NothingPending() {
+        // Arrange
+        when(outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(any(Pageable.class))).thenReturn(Collections.emptyList());
+
+        // Act
+        priceOutboxPublisher.publishPendingChanges();
+
+        // Assert
+        verifyNoInteractions(productServiceFeignClient);
+    }
+}
@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.example.pricingservice.dto.PriceDto;
 import com.example.pricingservice.feignclient.ProductServiceFeignClient;
+import com.example.pricingservice.mapper.PriceMapper;
 import com.example.pricingservice.model.Price;
+import com.example.pricingservice.repository.OutboxEventRepository;
 import com.example.pricingservice.repository.PriceRepository;
 import com.example.pricingservice.response.ApiResponse;
 import com.example.pricingservice.service.serviceImpl.PricingServiceImpl;
@@ -13,10 +15,10 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,7 +31,10 @@ public class PricingServiceImplTest {
     private ProductServiceFeignClient productServiceFeignClient;
 
     @Mock
-    private ModelMapper modelMapper;
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private PriceMapper priceMapper;
 
     @InjectMocks
     private PricingServiceImpl pricingService;
@@ -55,10 +60,10 @@ public class PricingServiceImplTest {
         price.setProductId(1L);
         price.setPrice(100.0);
 
-        when(productServiceFeignClient.getProductById(1L, "PRICING-SERVICE")).thenReturn(productResponse);
-        when(modelMapper.map(priceDto, Price.class)).thenReturn(price);
+        when(productServiceFeignClient.productExists(1L, "PRICING-SERVICE")).thenReturn(productResponse);
+        when(priceMapper.toEntity(priceDto)).thenReturn(price);
         when(priceRepository.save(price)).thenReturn(price);
-        when(modelMapper.map(price, PriceDto.class)).thenReturn(priceDto);
+        when(priceMapper.toDto(price)).thenReturn(priceDto);
 
         // Act
         ApiResponse response = pricingService.createOrUpdatePrice(priceDto);
@@ -67,6 +72,8 @@ public class PricingServiceImplTest {
         assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
         assertEquals("Price saved successfully", response.getMessage());
         assertNotNull(response.getData());
+        verify(outboxEventRepository, times(1)).save(argThat(event ->
+                event.getProductId().equals(1L) && event.getPrice().equals(100.0) && event.getPublishedAt() == null));
     }
 
     @Test
@@ -75,7 +82,7 @@ public class PricingServiceImplTest {
         PriceDto priceDto = new PriceDto();
         priceDto.setProductId(1L);
 
-        when(productServiceFeignClient.getProductById(1L, "PRICING-SERVICE")).thenReturn(null);
+        when(productServiceFeignClient.productExists(1L, "PRICING-SERVICE")).thenReturn(null);
 
         // Act
         ApiResponse response = pricingService.createOrUpdatePrice(priceDto);
@@ -91,7 +98,7 @@ public class PricingServiceImplTest {
         PriceDto priceDto = new PriceDto();
         priceDto.setProductId(1L);
 
-        when(productServiceFeignClient.getProductById(1L, "PRICING-SERVICE")).thenThrow(new RuntimeException("Feign Client Error"));
+        when(productServiceFeignClient.productExists(1L, "PRICING-SERVICE")).thenThrow(new RuntimeException("Feign Client Error"));
 
         // Act & Assert
         ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> pricingService.createOrUpdatePrice(priceDto));
@@ -114,7 +121,7 @@ public class PricingServiceImplTest {
         priceDto.setPrice(100.0);
 
         when(priceRepository.findByProductId(productId)).thenReturn(Optional.of(price));
-        when(modelMapper.map(price, PriceDto.class)).thenReturn(priceDto);
+        when(priceMapper.toDto(price)).thenReturn(priceDto);
 
         // Act
         PriceDto result = pricingService.getPriceByProductId(productId);
@@ -151,4 +158,46 @@ public class PricingServiceImplTest {
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exception.getStatusCode());
         assertEquals("Failed to retrieve price", exception.getReason());
     }
-}
\ No newline at end of file
+
+    // Test cases for getPricesByProductIds method
+
+    @Test
+    public void testGetPricesByProductIds_Success() {
+        // Arrange
+        List<Long> productIds = List.of(1L, 2L);
+        Price price1 = new Price();
+        price1.setProductId(1L);
+        Price price2 = new Price();
+        price2.setProductId(2L);
+
+        PriceDto priceDto1 = new PriceDto();
+        priceDto1.setProductId(1L);
+        PriceDto priceDto2 = new PriceDto();
+        priceDto2.setProductId(2L);
+
+        when(priceRepository.findByProductIdIn(productIds)).thenReturn(List.of(price1, price2));
+        when(priceMapper.toDto(price1)).thenReturn(priceDto1);
+        when(priceMapper.toDto(price2)).thenReturn(priceDto2);
+
+        // Act
+        List<PriceDto> result = pricingService.getPricesByProductIds(productIds);
+
+        // Assert
+        assertEquals(List.of(priceDto1, priceDto2), result);
+        verify(priceRepository, times(1)).findByProductIdIn(productIds);
+        verify(priceRepository, never()).findByProductId(anyLong());
+    }
+
+    @Test
+    public void testGetPricesByProductIds_Exception() {
+        // Arrange
+        List<Long> productIds = List.of(1L, 2L);
+
+        when(priceRepository.findByProductIdIn(productIds)).thenThrow(new RuntimeException("Database Error"));
+
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> pricingService.getPricesByProductIds(productIds));
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exception.getStatusCode());
+        assertEquals("Failed to retrieve prices", exception.getReason());
+    }
+}
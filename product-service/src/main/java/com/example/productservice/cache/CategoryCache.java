@@ -0,0 +1,93 @@
+package com.example.productservice.cache;
+
+import com.example.productservice.model.Category;
+import com.example.productservice.repository.CategoryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-process cache of categories by ID and by name, sitting in front of {@link CategoryRepository}
+ * on the product create/update/listing paths. Entries are detached copies without the
+ * products collection, so cached values never trigger lazy loading or hold product graphs.
+ * Misses are not cached, so a newly created category is visible on the next lookup.
+ * Hit/miss/eviction stats are published as cache.* metrics (cache=categoriesById|categoriesByName).
+ */
+public class CategoryCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CategoryCache.class);
+
+    private final CategoryRepository categoryRepository;
+    private final Cache<Long, Category> byId;
+    private final Cache<String, Category> byName;
+
+    public CategoryCache(CategoryRepository categoryRepository, MeterRegistry meterRegistry,
+                         long maximumSize, Duration timeToLive) {
+        this.categoryRepository = categoryRepository;
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        this.byName = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "categoriesById");
+        CaffeineCacheMetrics.monitor(meterRegistry, byName, "categoriesByName");
+    }
+
+    public Optional<Category> findById(Long categoryId) {
+        Category cached = byId.get(categoryId, id -> categoryRepository.findById(id).map(CategoryCache::copyOf).orElse(null));
+        return Optional.ofNullable(cached).map(CategoryCache::copyOf);
+    }
+
+    public Optional<Category> findByName(String categoryName) {
+        Category cached = byName.get(categoryName, name -> categoryRepository.findByName(name).map(CategoryCache::copyOf).orElse(null));
+        return Optional.ofNullable(cached).map(CategoryCache::copyOf);
+    }
+
+    /**
+     * Drops every entry now and, when called inside a transaction, again after it commits so a
+     * concurrent reader cannot re-cache the pre-commit state.
+     */
+    public void invalidateAll() {
+        evictAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAll();
+                }
+            });
+        }
+    }
+
+    private void evictAll() {
+        byId.invalidateAll();
+        byName.invalidateAll();
+        logger.debug("Category cache invalidated");
+    }
+
+    // Callers get their own copy so mutating a returned category never changes the cached one
+    private static Category copyOf(Category category) {
+        return Category.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .description(category.getDescription())
+                .products(List.of())
+                .createdAt(category.getCreatedAt())
+                .updatedAt(category.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.productservice.cache;
+
+import com.example.productservice.event.ProductChangedEvent;
+import com.example.productservice.event.ProductSnapshotChangedEvent;
+import com.example.productservice.model.ProductSnapshot;
+import com.example.productservice.response.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Category listings (findAvailableProductsByCategory) kept as serialized JSON, keyed by category
+ * and sort order, so a hit is one array copy with the request's trace ID spliced in. Entries
+ * record every product of their category, listed or not, and are dropped after commit when one
+ * of those products changes (including its price or stock in the read model), when a product is
+ * written to the category, or when categories change. The TTL bounds staleness from prices and
+ * stock served by the downstream services rather than the read model.
+ * <p>
+ * Concurrent misses for one listing are built once. A build that overlaps an invalidation is
+ * served but not cached. Size in entries and bytes, hits and misses are published as cache.*
+ * (cache=categoryListings) and product.listing.cache.bytes; build time as product.listing.cache.rebuild.
+ */
+public class CategoryListingCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CategoryListingCache.class);
+
+    // Serialized in place of the trace ID, then cut out; a UUID, so the spliced-in ID has the same shape
+    private static final String TRACE_ID_MARKER = "00000000-0000-0000-0000-000000000000";
+
+    /**
+     * What a listing build produced: the response, every product ID of the category (listed or
+     * not), and whether the response may be cached.
+     */
+    public record Build(ApiResponse<?> response, Set<Long> categoryProductIds, boolean cacheable) {
+    }
+
+    private record Key(String categoryName, String sortBy) {
+    }
+
+    // body = head + traceId + tail
+    private record Listing(String categoryName, Set<Long> productIds, byte[] head, byte[] tail) {
+        int weight() {
+            return head.length + tail.length;
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, Listing> entries;
+    private final SingleFlight<Key, Listing> builds;
+    private final AtomicLong generation = new AtomicLong();
+    private final Timer rebuildTimer;
+
+    public CategoryListingCache(ObjectMapper objectMapper, MeterRegistry meterRegistry, long maximumBytes, Duration timeToLive) {
+        this.objectMapper = objectMapper;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((Key key, Listing listing) -> listing.weight())
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        this.builds = new SingleFlight<>(meterRegistry, "product.listing.cache.build");
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "categoryListings");
+        Gauge.builder("product.listing.cache.bytes", entries,
+                        cache -> cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .description("Serialized bytes held by the category listing cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("product.listing.cache.rebuild")
+                .description("Time to build and serialize a category listing on a cache miss")
+                .register(meterRegistry);
+    }
+
+    /** The listing's JSON body carrying traceId, from the cache or built by {@code builder}. */
+    public byte[] get(String categoryName, String sortBy, String traceId, Function<String, Build> builder) {
+        Key key = new Key(normalize(categoryName), sortBy);
+        Listing listing = entries.getIfPresent(key);
+        if (listing == null) {
+            listing = builds.execute(key, () -> build(key, traceId, builder));
+        }
+        return body(listing, traceId);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.invalidateAll();
+        logger.debug("Category listing cache invalidated");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        String categoryName = event.isDeleted() ? null : normalize(event.getProduct().getCategory());
+        invalidateIf(listing -> listing.productIds().contains(event.getProductId())
+                || listing.categoryName().equals(categoryName));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSnapshotChanged(ProductSnapshotChangedEvent event) {
+        Set<Long> productIds = event.getSnapshots().stream().map(ProductSnapshot::getProductId).collect(Collectors.toSet());
+        invalidateIf(listing -> listing.productIds().stream().anyMatch(productIds::contains));
+    }
+
+    private void invalidateIf(Predicate<Listing> predicate) {
+        generation.incrementAndGet();
+        entries.asMap().values().removeIf(predicate);
+    }
+
+    private Listing build(Key key, String traceId, Function<String, Build> builder) {
+        long startedAt = System.nanoTime();
+        long generationAtStart = generation.get();
+        Build build = builder.apply(traceId);
+        Listing listing = serialize(key, build);
+        rebuildTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+
+        if (build.cacheable() && generation.get() == generationAtStart) {
+            entries.put(key, listing);
+        }
+        return listing;
+    }
+
+    private Listing serialize(Key key, Build build) {
+        ApiResponse<?> response = build.response();
+        response.setTraceId(TRACE_ID_MARKER);
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize category listing", ex);
+        }
+        int marker = lastIndexOf(json, TRACE_ID_MARKER.getBytes(StandardCharsets.US_ASCII));
+        byte[] head = new byte[marker];
+        byte[] tail = new byte[json.length - marker - TRACE_ID_MARKER.length()];
+        System.arraycopy(json, 0, head, 0, head.length);
+        System.arraycopy(json, marker + TRACE_ID_MARKER.length(), tail, 0, tail.length);
+        return new Listing(key.categoryName(), Set.copyOf(build.categoryProductIds()), head, tail);
+    }
+
+    private static byte[] body(Listing listing, String traceId) {
+        byte[] id = traceId.getBytes(StandardCharsets.US_ASCII);
+        byte[] body = new byte[listing.head().length + id.length + listing.tail().length];
+        System.arraycopy(listing.head(), 0, body, 0, listing.head().length);
+        System.arraycopy(id, 0, body, listing.head().length, id.length);
+        System.arraycopy(listing.tail(), 0, body, listing.head().length + id.length, listing.tail().length);
+        return body;
+    }
+
+    private static int lastIndexOf(byte[] bytes, byte[] target) {
+        for (int i = bytes.length - target.length; i >= 0; i--) {
+            int j = 0;
+            while (j < target.length && bytes[i + j] == target[j]) {
+                j++;
+            }
+            if (j == target.length) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Trace ID not found in serialized category listing");
+    }
+
+    // Category names match case-insensitively in the listing query
+    private static String normalize(String categoryName) {
+        return categoryName == null ? null : categoryName.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.productservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * Local copy of prices fetched from pricing-service, with three age bands per entry:
+ * <ul>
+ *   <li>younger than the TTL: served as fresh, no remote call;</li>
+ *   <li>up to stale-while-revalidate past the TTL: served (marked stale) while one background
+ *       refresh per product brings it up to date;</li>
+ *   <li>up to max-staleness: only handed out by {@link #lastKnown} when pricing-service cannot
+ *       answer, so a degraded response still carries a real, if old, price.</li>
+ * </ul>
+ * Entries older than max-staleness are evicted, as is the least recently used entry beyond the
+ * maximum size. Stats are published as cache.* (cache=prices) and product.price.cache.served
+ * tagged by freshness.
+ */
+public class PriceCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceCache.class);
+
+    public record CachedPrice(Double price, boolean stale) {
+    }
+
+    private record Entry(Double price, long fetchedAtNanos) {
+    }
+
+    private final Cache<Long, Entry> entries;
+    private final Ticker ticker;
+    private final long ttlNanos;
+    private final long serveStaleNanos;
+    private final Executor refreshExecutor;
+    private final Set<Long> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final Counter servedFresh;
+    private final Counter servedStale;
+    private final Counter servedLastKnown;
+    private final Counter refreshes;
+
+    public PriceCache(MeterRegistry meterRegistry, long maximumSize, Duration timeToLive,
+                      Duration staleWhileRevalidate, Duration maxStaleness, Executor refreshExecutor) {
+        this(meterRegistry, maximumSize, timeToLive, staleWhileRevalidate, maxStaleness, refreshExecutor, Ticker.systemTicker());
+    }
+
+    PriceCache(MeterRegistry meterRegistry, long maximumSize, Duration timeToLive, Duration staleWhileRevalidate,
+               Duration maxStaleness, Executor refreshExecutor, Ticker ticker) {
+        this.ticker = ticker;
+        this.ttlNanos = timeToLive.toNanos();
+        this.serveStaleNanos = ttlNanos + staleWhileRevalidate.toNanos();
+        this.refreshExecutor = refreshExecutor;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofNanos(Math.max(serveStaleNanos, maxStaleness.toNanos())))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "prices");
+
+        this.servedFresh = servedCounter(meterRegistry, "fresh");
+        this.servedStale = servedCounter(meterRegistry, "stale");
+        this.servedLastKnown = servedCounter(meterRegistry, "last_known");
+        this.refreshes = Counter.builder("product.price.cache.refreshes")
+                .description("Background refreshes started for stale prices")
+                .register(meterRegistry);
+    }
+
+    /** The cached price if it may be served as-is (fresh or within stale-while-revalidate), else null. */
+    public CachedPrice lookup(Long productId) {
+        Entry entry = entries.getIfPresent(productId);
+        return entry == null ? null : servable(entry);
+    }
+
+    public Map<Long, CachedPrice> lookupAll(Collection<Long> productIds) {
+        Map<Long, CachedPrice> found = new HashMap<>();
+        entries.getAllPresent(productIds).forEach((productId, entry) -> {
+            CachedPrice cached = servable(entry);
+            if (cached != null) {
+                found.put(productId, cached);
+            }
+        });
+        return found;
+    }
+
+    /** Any price still held for the product, however old, always marked stale; null if none. */
+    public CachedPrice lastKnown(Long productId) {
+        Entry entry = entries.getIfPresent(productId);
+        if (entry == null) {
+            return null;
+        }
+        servedLastKnown.increment();
+        return new CachedPrice(entry.price(), true);
+    }
+
+    public void put(Long productId, Double price) {
+        if (price != null) {
+            entries.put(productId, new Entry(price, ticker.read()));
+        }
+    }
+
+    public void putAll(Map<Long, Double> prices) {
+        prices.forEach(this::put);
+    }
+
+    public void invalidate(Long productId) {
+        entries.invalidate(productId);
+    }
+
+    /**
+     * Reloads the given products in the background with {@code loader}, skipping any that already
+     * have a refresh in flight. Whatever the loader returns is cached; products it leaves out keep
+     * their current entry, so a failed refresh never discards the last known price.
+     */
+    public void refreshAsync(Collection<Long> productIds, Function<List<Long>, Map<Long, Double>> loader) {
+        List<Long> claimed = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            if (refreshing.add(productId)) {
+                claimed.add(productId);
+            }
+        }
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        refreshes.increment();
+        try {
+            CompletableFuture.runAsync(() -> putAll(loader.apply(claimed)), refreshExecutor)
+                    .whenComplete((ignored, failure) -> {
+                        claimed.forEach(refreshing::remove);
+                        if (failure != null) {
+                            logger.warn("Background price refresh failed for {} products: {}", claimed.size(), failure.getMessage());
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            claimed.forEach(refreshing::remove);
+            logger.warn("Background price refresh rejected for {} products: {}", claimed.size(), e.getMessage());
+        }
+    }
+
+    private CachedPrice servable(Entry entry) {
+        long age = ticker.read() - entry.fetchedAtNanos();
+        if (age < ttlNanos) {
+            servedFresh.increment();
+            return new CachedPrice(entry.price(), false);
+        }
+        if (age < serveStaleNanos) {
+            servedStale.increment();
+            return new CachedPrice(entry.price(), true);
+        }
+        return null;
+    }
+
+    private static Counter servedCounter(MeterRegistry meterRegistry, String freshness) {
+        return Counter.builder("product.price.cache.served")
+                .description("Prices answered from the local price cache")
+                .tag("freshness", freshness)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.productservice.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller (the leader) runs the loader and
+ * every caller arriving while it is in flight (followers) waits for and shares that result or
+ * exception. Nothing is kept once the load finishes, so this is not a cache - the next call after
+ * completion loads again. Shared results must be treated as read-only or copied by the caller.
+ * Leader/follower counts are published as {name}.calls{role=leader|follower}, along with the
+ * resulting coalescing ratio and the number of loads currently in flight.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter followers;
+
+    public SingleFlight(MeterRegistry meterRegistry, String name) {
+        this.leaders = Counter.builder(name + ".calls")
+                .description("Calls that ran the load themselves")
+                .tag("role", "leader")
+                .register(meterRegistry);
+        this.followers = Counter.builder(name + ".calls")
+                .description("Calls that joined a load already in flight")
+                .tag("role", "follower")
+                .register(meterRegistry);
+        Gauge.builder(name + ".coalescing.ratio", this, SingleFlight::coalescingRatio)
+                .description("Share of calls served by joining another caller's load")
+                .register(meterRegistry);
+        Gauge.builder(name + ".in.flight", inFlight, ConcurrentHashMap::size)
+                .description("Loads currently in flight")
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> leaderFuture = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, leaderFuture);
+        if (existing != null) {
+            followers.increment();
+            return await(existing);
+        }
+
+        leaders.increment();
+        try {
+            V value = loader.get();
+            leaderFuture.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            leaderFuture.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, leaderFuture);
+        }
+    }
+
+    private double coalescingRatio() {
+        double total = leaders.count() + followers.count();
+        return total == 0 ? 0 : followers.count() / total;
+    }
+
+    // Followers see the leader's exception as-is rather than wrapped
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
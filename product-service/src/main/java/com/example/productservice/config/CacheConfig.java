@@ -0,0 +1,73 @@
+package com.example.productservice.config;
+
+import com.example.productservice.cache.CategoryCache;
+import com.example.productservice.cache.CategoryListingCache;
+import com.example.productservice.cache.PriceCache;
+import com.example.productservice.cache.SingleFlight;
+import com.example.productservice.dto.ProductDto;
+import com.example.productservice.repository.CategoryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+@Configuration
+public class CacheConfig {
+
+    @Value("${product.category-cache.maximum-size:1000}")
+    private long categoryCacheMaximumSize;
+
+    @Value("${product.category-cache.ttl-seconds:600}")
+    private long categoryCacheTtlSeconds;
+
+    @Value("${product.listing-cache.maximum-bytes:67108864}")
+    private long listingCacheMaximumBytes;
+
+    @Value("${product.listing-cache.ttl-seconds:30}")
+    private long listingCacheTtlSeconds;
+
+    @Value("${product.price-cache.maximum-size:10000}")
+    private long priceCacheMaximumSize;
+
+    @Value("${product.price-cache.ttl-seconds:30}")
+    private long priceCacheTtlSeconds;
+
+    @Value("${product.price-cache.stale-while-revalidate-seconds:300}")
+    private long priceCacheStaleWhileRevalidateSeconds;
+
+    @Value("${product.price-cache.max-staleness-seconds:86400}")
+    private long priceCacheMaxStalenessSeconds;
+
+    @Bean
+    public CategoryCache categoryCache(CategoryRepository categoryRepository, MeterRegistry meterRegistry) {
+        return new CategoryCache(categoryRepository, meterRegistry, categoryCacheMaximumSize,
+                Duration.ofSeconds(categoryCacheTtlSeconds));
+    }
+
+    @Bean
+    public CategoryListingCache categoryListingCache(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        return new CategoryListingCache(objectMapper, meterRegistry, listingCacheMaximumBytes,
+                Duration.ofSeconds(listingCacheTtlSeconds));
+    }
+
+    @Bean
+    public SingleFlight<Long, ProductDto> productLoadSingleFlight(MeterRegistry meterRegistry) {
+        return new SingleFlight<>(meterRegistry, "product.load.single.flight");
+    }
+
+    /**
+     * Background refreshes belong to no request, so they run on the general task executor rather
+     * than the enrichment pool, which would hand them the triggering request's deadline.
+     */
+    @Bean
+    public PriceCache priceCache(MeterRegistry meterRegistry, @Qualifier("applicationTaskExecutor") Executor refreshExecutor) {
+        return new PriceCache(meterRegistry, priceCacheMaximumSize, Duration.ofSeconds(priceCacheTtlSeconds),
+                Duration.ofSeconds(priceCacheStaleWhileRevalidateSeconds), Duration.ofSeconds(priceCacheMaxStalenessSeconds),
+                refreshExecutor);
+    }
+}
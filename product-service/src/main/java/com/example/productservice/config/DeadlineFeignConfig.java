@@ -0,0 +1,21 @@
+package com.example.productservice.config;
+
+import com.example.productservice.feignclient.DeadlineAwareClient;
+import com.example.productservice.feignclient.DeadlineCapability;
+import feign.Capability;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wraps every Feign client's transport in {@link DeadlineAwareClient}, so each attempt (retries
+ * included) is checked against and bounded by the request's remaining budget. Baseline timeouts
+ * come from spring.cloud.openfeign.client.config.default.*; the deadline can only shorten them.
+ */
+@Configuration
+public class DeadlineFeignConfig {
+
+    @Bean
+    public Capability deadlineCapability() {
+        return new DeadlineCapability();
+    }
+}
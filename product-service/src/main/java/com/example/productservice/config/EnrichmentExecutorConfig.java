@@ -0,0 +1,88 @@
+package com.example.productservice.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Dedicated pool for the blocking price/inventory Feign calls made while enriching products,
+ * so fan-out capacity is sized independently of the JVM-wide common ForkJoinPool.
+ * Queue depth, active count and pool size are published by Spring Boot's executor metrics
+ * (executor.* tagged name=enrichment); task latency is recorded by {@link EnrichmentTaskDecorator}.
+ */
+@Configuration
+public class EnrichmentExecutorConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(EnrichmentExecutorConfig.class);
+
+    @Value("${product.enrichment.executor.core-pool-size:16}")
+    private int corePoolSize;
+
+    @Value("${product.enrichment.executor.max-pool-size:64}")
+    private int maxPoolSize;
+
+    @Value("${product.enrichment.executor.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Value("${product.enrichment.executor.keep-alive-seconds:60}")
+    private int keepAliveSeconds;
+
+    @Value("${product.enrichment.executor.rejection-policy:caller-runs}")
+    private String rejectionPolicy;
+
+    @Bean(name = "enrichmentExecutor")
+    public ThreadPoolTaskExecutor enrichmentExecutor(MeterRegistry meterRegistry) {
+        logger.info("Configuring enrichment executor: core={}, max={}, queue={}, rejection={}",
+                corePoolSize, maxPoolSize, queueCapacity, rejectionPolicy);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("enrichment-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setKeepAliveSeconds(keepAliveSeconds);
+        executor.setTaskDecorator(new EnrichmentTaskDecorator(meterRegistry, "product.enrichment"));
+        executor.setRejectedExecutionHandler(rejectionHandler(meterRegistry));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * Declaring our own executor makes Spring Boot back off from its default one, which
+     * MVC async requests and @Async still rely on, so it is recreated here unchanged.
+     */
+    @Primary
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    private RejectedExecutionHandler rejectionHandler(MeterRegistry meterRegistry) {
+        RejectedExecutionHandler delegate = "abort".equalsIgnoreCase(rejectionPolicy)
+                ? new ThreadPoolExecutor.AbortPolicy()
+                : new ThreadPoolExecutor.CallerRunsPolicy();
+        Counter rejected = Counter.builder("product.enrichment.rejected")
+                .description("Enrichment tasks rejected because the pool and queue were full")
+                .tag("policy", rejectionPolicy.toLowerCase())
+                .register(meterRegistry);
+
+        return (task, executor) -> {
+            rejected.increment();
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.productservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carries the submitting thread's MDC (trace id etc.) and {@link RequestDeadline} onto the worker
+ * thread, so downstream calls made there stay bounded by the request's budget, and records
+ * how long each task waited in the queue and how long it ran.
+ */
+public class EnrichmentTaskDecorator implements TaskDecorator {
+
+    private final Timer queueWaitTimer;
+    private final Timer executionTimer;
+
+    public EnrichmentTaskDecorator(MeterRegistry meterRegistry, String metricPrefix) {
+        this.queueWaitTimer = Timer.builder(metricPrefix + ".task.queue.wait")
+                .description("Time tasks spent queued before a worker picked them up")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder(metricPrefix + ".task.execution")
+                .description("Time tasks spent running on a worker")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> submitterContext = MDC.getCopyOfContextMap();
+        Long submitterDeadline = RequestDeadline.capture();
+        long submittedAt = System.nanoTime();
+
+        return () -> {
+            long startedAt = System.nanoTime();
+            queueWaitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+
+            Map<String, String> workerContext = MDC.getCopyOfContextMap();
+            Long workerDeadline = RequestDeadline.capture();
+            setContext(submitterContext);
+            RequestDeadline.restore(submitterDeadline);
+            try {
+                runnable.run();
+            } finally {
+                setContext(workerContext);
+                RequestDeadline.restore(workerDeadline);
+                executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    private static void setContext(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
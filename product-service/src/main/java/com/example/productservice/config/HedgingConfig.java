@@ -0,0 +1,73 @@
+package com.example.productservice.config;
+
+import com.example.productservice.feignclient.HedgedRequestExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Opt-in request hedging for the pricing and inventory Feign calls. Each client gets its own
+ * {@link HedgedRequestExecutor} (own latency percentile and hedge budget); attempts run on a
+ * dedicated pool so a hedge never queues behind the enrichment fan-out that is waiting on it.
+ */
+@Configuration
+public class HedgingConfig {
+
+    @Value("${product.hedging.enabled:false}")
+    private boolean enabled;
+
+    @Value("${product.hedging.delay-percentile:0.95}")
+    private double delayPercentile;
+
+    @Value("${product.hedging.min-delay-ms:10}")
+    private long minDelayMs;
+
+    @Value("${product.hedging.max-delay-ms:500}")
+    private long maxDelayMs;
+
+    @Value("${product.hedging.budget-ratio:0.05}")
+    private double budgetRatio;
+
+    @Value("${product.hedging.max-budget-tokens:10}")
+    private int maxBudgetTokens;
+
+    @Value("${product.hedging.executor.max-pool-size:64}")
+    private int maxPoolSize;
+
+    @Bean(name = "hedgingExecutor")
+    public ThreadPoolTaskExecutor hedgingExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("hedging-");
+        executor.setCorePoolSize(maxPoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        // Hand-off only: an attempt that cannot start now is run by the caller instead of waiting in a queue
+        executor.setQueueCapacity(0);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(new EnrichmentTaskDecorator(meterRegistry, "product.hedging"));
+        return executor;
+    }
+
+    @Bean
+    public HedgedRequestExecutor pricingHedger(@Qualifier("hedgingExecutor") ThreadPoolTaskExecutor hedgingExecutor,
+                                               MeterRegistry meterRegistry) {
+        return hedger("pricing", hedgingExecutor, meterRegistry);
+    }
+
+    @Bean
+    public HedgedRequestExecutor inventoryHedger(@Qualifier("hedgingExecutor") ThreadPoolTaskExecutor hedgingExecutor,
+                                                 MeterRegistry meterRegistry) {
+        return hedger("inventory", hedgingExecutor, meterRegistry);
+    }
+
+    private HedgedRequestExecutor hedger(String clientName, ThreadPoolTaskExecutor executor, MeterRegistry meterRegistry) {
+        return new HedgedRequestExecutor(clientName, executor, meterRegistry, enabled, delayPercentile,
+                Duration.ofMillis(minDelayMs), Duration.ofMillis(maxDelayMs), budgetRatio, maxBudgetTokens);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.productservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Threads for background import jobs, one job per thread. Jobs are only handed over when a thread
+ * is free (see ImportJobWorker), and shutdown does not wait for them: an interrupted job resumes
+ * from its last committed batch once its heartbeat goes stale.
+ */
+@Configuration
+public class ImportJobConfig {
+
+    @Value("${product.import.jobs.workers:2}")
+    private int workers;
+
+    @Bean(name = "importJobExecutor")
+    public ThreadPoolTaskExecutor importJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("import-job-");
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -6,6 +6,8 @@ import com.example.productservice.response.InventoryResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class InventoryServiceFeignFallback implements InventoryServiceFeignClient {
 
@@ -15,4 +17,11 @@ public class InventoryServiceFeignFallback implements InventoryServiceFeignClien
                 null,
                 HttpStatus.SERVICE_UNAVAILABLE);
     }
+
+    @Override
+    public ApiResponse<List<InventoryResponse>> getInventoriesByProductIds(List<Long> productIds, String serviceName) {
+        return ApiResponse.failure("Inventory Service is currently unavailable. Returning fallback response.",
+                null,
+                HttpStatus.SERVICE_UNAVAILABLE);
+    }
 }
@@ -1,19 +1,73 @@
 package com.example.productservice.config;
 
+import com.example.productservice.cache.PriceCache;
 import com.example.productservice.feignclient.PricingServiceFeignClient;
 import com.example.productservice.response.ApiResponse;
 import com.example.productservice.response.PriceResponse;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Answers with the last known price from {@link PriceCache} (flagged stale) when pricing-service is
+ * unavailable, and only fails for products that were never priced before.
+ */
 @Component
 public class PricingServiceFeignFallback implements PricingServiceFeignClient {
+
+    @Autowired
+    private PriceCache priceCache;
+
     @Override
     public ApiResponse<PriceResponse> getPriceByProductId(Long productId, String serviceName) {
+        PriceCache.CachedPrice lastKnown = priceCache.lastKnown(productId);
+        if (lastKnown != null) {
+            return ApiResponse.success(
+                    stalePrice(productId, lastKnown),
+                    "Pricing Service is currently unavailable. Returning last known price.",
+                    null,
+                    HttpStatus.OK
+            );
+        }
         return ApiResponse.failure(
                 "Pricing Service is currently unavailable. Returning fallback response.",
                 null,
                 HttpStatus.SERVICE_UNAVAILABLE
         );
     }
+
+    @Override
+    public ApiResponse<List<PriceResponse>> getPricesByProductIds(List<Long> productIds, String serviceName) {
+        List<PriceResponse> prices = new ArrayList<>();
+        for (Long productId : productIds) {
+            PriceCache.CachedPrice lastKnown = priceCache.lastKnown(productId);
+            if (lastKnown != null) {
+                prices.add(stalePrice(productId, lastKnown));
+            }
+        }
+        if (!prices.isEmpty()) {
+            return ApiResponse.success(
+                    prices,
+                    "Pricing Service is currently unavailable. Returning last known prices.",
+                    null,
+                    HttpStatus.OK
+            );
+        }
+        return ApiResponse.failure(
+                "Pricing Service is currently unavailable. Returning fallback response.",
+                null,
+                HttpStatus.SERVICE_UNAVAILABLE
+        );
+    }
+
+    private static PriceResponse stalePrice(Long productId, PriceCache.CachedPrice lastKnown) {
+        PriceResponse price = new PriceResponse();
+        price.setProductId(productId);
+        price.setPrice(lastKnown.price());
+        price.setStale(true);
+        return price;
+    }
 }
@@ -0,0 +1,156 @@
+package com.example.productservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a read replica and everything else (read-write transactions,
+ * work outside a transaction, Flyway) to the primary. Only the inherited CRUD methods of a Spring Data
+ * repository open their own read-only transaction; declared query methods run without one, and so on
+ * the primary, unless they or their caller are marked read-only. Inside a read-write transaction reads
+ * join it and stay on the primary, keeping read-your-writes.
+ * <p>
+ * Replicas take traffic only while a periodic check finds them replicating within maxLag; a lagging,
+ * stopped or unreachable replica is skipped until it recovers, and with none usable reads fall back
+ * to the primary. Replicas start out unusable until their first check passes.
+ * <p>
+ * The lookup key is taken when a connection is obtained, so this must sit behind a
+ * LazyConnectionDataSourceProxy: the transaction's read-only flag is set only after it begins.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxLagSeconds;
+    private final Duration checkInterval;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private ScheduledExecutorService lagChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources,
+                                    long maxLagSeconds, Duration checkInterval) {
+        this.primary = primary;
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkInterval = checkInterval;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            Replica replica = new Replica("replica-" + i, replicaDataSources.get(i));
+            replicas.add(replica);
+            targets.put(replica.key, replica.dataSource);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        // Round-robin over the replicas currently in sync
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.usable) {
+                return replica.key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    /** Starts the periodic replica lag check; the first check runs immediately. */
+    public void startLagChecks() {
+        lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lagChecker.scheduleWithFixedDelay(this::checkReplicas, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean usable;
+            String reason;
+            try {
+                Long lagSeconds = replicationLagSeconds(replica.dataSource);
+                usable = lagSeconds != null && lagSeconds <= maxLagSeconds;
+                reason = lagSeconds == null ? "replication not running" : "lag " + lagSeconds + "s";
+            } catch (Exception e) {
+                usable = false;
+                reason = e.getMessage();
+            }
+            if (!replica.checked || usable != replica.usable) {
+                if (usable) {
+                    logger.info("Routing reads to {} ({})", replica.key, reason);
+                } else {
+                    logger.warn("Routing reads away from {}: {} (max lag {}s)", replica.key, reason, maxLagSeconds);
+                }
+                replica.usable = usable;
+                replica.checked = true;
+            }
+        }
+    }
+
+    // Seconds_Behind_Source is NULL while the replication threads are stopped; no row means not a replica
+    private static Long replicationLagSeconds(DataSource dataSource) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) {
+                return null;
+            }
+            long lag = resultSet.getLong("Seconds_Behind_Source");
+            return resultSet.wasNull() ? null : lag;
+        }
+    }
+
+    public void close() {
+        if (lagChecker != null) {
+            lagChecker.shutdownNow();
+        }
+        closePool(primary);
+        replicas.forEach(replica -> closePool(replica.dataSource));
+    }
+
+    private static void closePool(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            hikariDataSource.close();
+        }
+    }
+
+    private static final class Replica {
+        private final String key;
+        private final DataSource dataSource;
+        private volatile boolean usable;
+        private boolean checked;
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
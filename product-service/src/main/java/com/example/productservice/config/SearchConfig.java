@@ -0,0 +1,34 @@
+package com.example.productservice.config;
+
+import com.example.productservice.search.ProductFacetIndex;
+import com.example.productservice.search.ProductSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SearchConfig {
+
+    @Value("${product.search.weights.name:3.0}")
+    private double nameWeight;
+
+    @Value("${product.search.weights.brand:2.0}")
+    private double brandWeight;
+
+    @Value("${product.search.weights.description:1.0}")
+    private double descriptionWeight;
+
+    @Value("${product.facets.price-boundaries:25,50,100,250,500,1000}")
+    private double[] priceBoundaries;
+
+    @Bean
+    public ProductSearchIndex productSearchIndex(MeterRegistry meterRegistry) {
+        return new ProductSearchIndex(meterRegistry, nameWeight, brandWeight, descriptionWeight);
+    }
+
+    @Bean
+    public ProductFacetIndex productFacetIndex(MeterRegistry meterRegistry) {
+        return new ProductFacetIndex(meterRegistry, priceBoundaries);
+    }
+}
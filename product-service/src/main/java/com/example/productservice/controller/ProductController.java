@@ -1,17 +1,26 @@
 package com.example.productservice.controller;
 
 import com.example.productservice.dto.ProductDto;
+import com.example.productservice.request.ProductFacetRequest;
 import com.example.productservice.request.ProductRequest;
 import com.example.productservice.request.CategoryRequest;
 import com.example.productservice.response.ApiResponse;
+import com.example.productservice.service.ImportJobService;
+import com.example.productservice.service.ProductImportService;
 import com.example.productservice.service.ProductService;
 import com.example.productservice.service.CategoryService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 
@@ -24,20 +33,55 @@ public class ProductController {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ImportJobService importJobService;
+
     @PostMapping("/create")
     public ApiResponse createProduct(@Valid @RequestBody ProductRequest product) {
         logger.info("Request to create product: {}", product.getName());
         return productService.createProduct(product);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ApiResponse importProducts(@RequestBody List<ProductRequest> products) {
+        logger.info("Request to import {} products", products.size());
+        return productImportService.importProducts(products);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ApiResponse importProductsCsv(@RequestParam("file") MultipartFile file) throws IOException {
+        logger.info("Request to import products from CSV file: {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+        try (InputStream csv = file.getInputStream()) {
+            return productImportService.importProductsCsv(csv);
+        }
+    }
+
+    @PostMapping(value = "/import/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ApiResponse submitImportJob(@RequestParam("file") MultipartFile file) throws IOException {
+        logger.info("Request to submit import job for CSV file: {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+        try (InputStream csv = file.getInputStream()) {
+            return importJobService.submitJob(file.getOriginalFilename(), csv);
+        }
+    }
+
+    @GetMapping("/import/jobs")
+    public ApiResponse getImportJob(@RequestParam("id") Long jobId) {
+        return importJobService.getJob(jobId);
+    }
+
     @PutMapping("/update")
     public ApiResponse updateProduct(@RequestParam Long id, @RequestBody ProductRequest product) {
         logger.info("Request to update product with ID: {}", id);
         return productService.updateProduct(id, product);
     }
 
+    // include: comma-separated price,inventory (or none); defaults to both
     @GetMapping("/product")
     public ApiResponse getProductById(@RequestParam("id") Long productId,
+                                      @RequestParam(value = "include", required = false) String include,
                                       @RequestHeader(value = "Service-Name", required = false) String serviceName) {
 
         if (serviceName != null) {
@@ -46,21 +90,72 @@ public class ProductController {
             logger.info("Request received from an external client.");
         }
 
-        return productService.getProductById(productId);
+        return productService.getProductById(productId, include);
     }
 
+    @GetMapping("/product/exists")
+    public ApiResponse productExists(@RequestParam("id") Long productId,
+                                     @RequestHeader(value = "Service-Name", required = false) String serviceName) {
+        logger.info("Request to check product existence: {} | Service: {}", productId, serviceName);
+        return productService.productExists(productId);
+    }
+
+    // include: comma-separated price,inventory; defaults to none
     @GetMapping("/products")
-    public ApiResponse getAllProducts() {
-        logger.info("Request to retrieve all products");
-        return productService.getAllProducts();
+    public ApiResponse getAllProducts(@RequestParam(value = "after", required = false) Long afterId,
+                                      @RequestParam(value = "size", required = false) Integer size,
+                                      @RequestParam(value = "include", required = false) String include) {
+        logger.info("Request to retrieve products after ID: {} | size: {} | include: {}", afterId, size, include);
+        return productService.getAllProducts(afterId, size, include);
     }
+
+    @GetMapping(value = "/products/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllProducts() {
+        logger.info("Request to stream all products");
+        StreamingResponseBody body = outputStream -> productService.streamAllProducts(outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+    @GetMapping("/products/search")
+    public ApiResponse searchProducts(@RequestParam("q") String query,
+                                      @RequestParam(value = "limit", required = false) Integer limit) {
+        logger.info("Request to search products: '{}' | limit: {}", query, limit);
+        return productService.searchProducts(query, limit);
+    }
+
+    @GetMapping("/products/facets")
+    public ApiResponse facetProducts(@RequestParam(value = "brand", required = false) List<String> brands,
+                                     @RequestParam(value = "category", required = false) List<String> categories,
+                                     @RequestParam(value = "minPrice", required = false) Double minPrice,
+                                     @RequestParam(value = "maxPrice", required = false) Double maxPrice,
+                                     @RequestParam(value = "inStock", required = false) Boolean inStock,
+                                     @RequestParam(value = "page", defaultValue = "0") int page,
+                                     @RequestParam(value = "size", defaultValue = "0") int size) {
+        logger.info("Request to filter products: brands={} categories={} price={}-{} inStock={} page={}",
+                brands, categories, minPrice, maxPrice, inStock, page);
+        ProductFacetRequest facetRequest = ProductFacetRequest.builder()
+                .brands(brands)
+                .categories(categories)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .inStock(inStock)
+                .page(page)
+                .size(size)
+                .build();
+        return productService.facetProducts(facetRequest);
+    }
+
+    // Written as the cached JSON bytes; the body is the same ApiResponse as the other endpoints
     @GetMapping("/products/category")
-    public ApiResponse findAvailableProductsByCategory(
+    public ResponseEntity<byte[]> findAvailableProductsByCategory(
             @RequestParam String categoryName,
             @RequestParam(defaultValue = "low") String priceRange){
         categoryName = categoryName.trim();
         logger.info("Request to find available products by category: {}", categoryName);
-        return productService.findAvailableProductsByCategory(categoryName, priceRange);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(productService.findAvailableProductsByCategoryJson(categoryName, priceRange));
     }
 
     @GetMapping("/products-by-category")
@@ -0,0 +1,52 @@
+package com.example.productservice.controller;
+
+import com.example.productservice.dto.InventoryChangeEvent;
+import com.example.productservice.dto.PriceChangeEvent;
+import com.example.productservice.response.ApiResponse;
+import com.example.productservice.service.ProductProjectionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Receives change notifications from the pricing and inventory outbox publishers and
+ * folds them into the local price/stock read model.
+ */
+@RestController
+@RequestMapping("/com/api/product-service/projection")
+public class ProjectionController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectionController.class);
+
+    @Autowired
+    private ProductProjectionService productProjectionService;
+
+    @PostMapping("/price-changes")
+    public ApiResponse applyPriceChanges(@RequestBody List<PriceChangeEvent> changes,
+                                         @RequestHeader(value = "Service-Name", required = false) String serviceName) {
+        if (!"PRICING-SERVICE".equalsIgnoreCase(serviceName)) {
+            logger.warn("Rejected price changes from Service: {}", serviceName);
+            return ApiResponse.failure("Unauthorized request. Service-Name header is missing or incorrect.",
+                    UUID.randomUUID().toString(), HttpStatus.UNAUTHORIZED);
+        }
+        logger.info("Received {} price changes", changes.size());
+        return productProjectionService.applyPriceChanges(changes);
+    }
+
+    @PostMapping("/inventory-changes")
+    public ApiResponse applyInventoryChanges(@RequestBody List<InventoryChangeEvent> changes,
+                                             @RequestHeader(value = "Service-Name", required = false) String serviceName) {
+        if (!"INVENTORY-SERVICE".equalsIgnoreCase(serviceName)) {
+            logger.warn("Rejected inventory changes from Service: {}", serviceName);
+            return ApiResponse.failure("Unauthorized request. Service-Name header is missing or incorrect.",
+                    UUID.randomUUID().toString(), HttpStatus.UNAUTHORIZED);
+        }
+        logger.info("Received {} inventory changes", changes.size());
+        return productProjectionService.applyInventoryChanges(changes);
+    }
+}
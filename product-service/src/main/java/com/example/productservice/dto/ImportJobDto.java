@@ -0,0 +1,27 @@
+package com.example.productservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportJobDto {
+    private Long id;
+    private String fileName;
+    private String status; // PENDING, RUNNING, COMPLETED or FAILED
+    private long processedRows;
+    private long createdRows;
+    private long rejectedRows;
+    private long failedRows;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
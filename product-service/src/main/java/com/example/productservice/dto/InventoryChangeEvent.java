@@ -0,0 +1,19 @@
+package com.example.productservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class InventoryChangeEvent {
+
+    private Long productId;
+    private Integer quantity;
+    private LocalDateTime changedAt;
+}
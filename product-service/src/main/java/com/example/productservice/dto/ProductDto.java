@@ -13,6 +13,7 @@ public class ProductDto {
     private String brand;
     private String description;
     private double price;
+    private boolean priceStale; // true when the price came from the local cache past its TTL
     private String quantityStatus; // "In Stock" or "Out of Stock"
     private String category; // Add category field
 }
\ No newline at end of file
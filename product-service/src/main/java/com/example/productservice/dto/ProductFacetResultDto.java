@@ -0,0 +1,27 @@
+package com.example.productservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductFacetResultDto {
+
+    private long total; // Products matching every filter
+    private int page;
+    private int size;
+    private List<ProductDto> items;
+
+    // Facet value -> matching products, counted with all filters except that facet's own
+    private Map<String, Long> brands;
+    private Map<String, Long> categories;
+    private Map<String, Long> priceRanges;
+    private Map<String, Long> availability;
+}
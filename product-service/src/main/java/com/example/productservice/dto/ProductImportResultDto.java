@@ -0,0 +1,40 @@
+package com.example.productservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductImportResultDto {
+
+    private int total;
+    private int created;
+    private int failed;
+    private List<Row> rows; // One entry per input row, in input order
+
+    public enum Status {
+        CREATED,
+        INVALID,            // Failed request validation (or could not be parsed)
+        DUPLICATE,          // Name already exists, or appears earlier in the same import
+        CATEGORY_NOT_FOUND,
+        FAILED              // The row's batch could not be written
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Row {
+        private int row; // 1-based position in the JSON array or CSV data rows
+        private String name;
+        private Status status;
+        private Long productId; // Set when created
+        private String message;
+    }
+}
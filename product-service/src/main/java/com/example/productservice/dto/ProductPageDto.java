@@ -0,0 +1,20 @@
+package com.example.productservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductPageDto {
+
+    private List<ProductDto> items;
+    private int size;
+    private boolean hasMore;
+    private Long nextCursor; // Pass as "after" to fetch the next page; null on the last page
+}
@@ -0,0 +1,19 @@
+package com.example.productservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductSearchResultDto {
+
+    private String query;
+    private int totalHits; // Products matching at least one query term, before the limit is applied
+    private List<ProductDto> items; // Best match first
+}
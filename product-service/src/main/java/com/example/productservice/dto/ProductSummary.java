@@ -0,0 +1,8 @@
+package com.example.productservice.dto;
+
+/**
+ * Column-only read of a product and its category name, for listings that never touch the entity
+ * graph: one select of exactly these columns, nothing managed by the persistence context.
+ */
+public record ProductSummary(Long id, String name, String brand, String description, String categoryName) {
+}
@@ -0,0 +1,29 @@
+package com.example.productservice.event;
+
+import com.example.productservice.dto.ProductDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published by the product write paths so in-process indexes can follow the catalog without
+ * re-reading it. Listeners receive it after the surrounding transaction commits.
+ */
+@Data
+@AllArgsConstructor
+public class ProductChangedEvent {
+
+    private Long productId;
+    private ProductDto product; // Current state; null when the product was deleted
+
+    public static ProductChangedEvent upserted(ProductDto product) {
+        return new ProductChangedEvent(product.getId(), product);
+    }
+
+    public static ProductChangedEvent deleted(Long productId) {
+        return new ProductChangedEvent(productId, null);
+    }
+
+    public boolean isDeleted() {
+        return product == null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.productservice.event;
+
+import com.example.productservice.model.ProductSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Published when price or stock changes are applied to the product read model, carrying the
+ * snapshots whose values actually changed. Listeners receive it after the transaction commits.
+ */
+@Data
+@AllArgsConstructor
+public class ProductSnapshotChangedEvent {
+
+    private List<ProductSnapshot> snapshots;
+}
@@ -85,4 +85,13 @@ public class GlobalExceptionHandler {
         ApiResponse response = ApiResponse.failure(ex.getMessage(), traceId, HttpStatus.NOT_FOUND);
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
+
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<ApiResponse> handleDeadlineExceededException(DeadlineExceededException ex) {
+        String traceId = UUID.randomUUID().toString();
+        logger.error("DeadlineExceededException: {} | TraceId: {}", ex.getMessage(), traceId);
+
+        ApiResponse response = ApiResponse.failure(ex.getMessage(), traceId, HttpStatus.GATEWAY_TIMEOUT);
+        return new ResponseEntity<>(response, HttpStatus.GATEWAY_TIMEOUT);
+    }
 }
\ No newline at end of file
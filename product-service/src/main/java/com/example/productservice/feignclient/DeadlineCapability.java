@@ -0,0 +1,15 @@
+package com.example.productservice.feignclient;
+
+import feign.Capability;
+import feign.Client;
+
+/**
+ * Installs {@link DeadlineAwareClient} around the transport of every Feign client it is added to.
+ */
+public class DeadlineCapability implements Capability {
+
+    @Override
+    public Client enrich(Client client) {
+        return new DeadlineAwareClient(client);
+    }
+}
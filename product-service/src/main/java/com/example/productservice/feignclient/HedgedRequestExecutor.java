@@ -0,0 +1,174 @@
+package com.example.productservice.feignclient;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Hedges a blocking downstream call: if the first attempt has not answered within the client's
+ * recent latency percentile, a second identical attempt is started and whichever completes first
+ * wins; the other is cancelled. Each attempt goes back through the load balancer, whose round-robin
+ * choice sends the hedge to the next instance. Hedges are paid for from a token budget that only
+ * refills as primary requests are made, so hedging adds at most budget-ratio extra load (plus a
+ * small burst). When disabled, calls run directly on the caller's thread.
+ */
+public class HedgedRequestExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(HedgedRequestExecutor.class);
+
+    // Budget is tracked in thousandths of a token so fractional refills stay lock-free
+    private static final long TOKEN = 1000;
+
+    private final String clientName;
+    private final Executor executor;
+    private final boolean enabled;
+    private final double delayPercentile;
+    private final Duration minDelay;
+    private final Duration maxDelay;
+    private final long refillPerRequest;
+    private final long maxBudget;
+    private final AtomicLong budget;
+
+    private final Timer attemptTimer;
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+    private final Counter budgetExhausted;
+
+    public HedgedRequestExecutor(String clientName, Executor executor, MeterRegistry meterRegistry, boolean enabled,
+                                 double delayPercentile, Duration minDelay, Duration maxDelay,
+                                 double budgetRatio, int maxBudgetTokens) {
+        this.clientName = clientName;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.delayPercentile = delayPercentile;
+        this.minDelay = minDelay;
+        this.maxDelay = maxDelay;
+        this.refillPerRequest = Math.round(budgetRatio * TOKEN);
+        this.maxBudget = maxBudgetTokens * TOKEN;
+        this.budget = new AtomicLong(maxBudget);
+
+        this.attemptTimer = Timer.builder("product.hedging.attempt")
+                .description("Latency of individual downstream attempts; its percentile sets the hedge delay")
+                .tag("client", clientName)
+                .publishPercentiles(delayPercentile)
+                .register(meterRegistry);
+        this.hedgesSent = Counter.builder("product.hedging.hedges")
+                .description("Hedge attempts started because the primary was slower than the hedge delay")
+                .tag("client", clientName)
+                .register(meterRegistry);
+        this.hedgesWon = Counter.builder("product.hedging.wins")
+                .description("Hedge attempts that answered before the primary")
+                .tag("client", clientName)
+                .register(meterRegistry);
+        this.budgetExhausted = Counter.builder("product.hedging.budget.exhausted")
+                .description("Hedges skipped because the hedge budget was empty")
+                .tag("client", clientName)
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        refill();
+
+        ExecutorCompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<T>> attempts = new ArrayList<>(2);
+        try {
+            Future<T> primary = completionService.submit(() -> timed(call));
+            attempts.add(primary);
+
+            long delayNanos = hedgeDelay().toNanos();
+            Future<T> completed = completionService.poll(delayNanos, TimeUnit.NANOSECONDS);
+            if (completed == null) {
+                if (tryAcquireHedge()) {
+                    hedgesSent.increment();
+                    logger.debug("Hedging {} call after {} ms", clientName, TimeUnit.NANOSECONDS.toMillis(delayNanos));
+                    attempts.add(completionService.submit(() -> timed(call)));
+                } else {
+                    budgetExhausted.increment();
+                }
+                completed = completionService.take();
+            }
+
+            // A failed attempt only decides the outcome if no other attempt is still running
+            for (int remaining = attempts.size() - 1; ; remaining--) {
+                try {
+                    T result = completed.get();
+                    if (completed != primary) {
+                        hedgesWon.increment();
+                    }
+                    return result;
+                } catch (ExecutionException e) {
+                    if (remaining == 0) {
+                        throw unwrap(e);
+                    }
+                    completed = completionService.take();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } finally {
+            // The loser's response is no longer needed
+            attempts.forEach(attempt -> attempt.cancel(true));
+        }
+    }
+
+    Duration hedgeDelay() {
+        for (ValueAtPercentile percentile : attemptTimer.takeSnapshot().percentileValues()) {
+            double millis = percentile.value(TimeUnit.MILLISECONDS);
+            if (millis > 0) {
+                long clamped = Math.max(minDelay.toMillis(), Math.min(maxDelay.toMillis(), Math.round(millis)));
+                return Duration.ofMillis(clamped);
+            }
+        }
+        // No recent latency samples yet: be conservative
+        return maxDelay;
+    }
+
+    private <T> T timed(Supplier<T> call) {
+        return attemptTimer.record(call);
+    }
+
+    private void refill() {
+        budget.getAndUpdate(current -> Math.min(maxBudget, current + refillPerRequest));
+    }
+
+    private boolean tryAcquireHedge() {
+        while (true) {
+            long current = budget.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (budget.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        if (e.getCause() instanceof Error cause) {
+            throw cause;
+        }
+        return new CompletionException(e.getCause());
+    }
+}
@@ -7,6 +7,9 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
 @FeignClient(name = "INVENTORY-SERVICE",fallback = InventoryServiceFeignFallback.class)
 public interface InventoryServiceFeignClient {
 
@@ -15,4 +18,10 @@ public interface InventoryServiceFeignClient {
             @RequestParam("productId") Long productId,
             @RequestHeader("Service-Name") String serviceName
     );
+
+    @GetMapping("/com/api/inventory-service/getByProductIds")
+    ApiResponse<List<InventoryResponse>> getInventoriesByProductIds(
+            @RequestParam("productIds") List<Long> productIds,
+            @RequestHeader("Service-Name") String serviceName
+    );
 }
@@ -8,6 +8,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
+
 @FeignClient(name = "PRICING-SERVICE",fallback = PricingServiceFeignFallback.class)
 public interface PricingServiceFeignClient {
 
@@ -16,5 +18,11 @@ public interface PricingServiceFeignClient {
             @RequestParam("productId") Long productId,
             @RequestHeader("Service-Name") String serviceName
     );
+
+    @GetMapping("/com/api/price-service/getByProductIds")
+    ApiResponse<List<PriceResponse>> getPricesByProductIds(
+            @RequestParam("productIds") List<Long> productIds,
+            @RequestHeader("Service-Name") String serviceName
+    );
 }
 
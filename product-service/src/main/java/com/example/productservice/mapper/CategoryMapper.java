@@ -0,0 +1,25 @@
+package com.example.productservice.mapper;
+
+import com.example.productservice.dto.CategoryDto;
+import com.example.productservice.model.Category;
+import com.example.productservice.request.CategoryRequest;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CategoryMapper {
+
+    public CategoryDto toDto(Category category) {
+        return CategoryDto.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .description(category.getDescription())
+                .build();
+    }
+
+    public Category toEntity(CategoryRequest categoryRequest) {
+        Category category = new Category();
+        category.setName(categoryRequest.getName());
+        category.setDescription(categoryRequest.getDescription());
+        return category;
+    }
+}
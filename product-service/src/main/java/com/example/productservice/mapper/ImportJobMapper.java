@@ -0,0 +1,26 @@
+package com.example.productservice.mapper;
+
+import com.example.productservice.dto.ImportJobDto;
+import com.example.productservice.model.ImportJob;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ImportJobMapper {
+
+    public ImportJobDto toDto(ImportJob importJob) {
+        return ImportJobDto.builder()
+                .id(importJob.getId())
+                .fileName(importJob.getFileName())
+                .status(importJob.getStatus().name())
+                .processedRows(importJob.getProcessedRows())
+                .createdRows(importJob.getCreatedRows())
+                .rejectedRows(importJob.getRejectedRows())
+                .failedRows(importJob.getFailedRows())
+                .message(importJob.getMessage())
+                .createdAt(importJob.getCreatedAt())
+                .updatedAt(importJob.getUpdatedAt())
+                .startedAt(importJob.getStartedAt())
+                .finishedAt(importJob.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.productservice.mapper;
+
+import com.example.productservice.request.ProductRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads product import CSV: a header row naming the columns name, brand, description and category
+ * (the category ID), in any order, then one product per line. Fields may be double-quoted to
+ * contain commas, quotes ("") or line breaks. A row that cannot be read becomes a null entry so
+ * the importer can report it without losing the row numbering.
+ */
+@Component
+public class ProductCsvParser {
+
+    private static final List<String> COLUMNS = List.of("name", "brand", "description", "category");
+
+    /** Reads the header and returns a cursor over the data rows, so callers bound how many they hold. */
+    public Rows open(Reader reader) throws IOException {
+        BufferedReader in = new BufferedReader(reader);
+        List<String> header = readRecord(in);
+        if (header == null) {
+            throw new IllegalArgumentException("CSV is empty");
+        }
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            positions.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : COLUMNS) {
+            if (!positions.containsKey(column)) {
+                throw new IllegalArgumentException("CSV header must include the columns " + COLUMNS + ", missing: " + column);
+            }
+        }
+        return new Rows(in, positions);
+    }
+
+    public static final class Rows {
+        private final BufferedReader in;
+        private final Map<String, Integer> positions;
+
+        private Rows(BufferedReader in, Map<String, Integer> positions) {
+            this.in = in;
+            this.positions = positions;
+        }
+
+        /** Up to max further rows (null entries for unreadable ones); empty at end of input. */
+        public List<ProductRequest> next(int max) throws IOException {
+            List<ProductRequest> products = new ArrayList<>(Math.min(max, 1000));
+            List<String> record;
+            while (products.size() < max && (record = readRecord(in)) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue; // Blank line
+                }
+                products.add(toRequest(record, positions));
+            }
+            return products;
+        }
+
+        /** Skips up to count rows, returning how many were skipped. */
+        public long skip(long count) throws IOException {
+            long skipped = 0;
+            List<String> record;
+            while (skipped < count && (record = readRecord(in)) != null) {
+                if (!(record.size() == 1 && record.get(0).isBlank())) {
+                    skipped++;
+                }
+            }
+            return skipped;
+        }
+    }
+
+    private static ProductRequest toRequest(List<String> record, Map<String, Integer> positions) {
+        try {
+            String category = field(record, positions.get("category"));
+            return ProductRequest.builder()
+                    .name(field(record, positions.get("name")))
+                    .brand(field(record, positions.get("brand")))
+                    .description(field(record, positions.get("description")))
+                    .category(category == null || category.isBlank() ? null : Long.valueOf(category.trim()))
+                    .build();
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String field(List<String> record, int position) {
+        return position < record.size() ? record.get(position) : null;
+    }
+
+    // One logical record, which may span lines inside quotes; null at end of input
+    private static List<String> readRecord(BufferedReader in) throws IOException {
+        String line = in.readLine();
+        if (line == null) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            line = in.readLine();
+            if (line == null) {
+                break; // Unterminated quote: keep what was read
+            }
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
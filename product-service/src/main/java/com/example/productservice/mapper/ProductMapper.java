@@ -0,0 +1,59 @@
+package com.example.productservice.mapper;
+
+import com.example.productservice.dto.ProductDto;
+import com.example.productservice.dto.ProductSummary;
+import com.example.productservice.model.Category;
+import com.example.productservice.model.Product;
+import com.example.productservice.request.ProductRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Plain field-by-field mapping between products and their DTO/request types. Price and
+ * stock status are not part of the entity and are filled in by enrichment.
+ */
+@Component
+public class ProductMapper {
+
+    public ProductDto toDto(Product product) {
+        ProductDto productDto = new ProductDto();
+        productDto.setId(product.getId());
+        productDto.setName(product.getName());
+        productDto.setBrand(product.getBrand());
+        productDto.setDescription(product.getDescription());
+        Category category = product.getCategory();
+        productDto.setCategory(category != null ? category.getName() : null);
+        return productDto;
+    }
+
+    public ProductDto toDto(ProductSummary productSummary) {
+        ProductDto productDto = new ProductDto();
+        productDto.setId(productSummary.id());
+        productDto.setName(productSummary.name());
+        productDto.setBrand(productSummary.brand());
+        productDto.setDescription(productSummary.description());
+        productDto.setCategory(productSummary.categoryName());
+        return productDto;
+    }
+
+    // The category is resolved and set by the caller from the request's category ID
+    public Product toEntity(ProductRequest productRequest) {
+        Product product = new Product();
+        product.setName(productRequest.getName());
+        product.setBrand(productRequest.getBrand());
+        product.setDescription(productRequest.getDescription());
+        return product;
+    }
+
+    // Partial update: fields left null in the request keep their current value
+    public void updateEntity(ProductRequest productRequest, Product product) {
+        if (productRequest.getName() != null) {
+            product.setName(productRequest.getName());
+        }
+        if (productRequest.getBrand() != null) {
+            product.setBrand(productRequest.getBrand());
+        }
+        if (productRequest.getDescription() != null) {
+            product.setDescription(productRequest.getDescription());
+        }
+    }
+}
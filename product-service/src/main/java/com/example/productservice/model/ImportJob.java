@@ -0,0 +1,65 @@
+package com.example.productservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Background product import from an uploaded CSV file. Progress is committed together with each
+ * batch of products, so a job interrupted by a restart resumes after its last committed row.
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "import_jobs")
+public class ImportJob {
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    // Stored upload, read again from processedRows on resume
+    @Column(nullable = false)
+    private String filePath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    // Set by the worker that claimed the job; progress from any other worker is refused
+    private String claimToken;
+
+    private long processedRows;
+    private long createdRows;
+    private long rejectedRows; // Invalid, duplicate or unknown category
+    private long failedRows;   // Their batch could not be written
+
+    private String message;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt; // Doubles as the worker heartbeat
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+}
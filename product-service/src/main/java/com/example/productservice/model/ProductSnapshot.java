@@ -0,0 +1,34 @@
+package com.example.productservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Local copy of the price and stock owned by pricing-service and inventory-service, kept
+ * current by their outbox publishers. Each half carries the source's change time so late
+ * or redelivered notifications never overwrite newer values.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@DynamicUpdate // price and stock updates arrive independently; only write the columns that changed
+@Table(name = "product_snapshot")
+public class ProductSnapshot {
+
+    @Id
+    private Long productId;
+
+    private Double price;
+    private LocalDateTime priceUpdatedAt;
+
+    private Integer quantity;
+    private LocalDateTime quantityUpdatedAt;
+}
@@ -0,0 +1,49 @@
+package com.example.productservice.repository;
+
+import com.example.productservice.model.ImportJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+    // Pending jobs, and running ones whose worker stopped reporting progress (e.g. its instance restarted).
+    // Read-write on purpose: a lagging replica could hand out a job that has just been claimed
+    @Transactional
+    @Query("SELECT j.id FROM ImportJob j WHERE j.status = :pending OR (j.status = :running AND j.updatedAt < :staleBefore) ORDER BY j.id")
+    List<Long> findClaimableIds(@Param("pending") ImportJob.Status pending, @Param("running") ImportJob.Status running,
+                                @Param("staleBefore") LocalDateTime staleBefore, Pageable pageable);
+
+    // Conditional on the state seen by findClaimableIds, so only one worker wins a job
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.status = :running, j.claimToken = :token, j.updatedAt = :now, j.startedAt = COALESCE(j.startedAt, :now) "
+            + "WHERE j.id = :id AND (j.status = :pending OR (j.status = :running AND j.updatedAt < :staleBefore))")
+    int claim(@Param("id") Long id, @Param("token") String token, @Param("pending") ImportJob.Status pending,
+              @Param("running") ImportJob.Status running, @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.processedRows = j.processedRows + :processed, j.createdRows = j.createdRows + :created, "
+            + "j.rejectedRows = j.rejectedRows + :rejected, j.failedRows = j.failedRows + :failed, j.updatedAt = :now "
+            + "WHERE j.id = :id AND j.claimToken = :token")
+    int recordProgress(@Param("id") Long id, @Param("token") String token, @Param("processed") long processed,
+                       @Param("created") long created, @Param("rejected") long rejected, @Param("failed") long failed,
+                       @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.status = :status, j.message = :message, j.finishedAt = :now, j.updatedAt = :now "
+            + "WHERE j.id = :id AND j.claimToken = :token")
+    int finish(@Param("id") Long id, @Param("token") String token, @Param("status") ImportJob.Status status,
+               @Param("message") String message, @Param("now") LocalDateTime now);
+}
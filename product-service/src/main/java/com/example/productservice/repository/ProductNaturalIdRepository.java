@@ -0,0 +1,14 @@
+package com.example.productservice.repository;
+
+import com.example.productservice.model.Product;
+
+import java.util.Optional;
+
+/**
+ * Product lookups by name resolved through Hibernate's natural-id API rather than a JPQL query,
+ * so the name-to-id resolution is served from the product-names cache region after the first hit.
+ */
+public interface ProductNaturalIdRepository {
+
+    Optional<Product> findByName(String name);
+}
@@ -0,0 +1,25 @@
+package com.example.productservice.repository;
+
+import com.example.productservice.model.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class ProductNaturalIdRepositoryImpl implements ProductNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Custom fragments get no repository default transaction; without one the shared
+    // EntityManager's session is closed before the lookup runs
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Product> findByName(String name) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Product.class)
+                .loadOptional(name);
+    }
+}
@@ -1,19 +1,49 @@
 package com.example.productservice.repository;
 
+import com.example.productservice.dto.ProductSummary;
 import com.example.productservice.model.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductNaturalIdRepository {
 
-    Optional<Product> findByName(String name);
+    // Declared queries get no transaction of their own, unlike the inherited CRUD methods: the listing
+    // reads are marked read-only so they reach a replica. findExistingNames stays on the primary,
+    // since a lagging replica would let an import through with a name that was just taken.
 
-    @Query("SELECT p FROM Product p WHERE p.category.name = :categoryName")
+    // Category is fetched in the same select so mapping each product never initializes a proxy
+    @Transactional(readOnly = true)
+    @Query("SELECT p FROM Product p JOIN FETCH p.category c WHERE c.name = :categoryName")
     List<Product> findAvailableProductsByCategoryName(@Param("categoryName") String categoryName);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.example.productservice.dto.ProductSummary(p.id, p.name, p.brand, p.description, c.name) "
+            + "FROM Product p JOIN p.category c WHERE c.name = :categoryName ORDER BY p.id ASC")
+    List<ProductSummary> findSummariesByCategoryName(@Param("categoryName") String categoryName);
+
+    // Duplicate-name check for a whole import batch in one query
+    @Query("SELECT p.name FROM Product p WHERE p.name IN :names")
+    List<String> findExistingNames(@Param("names") Collection<String> names);
+
+    // Keyset page: seeks past the last seen id instead of using OFFSET
+    @Transactional(readOnly = true)
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.category WHERE p.id > :afterId ORDER BY p.id ASC")
+    List<Product> findPageAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Must be consumed inside a read-only transaction and closed by the caller
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.category ORDER BY p.id ASC")
+    Stream<Product> streamAll();
 }
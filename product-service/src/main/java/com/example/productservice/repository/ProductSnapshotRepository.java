@@ -0,0 +1,36 @@
+package com.example.productservice.repository;
+
+import com.example.productservice.model.ProductSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ProductSnapshotRepository extends JpaRepository<ProductSnapshot, Long> {
+
+    // Concurrent deliveries for a new product both try to create its row; the loser keeps the winner's
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO product_snapshot (product_id) VALUES (:productId)", nativeQuery = true)
+    int insertIfAbsent(@Param("productId") Long productId);
+
+    // Conditional on the stored change time, so a late or redelivered change never overwrites a newer one
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProductSnapshot s SET s.price = :price, s.priceUpdatedAt = :changedAt "
+            + "WHERE s.productId = :productId AND (s.priceUpdatedAt IS NULL OR s.priceUpdatedAt < :changedAt)")
+    int updatePriceIfNewer(@Param("productId") Long productId, @Param("price") Double price,
+                           @Param("changedAt") LocalDateTime changedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProductSnapshot s SET s.quantity = :quantity, s.quantityUpdatedAt = :changedAt "
+            + "WHERE s.productId = :productId AND (s.quantityUpdatedAt IS NULL OR s.quantityUpdatedAt < :changedAt)")
+    int updateQuantityIfNewer(@Param("productId") Long productId, @Param("quantity") Integer quantity,
+                              @Param("changedAt") LocalDateTime changedAt);
+}
@@ -0,0 +1,23 @@
+package com.example.productservice.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductFacetRequest {
+
+    private List<String> brands; // Any of these brands; null or empty means no brand filter
+    private List<String> categories; // Any of these categories
+    private Double minPrice; // Inclusive
+    private Double maxPrice; // Inclusive
+    private Boolean inStock; // null means either
+    private int page;
+    private int size;
+}
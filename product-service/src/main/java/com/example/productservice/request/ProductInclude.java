@@ -0,0 +1,39 @@
+package com.example.productservice.request;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Optional enrichments of a product response, chosen with include= (comma separated, case
+ * insensitive, "none" for neither). Each costs a read-model lookup and, on a miss, a downstream
+ * call, so callers that do not need a field should leave it out.
+ */
+public enum ProductInclude {
+    PRICE,
+    INVENTORY;
+
+    /**
+     * Parses an include= value; a missing parameter means {@code defaults}.
+     *
+     * @throws IllegalArgumentException for an unknown name
+     */
+    public static Set<ProductInclude> parse(String include, Set<ProductInclude> defaults) {
+        if (include == null) {
+            return defaults;
+        }
+        Set<ProductInclude> includes = EnumSet.noneOf(ProductInclude.class);
+        for (String token : include.split(",")) {
+            String name = token.trim();
+            if (name.isEmpty() || "none".equalsIgnoreCase(name)) {
+                continue;
+            }
+            try {
+                includes.add(valueOf(name.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown include '" + name + "'. Allowed: price, inventory, none");
+            }
+        }
+        return includes;
+    }
+}
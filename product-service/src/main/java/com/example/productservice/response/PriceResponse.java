@@ -7,5 +7,7 @@ public class PriceResponse {
     private Long id;
     private Long productId;
     private Double price;
+    // Set when the price is a last known value served because pricing-service could not answer
+    private boolean stale;
 
 }
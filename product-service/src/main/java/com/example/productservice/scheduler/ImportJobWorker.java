@@ -0,0 +1,165 @@
+package com.example.productservice.scheduler;
+
+import com.example.productservice.dto.ProductImportResultDto.Row;
+import com.example.productservice.dto.ProductImportResultDto.Status;
+import com.example.productservice.mapper.ProductCsvParser;
+import com.example.productservice.model.Category;
+import com.example.productservice.model.ImportJob;
+import com.example.productservice.repository.ImportJobRepository;
+import com.example.productservice.request.ProductRequest;
+import com.example.productservice.service.serviceImpl.ProductImportBatchWriter;
+import com.example.productservice.service.serviceImpl.ProductImportBatchWriter.BatchResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs import jobs on the importJobExecutor. Each run streams the job's file a batch at a time and
+ * commits the batch's products and the job's progress together, refreshing the job's heartbeat.
+ * Pending jobs, and running jobs whose heartbeat is older than stale-after-seconds (their
+ * instance stopped), are claimed on every poll; a resumed job skips the rows already committed.
+ * The upload directory must be shared if more than one instance runs jobs.
+ */
+@Component
+public class ImportJobWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportJobWorker.class);
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private ProductImportBatchWriter batchWriter;
+
+    @Autowired
+    private ProductCsvParser productCsvParser;
+
+    @Autowired
+    @Qualifier("importJobExecutor")
+    private ThreadPoolTaskExecutor importJobExecutor;
+
+    @Value("${product.import.jobs.stale-after-seconds:120}")
+    private long staleAfterSeconds = 120;
+
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    /** Claims as many waiting jobs as there are free worker threads and starts them. */
+    @Scheduled(fixedDelayString = "${product.import.jobs.poll-interval-ms:5000}")
+    public synchronized void dispatch() {
+        int free = importJobExecutor.getMaxPoolSize() - running.size();
+        if (free <= 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minusSeconds(staleAfterSeconds);
+        List<Long> jobIds = importJobRepository.findClaimableIds(ImportJob.Status.PENDING, ImportJob.Status.RUNNING,
+                staleBefore, PageRequest.of(0, free));
+        for (Long jobId : jobIds) {
+            String token = UUID.randomUUID().toString();
+            if (running.contains(jobId) || importJobRepository.claim(jobId, token, ImportJob.Status.PENDING,
+                    ImportJob.Status.RUNNING, now, staleBefore) == 0) {
+                continue; // Still ours, or another instance got there first
+            }
+            running.add(jobId);
+            importJobExecutor.execute(() -> {
+                try {
+                    run(jobId, token);
+                } finally {
+                    running.remove(jobId);
+                }
+            });
+        }
+    }
+
+    void run(Long jobId, String token) {
+        ImportJob job = importJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        Path file = Path.of(job.getFilePath());
+        long processed = job.getProcessedRows();
+        logger.info("Import job {} {} at row {}", jobId, processed == 0 ? "starting" : "resuming", processed + 1);
+
+        ImportJob.Status outcome;
+        String message;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            ProductCsvParser.Rows rows = productCsvParser.open(reader);
+            rows.skip(processed);
+            Map<Long, Category> categories = new HashMap<>();
+            List<ProductRequest> batch;
+            while (!(batch = rows.next(batchWriter.getBatchSize())).isEmpty()) {
+                BatchResult result = batchWriter.write(batch, processed, categories,
+                        batchRows -> recordProgress(jobId, token, batchRows));
+                if (!result.committed()) {
+                    recordProgress(jobId, token, result.rows()); // Rolled back with the batch; count its rows as failed
+                }
+                processed += batch.size();
+            }
+            outcome = ImportJob.Status.COMPLETED;
+            message = "Processed " + processed + " rows";
+        } catch (TakenOverException ex) {
+            logger.warn("Import job {} stopped at row {}: {}", jobId, processed + 1, ex.getMessage());
+            return;
+        } catch (IOException | RuntimeException ex) {
+            logger.error("Import job {} failed at row {}: {}", jobId, processed + 1, ex.getMessage());
+            outcome = ImportJob.Status.FAILED;
+            message = ex.getMessage();
+        }
+
+        try {
+            if (importJobRepository.finish(jobId, token, outcome, truncate(message), LocalDateTime.now()) == 1) {
+                logger.info("Import job {} {}: {}", jobId, outcome, message);
+                deleteQuietly(file);
+            }
+        } catch (RuntimeException ex) {
+            logger.error("Import job {} could not be marked {}; it will be resumed once stale: {}", jobId, outcome, ex.getMessage());
+        }
+    }
+
+    private void recordProgress(Long jobId, String token, List<Row> rows) {
+        long created = rows.stream().filter(row -> row.getStatus() == Status.CREATED).count();
+        long failed = rows.stream().filter(row -> row.getStatus() == Status.FAILED).count();
+        int updated = importJobRepository.recordProgress(jobId, token, rows.size(), created,
+                rows.size() - created - failed, failed, LocalDateTime.now());
+        if (updated == 0) {
+            throw new TakenOverException("claimed by another worker");
+        }
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > 255 ? message.substring(0, 255) : message;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            logger.warn("Could not delete import file {}: {}", file, ex.getMessage());
+        }
+    }
+
+    private static final class TakenOverException extends RuntimeException {
+        private TakenOverException(String message) {
+            super(message);
+        }
+    }
+}
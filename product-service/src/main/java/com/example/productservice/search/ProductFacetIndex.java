@@ -0,0 +1,421 @@
+package com.example.productservice.search;
+
+import com.example.productservice.dto.ProductDto;
+import com.example.productservice.dto.ProductFacetResultDto;
+import com.example.productservice.model.ProductSnapshot;
+import com.example.productservice.request.ProductFacetRequest;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory facet index for brand / category / price range / stock listings. Every product gets a
+ * dense int doc ID, and each facet value owns a RoaringBitmap of the docs that carry it, so a
+ * filter is a handful of bitmap ORs and ANDs and a facet count is one AND-cardinality. Counts are
+ * disjunctive: each facet is counted with every filter applied except its own, so a shopper can
+ * see how many results picking another brand would give. Price and stock come from the product
+ * read model; products without a known price or quantity fall outside those facets.
+ */
+public class ProductFacetIndex {
+
+    public static final String IN_STOCK = "In Stock";
+    public static final String OUT_OF_STOCK = "Out of Stock";
+
+    private final double[] priceBoundaries;
+    private final String[] priceLabels;
+    private final Timer queryTimer;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private FacetState state;
+    // Non-null between beginRebuild and the swap: changes the catalog scan may have missed
+    private List<Consumer<FacetState>> changesDuringRebuild;
+
+    /**
+     * @param priceBoundaries ascending upper bounds of the price buckets; one open-ended bucket
+     *                        above the last boundary is added automatically
+     */
+    public ProductFacetIndex(MeterRegistry meterRegistry, double[] priceBoundaries) {
+        this.priceBoundaries = priceBoundaries.clone();
+        this.priceLabels = new String[priceBoundaries.length + 1];
+        double lower = 0;
+        for (int bucket = 0; bucket < priceBoundaries.length; bucket++) {
+            priceLabels[bucket] = format(lower) + "-" + format(priceBoundaries[bucket]);
+            lower = priceBoundaries[bucket];
+        }
+        priceLabels[priceBoundaries.length] = format(lower) + "+";
+        this.state = new FacetState(priceLabels.length);
+
+        this.queryTimer = Timer.builder("product.facets.query")
+                .description("Time spent evaluating a facet query against the bitmap index")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("product.facets.index.size", this, ProductFacetIndex::size)
+                .description("Products currently held by the facet index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts recording product and read-model changes so that the next {@link #rebuild} replays them
+     * onto the new state. Call before the scans that feed the rebuild start.
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Drops the changes recorded since {@link #beginRebuild} when the rebuild will not happen. */
+    public void cancelRebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole index, compacting doc IDs. Built outside the lock; queries keep using the
+     * previous state until the swap. Changes recorded since {@link #beginRebuild} are replayed onto
+     * the new state first.
+     */
+    public void rebuild(Collection<ProductDto> products, Collection<ProductSnapshot> snapshots) {
+        FacetState rebuilt = new FacetState(priceLabels.length);
+        for (ProductSnapshot snapshot : snapshots) {
+            rebuilt.detached.put(snapshot.getProductId(), new FacetDoc(null, snapshot.getPrice(), snapshot.getQuantity()));
+        }
+        for (ProductDto product : products) {
+            upsertProduct(rebuilt, product);
+        }
+        lock.writeLock().lock();
+        try {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                changesDuringRebuild = null;
+            }
+            state = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Catalog fields only; the product keeps whatever price and stock it already had
+    public void upsertProduct(ProductDto product) {
+        apply(target -> upsertProduct(target, product));
+    }
+
+    public void removeProduct(Long productId) {
+        apply(target -> {
+            Integer docId = target.docIds.remove(productId);
+            if (docId != null) {
+                unindex(target, docId);
+                target.docs.set(docId, null);
+            }
+        });
+    }
+
+    /**
+     * Applies price and stock from the read model. Values for products the index has not seen yet
+     * are held back and used once the product arrives.
+     */
+    public void applySnapshot(ProductSnapshot snapshot) {
+        apply(target -> {
+            Integer docId = target.docIds.get(snapshot.getProductId());
+            if (docId == null) {
+                target.detached.put(snapshot.getProductId(), new FacetDoc(null, snapshot.getPrice(), snapshot.getQuantity()));
+                return;
+            }
+            FacetDoc doc = target.docs.get(docId);
+            unindex(target, docId);
+            doc.price = snapshot.getPrice();
+            doc.quantity = snapshot.getQuantity();
+            index(target, docId);
+        });
+    }
+
+    private void apply(Consumer<FacetState> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(state);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.docIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public ProductFacetResultDto query(ProductFacetRequest request) {
+        return queryTimer.record(() -> doQuery(request));
+    }
+
+    private ProductFacetResultDto doQuery(ProductFacetRequest request) {
+        lock.readLock().lock();
+        try {
+            FacetState current = state;
+            RoaringBitmap brandFilter = union(current.brands, request.getBrands());
+            RoaringBitmap categoryFilter = union(current.categories, request.getCategories());
+            RoaringBitmap priceFilter = priceFilter(current, request.getMinPrice(), request.getMaxPrice());
+            RoaringBitmap stockFilter = request.getInStock() == null ? null
+                    : request.getInStock() ? current.inStock : current.outOfStock;
+
+            RoaringBitmap matches = intersect(current.live, brandFilter, categoryFilter, priceFilter, stockFilter);
+
+            // Each facet is counted against every filter except its own
+            Map<String, Long> brandCounts = new TreeMap<>(counts(current.brands,
+                    intersect(current.live, categoryFilter, priceFilter, stockFilter)));
+            Map<String, Long> categoryCounts = new TreeMap<>(counts(current.categories,
+                    intersect(current.live, brandFilter, priceFilter, stockFilter)));
+            RoaringBitmap withoutPrice = intersect(current.live, brandFilter, categoryFilter, stockFilter);
+            Map<String, Long> priceCounts = new LinkedHashMap<>();
+            for (int bucket = 0; bucket < priceLabels.length; bucket++) {
+                priceCounts.put(priceLabels[bucket], (long) RoaringBitmap.andCardinality(withoutPrice, current.priceBuckets[bucket]));
+            }
+            RoaringBitmap withoutStock = intersect(current.live, brandFilter, categoryFilter, priceFilter);
+            Map<String, Long> availabilityCounts = new LinkedHashMap<>();
+            availabilityCounts.put(IN_STOCK, (long) RoaringBitmap.andCardinality(withoutStock, current.inStock));
+            availabilityCounts.put(OUT_OF_STOCK, (long) RoaringBitmap.andCardinality(withoutStock, current.outOfStock));
+
+            return ProductFacetResultDto.builder()
+                    .total(matches.getLongCardinality())
+                    .page(request.getPage())
+                    .size(request.getSize())
+                    .items(page(current, matches, request.getPage(), request.getSize()))
+                    .brands(brandCounts)
+                    .categories(categoryCounts)
+                    .priceRanges(priceCounts)
+                    .availability(availabilityCounts)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<ProductDto> page(FacetState current, RoaringBitmap matches, int page, int size) {
+        List<ProductDto> items = new ArrayList<>(size);
+        long offset = (long) page * size;
+        if (offset >= matches.getLongCardinality()) {
+            return items;
+        }
+        // Doc IDs follow insertion order, so pages come out in product ID order after a rebuild
+        PeekableIntIterator iterator = matches.getIntIterator();
+        iterator.advanceIfNeeded(matches.select((int) offset));
+        while (iterator.hasNext() && items.size() < size) {
+            items.add(toDto(current.docs.get(iterator.next())));
+        }
+        return items;
+    }
+
+    private RoaringBitmap priceFilter(FacetState current, Double minPrice, Double maxPrice) {
+        if (minPrice == null && maxPrice == null) {
+            return null;
+        }
+        double min = minPrice == null ? Double.NEGATIVE_INFINITY : minPrice;
+        double max = maxPrice == null ? Double.POSITIVE_INFINITY : maxPrice;
+        RoaringBitmap filter = new RoaringBitmap();
+        for (int bucket = 0; bucket < priceLabels.length; bucket++) {
+            double lower = bucket == 0 ? 0 : priceBoundaries[bucket - 1];
+            double upper = bucket == priceBoundaries.length ? Double.POSITIVE_INFINITY : priceBoundaries[bucket];
+            if (upper <= min || lower > max) {
+                continue;
+            }
+            if (lower >= min && upper <= max) {
+                filter.or(current.priceBuckets[bucket]);
+            } else {
+                // Bucket straddles a bound: check exact prices for its docs only
+                for (int docId : current.priceBuckets[bucket]) {
+                    double price = current.docs.get(docId).price;
+                    if (price >= min && price <= max) {
+                        filter.add(docId);
+                    }
+                }
+            }
+        }
+        return filter;
+    }
+
+    private static RoaringBitmap union(Map<String, RoaringBitmap> facet, List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        RoaringBitmap union = new RoaringBitmap();
+        for (String value : values) {
+            RoaringBitmap bitmap = facet.get(value);
+            if (bitmap != null) {
+                union.or(bitmap);
+            }
+        }
+        return union;
+    }
+
+    // Null filters are "not filtered on" and skipped
+    private static RoaringBitmap intersect(RoaringBitmap base, RoaringBitmap... filters) {
+        RoaringBitmap result = base.clone();
+        for (RoaringBitmap filter : filters) {
+            if (filter != null) {
+                result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, Long> counts(Map<String, RoaringBitmap> facet, RoaringBitmap within) {
+        Map<String, Long> counts = new HashMap<>();
+        facet.forEach((value, bitmap) -> {
+            long count = RoaringBitmap.andCardinality(within, bitmap);
+            if (count > 0) {
+                counts.put(value, count);
+            }
+        });
+        return counts;
+    }
+
+    private void upsertProduct(FacetState target, ProductDto product) {
+        Integer docId = target.docIds.get(product.getId());
+        if (docId == null) {
+            FacetDoc pending = target.detached.remove(product.getId());
+            FacetDoc doc = pending != null
+                    ? new FacetDoc(copyOf(product), pending.price, pending.quantity)
+                    : new FacetDoc(copyOf(product), null, null);
+            docId = target.docs.size();
+            target.docs.add(doc);
+            target.docIds.put(product.getId(), docId);
+        } else {
+            unindex(target, docId);
+            target.docs.get(docId).product = copyOf(product);
+        }
+        index(target, docId);
+    }
+
+    private void index(FacetState target, int docId) {
+        FacetDoc doc = target.docs.get(docId);
+        target.live.add(docId);
+        if (doc.product.getBrand() != null) {
+            target.brands.computeIfAbsent(doc.product.getBrand(), key -> new RoaringBitmap()).add(docId);
+        }
+        if (doc.product.getCategory() != null) {
+            target.categories.computeIfAbsent(doc.product.getCategory(), key -> new RoaringBitmap()).add(docId);
+        }
+        if (doc.price != null) {
+            target.priceBuckets[bucketOf(doc.price)].add(docId);
+        }
+        if (doc.quantity != null) {
+            (doc.quantity > 0 ? target.inStock : target.outOfStock).add(docId);
+        }
+    }
+
+    private void unindex(FacetState target, int docId) {
+        FacetDoc doc = target.docs.get(docId);
+        target.live.remove(docId);
+        remove(target.brands, doc.product.getBrand(), docId);
+        remove(target.categories, doc.product.getCategory(), docId);
+        if (doc.price != null) {
+            target.priceBuckets[bucketOf(doc.price)].remove(docId);
+        }
+        target.inStock.remove(docId);
+        target.outOfStock.remove(docId);
+    }
+
+    private static void remove(Map<String, RoaringBitmap> facet, String value, int docId) {
+        if (value == null) {
+            return;
+        }
+        RoaringBitmap bitmap = facet.get(value);
+        if (bitmap != null) {
+            bitmap.remove(docId);
+            if (bitmap.isEmpty()) {
+                facet.remove(value);
+            }
+        }
+    }
+
+    private int bucketOf(double price) {
+        int bucket = 0;
+        while (bucket < priceBoundaries.length && price >= priceBoundaries[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static ProductDto toDto(FacetDoc doc) {
+        ProductDto productDto = copyOf(doc.product);
+        if (doc.price != null) {
+            productDto.setPrice(doc.price);
+        }
+        if (doc.quantity != null) {
+            productDto.setQuantityStatus(doc.quantity > 0 ? IN_STOCK : OUT_OF_STOCK);
+        }
+        return productDto;
+    }
+
+    private static ProductDto copyOf(ProductDto product) {
+        ProductDto copy = new ProductDto();
+        copy.setId(product.getId());
+        copy.setName(product.getName());
+        copy.setBrand(product.getBrand());
+        copy.setDescription(product.getDescription());
+        copy.setCategory(product.getCategory());
+        return copy;
+    }
+
+    private static String format(double boundary) {
+        return boundary == Math.rint(boundary) ? String.valueOf((long) boundary) : String.valueOf(boundary);
+    }
+
+    private static final class FacetDoc {
+
+        private ProductDto product;
+        private Double price;
+        private Integer quantity;
+
+        private FacetDoc(ProductDto product, Double price, Integer quantity) {
+            this.product = product;
+            this.price = price;
+            this.quantity = quantity;
+        }
+    }
+
+    private static final class FacetState {
+
+        private final Map<Long, Integer> docIds = new HashMap<>();
+        private final List<FacetDoc> docs = new ArrayList<>(); // Indexed by doc ID; null once removed
+        private final Map<Long, FacetDoc> detached = new HashMap<>(); // Read-model values for products not indexed yet
+        private final RoaringBitmap live = new RoaringBitmap();
+        private final Map<String, RoaringBitmap> brands = new HashMap<>();
+        private final Map<String, RoaringBitmap> categories = new HashMap<>();
+        private final RoaringBitmap inStock = new RoaringBitmap();
+        private final RoaringBitmap outOfStock = new RoaringBitmap();
+        private final RoaringBitmap[] priceBuckets;
+
+        private FacetState(int bucketCount) {
+            priceBuckets = new RoaringBitmap[bucketCount];
+            for (int bucket = 0; bucket < bucketCount; bucket++) {
+                priceBuckets[bucket] = new RoaringBitmap();
+            }
+        }
+    }
+}
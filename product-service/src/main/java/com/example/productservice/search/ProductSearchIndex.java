@@ -0,0 +1,270 @@
+package com.example.productservice.search;
+
+import com.example.productservice.dto.ProductDto;
+import com.example.productservice.dto.ProductSearchResultDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index over product name, brand and description, so keyword search never
+ * touches MySQL. Ranking is BM25 over a single weighted field (term frequencies and lengths of
+ * name/brand/description are combined using the configured weights), and only the top K
+ * matches are materialised. Reads share a read lock; updates and rebuilds take the write lock.
+ * Stored products carry catalog fields only - price and stock status are not indexed.
+ */
+public class ProductSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Worst hit first, so the heap can drop it once more than K hits are held
+    private static final Comparator<Map.Entry<Long, Double>> WORST_FIRST =
+            Map.Entry.<Long, Double>comparingByValue()
+                    .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed());
+
+    private final double nameWeight;
+    private final double brandWeight;
+    private final double descriptionWeight;
+    private final Timer searchTimer;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexState state = new IndexState();
+    // Non-null between beginRebuild and the swap: changes the catalog scan may have missed
+    private List<Consumer<IndexState>> changesDuringRebuild;
+
+    public ProductSearchIndex(MeterRegistry meterRegistry, double nameWeight, double brandWeight, double descriptionWeight) {
+        this.nameWeight = nameWeight;
+        this.brandWeight = brandWeight;
+        this.descriptionWeight = descriptionWeight;
+        this.searchTimer = Timer.builder("product.search.query")
+                .description("Time spent scoring a search query against the in-memory index")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("product.search.index.size", this, ProductSearchIndex::size)
+                .description("Products currently held by the search index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts recording updates and removals so that the next {@link #rebuild} replays them onto the
+     * new state. Call before the scan that feeds the rebuild starts, or changes that land while it
+     * runs are lost in the swap.
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Drops the changes recorded since {@link #beginRebuild} when the rebuild will not happen. */
+    public void cancelRebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole index. The new state is built without holding the lock, so searches keep
+     * being served from the previous state until the swap; changes recorded since
+     * {@link #beginRebuild} are replayed onto it first.
+     */
+    public void rebuild(Collection<ProductDto> products) {
+        IndexState rebuilt = new IndexState();
+        for (ProductDto product : products) {
+            rebuilt.add(toIndexedProduct(product));
+        }
+        lock.writeLock().lock();
+        try {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                changesDuringRebuild = null;
+            }
+            state = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(ProductDto product) {
+        IndexedProduct indexed = toIndexedProduct(product);
+        apply(target -> {
+            target.remove(product.getId());
+            target.add(indexed);
+        });
+    }
+
+    public void remove(Long productId) {
+        apply(target -> target.remove(productId));
+    }
+
+    private void apply(Consumer<IndexState> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(state);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.products.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public ProductSearchResultDto search(String query, int limit) {
+        return searchTimer.record(() -> doSearch(query, limit));
+    }
+
+    private ProductSearchResultDto doSearch(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        List<ProductDto> items = new ArrayList<>();
+        int totalHits;
+
+        lock.readLock().lock();
+        try {
+            IndexState current = state;
+            int documentCount = current.products.size();
+            double averageLength = documentCount == 0 ? 0 : current.totalLength / documentCount;
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<Long, Double> postings = current.postings.get(term);
+                if (postings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - postings.size() + 0.5) / (postings.size() + 0.5));
+                for (Map.Entry<Long, Double> posting : postings.entrySet()) {
+                    double termFrequency = posting.getValue();
+                    double length = current.products.get(posting.getKey()).length();
+                    double norm = K1 * (1 - B + B * length / averageLength);
+                    scores.merge(posting.getKey(), idf * termFrequency * (K1 + 1) / (termFrequency + norm), Double::sum);
+                }
+            }
+            totalHits = scores.size();
+
+            PriorityQueue<Map.Entry<Long, Double>> topK = new PriorityQueue<>(WORST_FIRST);
+            for (Map.Entry<Long, Double> score : scores.entrySet()) {
+                topK.offer(score);
+                if (topK.size() > limit) {
+                    topK.poll();
+                }
+            }
+            while (!topK.isEmpty()) {
+                items.add(copyOf(current.products.get(topK.poll().getKey()).product()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // Drained worst first; callers expect best first
+        Collections.reverse(items);
+        return ProductSearchResultDto.builder()
+                .query(query)
+                .totalHits(totalHits)
+                .items(items)
+                .build();
+    }
+
+    private IndexedProduct toIndexedProduct(ProductDto product) {
+        Map<String, Double> termFrequencies = new HashMap<>();
+        double length = addField(termFrequencies, product.getName(), nameWeight)
+                + addField(termFrequencies, product.getBrand(), brandWeight)
+                + addField(termFrequencies, product.getDescription(), descriptionWeight);
+        return new IndexedProduct(copyOf(product), termFrequencies, length);
+    }
+
+    private static double addField(Map<String, Double> termFrequencies, String text, double weight) {
+        List<String> tokens = tokenize(text);
+        for (String token : tokens) {
+            termFrequencies.merge(token, weight, Double::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // Catalog fields only; price and stock would go stale in the index
+    private static ProductDto copyOf(ProductDto product) {
+        ProductDto copy = new ProductDto();
+        copy.setId(product.getId());
+        copy.setName(product.getName());
+        copy.setBrand(product.getBrand());
+        copy.setDescription(product.getDescription());
+        copy.setCategory(product.getCategory());
+        return copy;
+    }
+
+    private record IndexedProduct(ProductDto product, Map<String, Double> termFrequencies, double length) {
+    }
+
+    private static final class IndexState {
+
+        private final Map<String, Map<Long, Double>> postings = new HashMap<>();
+        private final Map<Long, IndexedProduct> products = new HashMap<>();
+        private double totalLength;
+
+        private void add(IndexedProduct indexed) {
+            Long productId = indexed.product().getId();
+            products.put(productId, indexed);
+            totalLength += indexed.length();
+            indexed.termFrequencies().forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(productId, frequency));
+        }
+
+        private void remove(Long productId) {
+            IndexedProduct removed = products.remove(productId);
+            if (removed == null) {
+                return;
+            }
+            totalLength -= removed.length();
+            for (String term : removed.termFrequencies().keySet()) {
+                Map<Long, Double> termPostings = postings.get(term);
+                termPostings.remove(productId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.productservice.search;
+
+import com.example.productservice.dto.ProductDto;
+import com.example.productservice.event.ProductChangedEvent;
+import com.example.productservice.event.ProductSnapshotChangedEvent;
+import com.example.productservice.mapper.ProductMapper;
+import com.example.productservice.model.Product;
+import com.example.productservice.model.ProductSnapshot;
+import com.example.productservice.repository.ProductRepository;
+import com.example.productservice.repository.ProductSnapshotRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Keeps {@link ProductSearchIndex} and {@link ProductFacetIndex} in step with the catalog: one
+ * full build from a single catalog scan once the application is ready, then incremental updates
+ * from {@link ProductChangedEvent}s and {@link ProductSnapshotChangedEvent}s after each write commits.
+ */
+@Component
+public class ProductSearchIndexer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductSearchIndexer.class);
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private ProductFacetIndex productFacetIndex;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductSnapshotRepository productSnapshotRepository;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Read-write on purpose, so the scan runs on the primary: a lagging replica would hand the
+     * indexes a catalog older than the changes already applied to them. Changes that commit while
+     * the scan runs are recorded by the indexes and replayed onto the rebuilt state before the swap.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        productSearchIndex.beginRebuild();
+        productFacetIndex.beginRebuild();
+        List<ProductDto> products = new ArrayList<>();
+        List<ProductSnapshot> snapshots;
+        try {
+            try (Stream<Product> stream = productRepository.streamAll()) {
+                Iterator<Product> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    Product product = iterator.next();
+                    products.add(productMapper.toDto(product));
+                    entityManager.detach(product);
+                }
+            }
+            snapshots = productSnapshotRepository.findAll();
+        } catch (RuntimeException ex) {
+            productSearchIndex.cancelRebuild();
+            productFacetIndex.cancelRebuild();
+            throw ex;
+        }
+
+        productSearchIndex.rebuild(products);
+        productFacetIndex.rebuild(products, snapshots);
+        logger.info("Search and facet indexes built with {} products in {} ms", products.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    // fallbackExecution: writes made outside a transaction are indexed immediately
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isDeleted()) {
+            productSearchIndex.remove(event.getProductId());
+            productFacetIndex.removeProduct(event.getProductId());
+        } else {
+            productSearchIndex.upsert(event.getProduct());
+            productFacetIndex.upsertProduct(event.getProduct());
+        }
+        logger.debug("Search and facet indexes updated for Product ID: {}", event.getProductId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSnapshotChanged(ProductSnapshotChangedEvent event) {
+        event.getSnapshots().forEach(productFacetIndex::applySnapshot);
+        logger.debug("Facet index updated with {} read model changes", event.getSnapshots().size());
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.productservice.service;
+
+import com.example.productservice.dto.ImportJobDto;
+import com.example.productservice.response.ApiResponse;
+
+import java.io.InputStream;
+
+public interface ImportJobService {
+
+    ApiResponse<ImportJobDto> submitJob(String fileName, InputStream csv);
+
+    ApiResponse<ImportJobDto> getJob(Long jobId);
+}
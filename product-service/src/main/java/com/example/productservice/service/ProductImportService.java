@@ -0,0 +1,15 @@
+package com.example.productservice.service;
+
+import com.example.productservice.dto.ProductImportResultDto;
+import com.example.productservice.request.ProductRequest;
+import com.example.productservice.response.ApiResponse;
+
+import java.io.InputStream;
+import java.util.List;
+
+public interface ProductImportService {
+
+    ApiResponse<ProductImportResultDto> importProducts(List<ProductRequest> products);
+
+    ApiResponse<ProductImportResultDto> importProductsCsv(InputStream csv);
+}
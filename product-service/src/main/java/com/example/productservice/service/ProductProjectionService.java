@@ -0,0 +1,22 @@
+package com.example.productservice.service;
+
+import com.example.productservice.dto.InventoryChangeEvent;
+import com.example.productservice.dto.PriceChangeEvent;
+import com.example.productservice.model.ProductSnapshot;
+import com.example.productservice.response.ApiResponse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface ProductProjectionService {
+
+    ApiResponse applyPriceChanges(List<PriceChangeEvent> changes);
+
+    ApiResponse applyInventoryChanges(List<InventoryChangeEvent> changes);
+
+    Optional<ProductSnapshot> findSnapshot(Long productId);
+
+    Map<Long, ProductSnapshot> findSnapshots(Collection<Long> productIds);
+}
@@ -2,9 +2,12 @@ package com.example.productservice.service;
 
 import com.example.productservice.dto.ProductDto;
 import com.example.productservice.model.Product;
+import com.example.productservice.request.ProductFacetRequest;
 import com.example.productservice.request.ProductRequest;
 import com.example.productservice.response.ApiResponse;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface ProductService {
@@ -17,8 +20,24 @@ public interface ProductService {
 
     ApiResponse getProductById(Long productId);
 
-    ApiResponse getAllProducts();
+    ApiResponse getProductById(Long productId, String include);
+
+    ApiResponse productExists(Long productId);
+
+    ApiResponse getAllProducts(Long afterId, Integer size);
+
+    ApiResponse getAllProducts(Long afterId, Integer size, String include);
+
+    void streamAllProducts(OutputStream outputStream) throws IOException;
+
+    ApiResponse searchProducts(String query, Integer limit);
+
+    ApiResponse facetProducts(ProductFacetRequest facetRequest);
+
     ApiResponse findAvailableProductsByCategory(String categoryName, String sortBy);
 
+    // The same listing as serialized JSON, served from the category listing cache
+    byte[] findAvailableProductsByCategoryJson(String categoryName, String sortBy);
+
     ApiResponse<List<ProductDto>> getProductsByCategory(String categoryName);
 }
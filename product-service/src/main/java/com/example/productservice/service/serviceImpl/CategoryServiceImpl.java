@@ -1,13 +1,15 @@
 package com.example.productservice.service.serviceImpl;
 
+import com.example.productservice.cache.CategoryCache;
+import com.example.productservice.cache.CategoryListingCache;
 import com.example.productservice.dto.CategoryDto;
 import com.example.productservice.exception.ResourceNotFoundException;
+import com.example.productservice.mapper.CategoryMapper;
 import com.example.productservice.model.Category;
 import com.example.productservice.repository.CategoryRepository;
 import com.example.productservice.request.CategoryRequest;
 import com.example.productservice.response.ApiResponse;
 import com.example.productservice.service.CategoryService;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,7 +28,13 @@ public class CategoryServiceImpl implements CategoryService {
     private CategoryRepository categoryRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private CategoryCache categoryCache;
+
+    @Autowired
+    private CategoryListingCache categoryListingCache;
+
+    @Autowired
+    private CategoryMapper categoryMapper;
     @Override
     @Transactional
     public ApiResponse createCategory(CategoryRequest categoryRequest) {
@@ -34,14 +42,16 @@ public class CategoryServiceImpl implements CategoryService {
         try {
             logger.info("Creating category: {} | TraceId: {}", categoryRequest.getName(), traceId);
 
-            // Map CategoryRequest to Category entity using ModelMapper
-            Category category = modelMapper.map(categoryRequest, Category.class);
+            // Map CategoryRequest to Category entity
+            Category category = categoryMapper.toEntity(categoryRequest);
 
             // Save category to the database
             Category savedCategory = categoryRepository.save(category);
+            categoryCache.invalidateAll();
+            categoryListingCache.invalidateAll();
 
             // Convert saved Category to CategoryDto
-            CategoryDto categoryDto = modelMapper.map(savedCategory, CategoryDto.class);
+            CategoryDto categoryDto = categoryMapper.toDto(savedCategory);
 
             logger.info("Category created successfully with ID: {} | TraceId: {}", savedCategory.getId(), traceId);
 
@@ -57,7 +67,7 @@ public class CategoryServiceImpl implements CategoryService {
     public ApiResponse getCategoryById(Long categoryId) {
         String traceId = UUID.randomUUID().toString();
         try {
-            Category category = categoryRepository.findById(categoryId)
+            Category category = categoryCache.findById(categoryId)
                     .orElseThrow(() -> new ResourceNotFoundException("Category not found with ID: " + categoryId));
 
             logger.info("Category retrieved successfully with ID: {} | TraceId: {}", categoryId, traceId);
@@ -87,13 +97,13 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     public Category getCategoryByName(String categoryName) {
-            return categoryRepository.findByName(categoryName)
+            return categoryCache.findByName(categoryName)
                     .orElseThrow(() -> new RuntimeException("Category not found: " + categoryName));
 
     }
 
     @Override
     public Category findById(Long category) {
-        return categoryRepository.findById(category).orElseThrow();
+        return categoryCache.findById(category).orElseThrow();
     }
 }
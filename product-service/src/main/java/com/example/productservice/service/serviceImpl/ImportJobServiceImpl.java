@@ -0,0 +1,118 @@
+package com.example.productservice.service.serviceImpl;
+
+import com.example.productservice.dto.ImportJobDto;
+import com.example.productservice.exception.ResourceNotFoundException;
+import com.example.productservice.mapper.ImportJobMapper;
+import com.example.productservice.mapper.ProductCsvParser;
+import com.example.productservice.model.ImportJob;
+import com.example.productservice.repository.ImportJobRepository;
+import com.example.productservice.response.ApiResponse;
+import com.example.productservice.scheduler.ImportJobWorker;
+import com.example.productservice.service.ImportJobService;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * Accepts CSV imports too large for one request: the upload is streamed to
+ * product.import.jobs.directory, its header checked, and a PENDING job recorded for
+ * {@link ImportJobWorker}, which is nudged to start it straight away if a worker is free.
+ * The directory must outlive restarts, since a resumed job reopens its file; it defaults to
+ * import-jobs under the working directory rather than the temp dir, and startup fails if it
+ * cannot be created.
+ */
+@Service
+public class ImportJobServiceImpl implements ImportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportJobServiceImpl.class);
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private ImportJobMapper importJobMapper;
+
+    @Autowired
+    private ProductCsvParser productCsvParser;
+
+    @Autowired
+    private ImportJobWorker importJobWorker;
+
+    @Value("${product.import.jobs.directory:import-jobs}")
+    private String directory;
+
+    private Path jobDirectory;
+
+    @PostConstruct
+    public void createJobDirectory() throws IOException {
+        jobDirectory = Files.createDirectories(Path.of(directory).toAbsolutePath());
+        logger.info("Import job files are kept in {}", jobDirectory);
+    }
+
+    @Override
+    public ApiResponse<ImportJobDto> submitJob(String fileName, InputStream csv) {
+        String traceId = UUID.randomUUID().toString();
+        Path file = null;
+        try {
+            file = jobDirectory.resolve(UUID.randomUUID() + ".csv");
+            long bytes = Files.copy(csv, file);
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                productCsvParser.open(reader); // Reject a bad header now rather than in the background
+            }
+
+            ImportJob importJob = importJobRepository.save(ImportJob.builder()
+                    .fileName(fileName == null ? file.getFileName().toString() : fileName)
+                    .filePath(file.toAbsolutePath().toString())
+                    .status(ImportJob.Status.PENDING)
+                    .build());
+            logger.info("[{}] Import job {} submitted for {} ({} bytes)", traceId, importJob.getId(), importJob.getFileName(), bytes);
+            importJobWorker.dispatch();
+
+            return ApiResponse.success(importJobMapper.toDto(importJob), "Import job submitted", traceId, HttpStatus.ACCEPTED);
+        } catch (IllegalArgumentException ex) {
+            logger.error("[{}] Rejected import job for {}: {}", traceId, fileName, ex.getMessage());
+            deleteQuietly(file);
+            return ApiResponse.failure("Invalid CSV: " + ex.getMessage(), traceId, HttpStatus.BAD_REQUEST);
+        } catch (IOException ex) {
+            logger.error("[{}] Could not store import file {}: {}", traceId, fileName, ex.getMessage());
+            deleteQuietly(file);
+            return ApiResponse.failure("Could not store import file", traceId, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    public ApiResponse<ImportJobDto> getJob(Long jobId) {
+        String traceId = UUID.randomUUID().toString();
+        try {
+            ImportJob importJob = importJobRepository.findById(jobId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Import job not found with ID: " + jobId));
+            return ApiResponse.success(importJobMapper.toDto(importJob), "Import job retrieved successfully", traceId, HttpStatus.OK);
+        } catch (ResourceNotFoundException ex) {
+            logger.error("[{}] {}", traceId, ex.getMessage());
+            return ApiResponse.failure(ex.getMessage(), traceId, HttpStatus.NOT_FOUND);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            logger.warn("Could not delete import file {}: {}", file, ex.getMessage());
+        }
+    }
+}
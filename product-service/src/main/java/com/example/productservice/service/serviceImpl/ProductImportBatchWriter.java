@@ -0,0 +1,200 @@
+package com.example.productservice.service.serviceImpl;
+
+import com.example.productservice.dto.ProductImportResultDto.Row;
+import com.example.productservice.dto.ProductImportResultDto.Status;
+import com.example.productservice.event.ProductChangedEvent;
+import com.example.productservice.mapper.ProductMapper;
+import com.example.productservice.model.Category;
+import com.example.productservice.model.Product;
+import com.example.productservice.repository.CategoryRepository;
+import com.example.productservice.repository.ProductRepository;
+import com.example.productservice.request.ProductRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Writes one batch of imported products in its own transaction, with one duplicate-name query,
+ * one lookup for categories not seen earlier in the import, and JDBC-batched inserts. Shared by
+ * the synchronous import and the background import jobs.
+ */
+@Component
+public class ProductImportBatchWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductImportBatchWriter.class);
+
+    public record BatchResult(List<Row> rows, boolean committed) {
+    }
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${product.import.batch-size:500}")
+    private int batchSize = 500;
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Writes the batch and reports one row per request, numbered from firstRow (0-based).
+     * {@code categories} carries categories across the batches of one import (null values: known
+     * missing). {@code beforeCommit} runs inside the batch transaction with the batch's rows, so
+     * state recorded there commits or rolls back with the products; an exception it throws fails
+     * the batch. If the transaction does not commit, rows that passed validation come back FAILED.
+     */
+    public BatchResult write(List<ProductRequest> batch, long firstRow, Map<Long, Category> categories,
+                             Consumer<List<Row>> beforeCommit) {
+        // Rows failing checks that need no database access are settled before the transaction.
+        // Names repeated across batches are caught by the existing-name query, as earlier batches have committed
+        Row[] rows = new Row[batch.size()];
+        Set<String> names = new HashSet<>();
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            ProductRequest request = batch.get(i);
+            long rowNumber = firstRow + i;
+            if (request == null) {
+                rows[i] = row(rowNumber, null, Status.INVALID, null, "Row could not be read");
+                continue;
+            }
+            String violations = violations(request);
+            if (violations != null) {
+                rows[i] = row(rowNumber, request.getName(), Status.INVALID, null, violations);
+            } else if (!names.add(nameKey(request.getName()))) {
+                rows[i] = row(rowNumber, request.getName(), Status.DUPLICATE, null, "Duplicate name earlier in this import");
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                Row[] written = rows.clone();
+                if (!candidates.isEmpty()) {
+                    insert(batch, firstRow, candidates, categories, written);
+                }
+                beforeCommit.accept(Arrays.asList(written));
+                System.arraycopy(written, 0, rows, 0, rows.length);
+            });
+            return new BatchResult(Arrays.asList(rows), true);
+        } catch (RuntimeException ex) {
+            logger.error("Import batch of rows {}-{} failed: {}", firstRow + 1, firstRow + batch.size(), ex.getMessage());
+            for (Integer i : candidates) {
+                rows[i] = row(firstRow + i, batch.get(i).getName(), Status.FAILED, null, "Batch could not be written");
+            }
+            return new BatchResult(Arrays.asList(rows), false);
+        }
+    }
+
+    private void insert(List<ProductRequest> batch, long firstRow, List<Integer> candidates,
+                        Map<Long, Category> categories, Row[] rows) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        Set<String> existingNames = productRepository.findExistingNames(
+                        candidates.stream().map(i -> batch.get(i).getName()).toList())
+                .stream().map(ProductImportBatchWriter::nameKey).collect(Collectors.toSet());
+        loadCategories(candidates.stream().map(i -> batch.get(i).getCategory()).collect(Collectors.toSet()), categories);
+
+        Map<Integer, Product> pending = new HashMap<>();
+        for (Integer i : candidates) {
+            ProductRequest request = batch.get(i);
+            Category category = categories.get(request.getCategory());
+            if (existingNames.contains(nameKey(request.getName()))) {
+                rows[i] = row(firstRow + i, request.getName(), Status.DUPLICATE, null, "Product with the same name already exists");
+            } else if (category == null) {
+                rows[i] = row(firstRow + i, request.getName(), Status.CATEGORY_NOT_FOUND, null,
+                        "Category not found with ID: " + request.getCategory());
+            } else {
+                Product product = productMapper.toEntity(request);
+                product.setCategory(category);
+                entityManager.persist(product);
+                pending.put(i, product);
+            }
+        }
+        entityManager.flush();
+
+        pending.forEach((i, product) -> {
+            rows[i] = row(firstRow + i, product.getName(), Status.CREATED, product.getId(), null);
+            eventPublisher.publishEvent(ProductChangedEvent.upserted(productMapper.toDto(product)));
+        });
+        entityManager.clear();
+    }
+
+    // The entity is checked too: its size limits are not on the request, and would otherwise fail the whole batch at flush
+    private String violations(ProductRequest request) {
+        Set<ConstraintViolation<?>> violations = new HashSet<>(validator.validate(request));
+        if (violations.isEmpty()) {
+            violations.addAll(validator.validate(productMapper.toEntity(request)));
+        }
+        return violations.isEmpty() ? null : violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    // Categories are looked up once per import; detached instances are fine as insert references
+    private void loadCategories(Set<Long> categoryIds, Map<Long, Category> categories) {
+        List<Long> unknown = categoryIds.stream()
+                .filter(id -> !categories.containsKey(id))
+                .toList();
+        if (unknown.isEmpty()) {
+            return;
+        }
+        Map<Long, Category> found = new HashMap<>();
+        categoryRepository.findAllById(unknown).forEach(category -> found.put(category.getId(), category));
+        unknown.forEach(id -> categories.put(id, found.get(id)));
+    }
+
+    // Names compare case-insensitively, like the unique index under MySQL's default collation
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static Row row(long index, String name, Status status, Long productId, String message) {
+        return Row.builder()
+                .row((int) (index + 1))
+                .name(name)
+                .status(status)
+                .productId(productId)
+                .message(message)
+                .build();
+    }
+}
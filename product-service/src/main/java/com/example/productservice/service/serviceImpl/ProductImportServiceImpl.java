@@ -0,0 +1,91 @@
+package com.example.productservice.service.serviceImpl;
+
+import com.example.productservice.dto.ProductImportResultDto;
+import com.example.productservice.dto.ProductImportResultDto.Row;
+import com.example.productservice.dto.ProductImportResultDto.Status;
+import com.example.productservice.mapper.ProductCsvParser;
+import com.example.productservice.model.Category;
+import com.example.productservice.request.ProductRequest;
+import com.example.productservice.response.ApiResponse;
+import com.example.productservice.service.ProductImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bulk product creation within the request. Rows are written in batches of product.import.batch-size
+ * by {@link ProductImportBatchWriter}; a batch that fails to write is reported row by row and does
+ * not stop the batches after it. Imports too large for one request go through import jobs instead.
+ */
+@Service
+public class ProductImportServiceImpl implements ProductImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductImportServiceImpl.class);
+
+    @Autowired
+    private ProductImportBatchWriter batchWriter;
+
+    @Autowired
+    private ProductCsvParser productCsvParser;
+
+    @Value("${product.import.max-rows:100000}")
+    private int maxRows = 100000;
+
+    @Override
+    public ApiResponse<ProductImportResultDto> importProducts(List<ProductRequest> products) {
+        String traceId = UUID.randomUUID().toString();
+        if (products == null || products.isEmpty()) {
+            return ApiResponse.failure("No products to import", traceId, HttpStatus.BAD_REQUEST);
+        }
+        if (products.size() > maxRows) {
+            return ApiResponse.failure("At most " + maxRows + " products can be imported at once", traceId, HttpStatus.BAD_REQUEST);
+        }
+
+        long startedAt = System.currentTimeMillis();
+        int batchSize = batchWriter.getBatchSize();
+        logger.info("[{}] Importing {} products in batches of {}", traceId, products.size(), batchSize);
+        List<Row> rows = new ArrayList<>(products.size());
+        Map<Long, Category> categories = new HashMap<>();
+        for (int from = 0; from < products.size(); from += batchSize) {
+            List<ProductRequest> batch = products.subList(from, Math.min(from + batchSize, products.size()));
+            rows.addAll(batchWriter.write(batch, from, categories, batchRows -> { }).rows());
+        }
+
+        int created = (int) rows.stream().filter(row -> row.getStatus() == Status.CREATED).count();
+        ProductImportResultDto result = ProductImportResultDto.builder()
+                .total(rows.size())
+                .created(created)
+                .failed(rows.size() - created)
+                .rows(rows)
+                .build();
+        logger.info("[{}] Imported {} of {} products in {} ms", traceId, created, rows.size(), System.currentTimeMillis() - startedAt);
+        return ApiResponse.success(result, "Imported " + created + " of " + rows.size() + " products", traceId, HttpStatus.OK);
+    }
+
+    @Override
+    public ApiResponse<ProductImportResultDto> importProductsCsv(InputStream csv) {
+        List<ProductRequest> products;
+        try {
+            // One row past the cap is enough to reject an oversized upload without reading the rest of it
+            products = productCsvParser.open(new InputStreamReader(csv, StandardCharsets.UTF_8)).next(maxRows + 1);
+        } catch (IllegalArgumentException | IOException ex) {
+            String traceId = UUID.randomUUID().toString();
+            logger.error("[{}] Could not read product import CSV: {}", traceId, ex.getMessage());
+            return ApiResponse.failure("Invalid CSV: " + ex.getMessage(), traceId, HttpStatus.BAD_REQUEST);
+        }
+        return importProducts(products);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.productservice.service.serviceImpl;
+
+import com.example.productservice.dto.InventoryChangeEvent;
+import com.example.productservice.dto.PriceChangeEvent;
+import com.example.productservice.event.ProductSnapshotChangedEvent;
+import com.example.productservice.model.ProductSnapshot;
+import com.example.productservice.repository.ProductSnapshotRepository;
+import com.example.productservice.response.ApiResponse;
+import com.example.productservice.service.ProductProjectionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+@Service
+public class ProductProjectionServiceImpl implements ProductProjectionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductProjectionServiceImpl.class);
+
+    @Autowired
+    private ProductSnapshotRepository productSnapshotRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public ApiResponse applyPriceChanges(List<PriceChangeEvent> changes) {
+        String traceId = UUID.randomUUID().toString();
+        Set<Long> changed = new LinkedHashSet<>();
+        for (PriceChangeEvent change : changes) {
+            // Outbox delivery is at-least-once and unordered across retries; keep the newest value
+            if (applyIfNewer(change.getProductId(), change.getChangedAt(),
+                    () -> productSnapshotRepository.updatePriceIfNewer(change.getProductId(), change.getPrice(), change.getChangedAt()))) {
+                changed.add(change.getProductId());
+            }
+        }
+        publishChanges(changed);
+
+        log.info("[{}] Applied price changes to {} of {} products in the read model", traceId, changed.size(), changes.size());
+        return ApiResponse.success(changed.size(), "Price changes applied", traceId, HttpStatus.OK);
+    }
+
+    @Override
+    @Transactional
+    public ApiResponse applyInventoryChanges(List<InventoryChangeEvent> changes) {
+        String traceId = UUID.randomUUID().toString();
+        Set<Long> changed = new LinkedHashSet<>();
+        for (InventoryChangeEvent change : changes) {
+            if (applyIfNewer(change.getProductId(), change.getChangedAt(),
+                    () -> productSnapshotRepository.updateQuantityIfNewer(change.getProductId(), change.getQuantity(), change.getChangedAt()))) {
+                changed.add(change.getProductId());
+            }
+        }
+        publishChanges(changed);
+
+        log.info("[{}] Applied inventory changes to {} of {} products in the read model", traceId, changed.size(), changes.size());
+        return ApiResponse.success(changed.size(), "Inventory changes applied", traceId, HttpStatus.OK);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ProductSnapshot> findSnapshot(Long productId) {
+        return productSnapshotRepository.findById(productId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, ProductSnapshot> findSnapshots(Collection<Long> productIds) {
+        return productSnapshotRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(ProductSnapshot::getProductId, Function.identity()));
+    }
+
+    // The newer-than check runs in the UPDATE itself, so concurrent deliveries serialize on the row lock
+    // instead of racing a read-check-write. A product seen for the first time gets an empty row first
+    private boolean applyIfNewer(Long productId, LocalDateTime changedAt, IntSupplier update) {
+        if (changedAt == null) {
+            return false;
+        }
+        if (update.getAsInt() > 0) {
+            return true;
+        }
+        productSnapshotRepository.insertIfAbsent(productId);
+        return update.getAsInt() > 0;
+    }
+
+    // In-memory indexes pick these up after commit
+    private void publishChanges(Set<Long> changed) {
+        if (!changed.isEmpty()) {
+            eventPublisher.publishEvent(new ProductSnapshotChangedEvent(productSnapshotRepository.findAllById(changed)));
+        }
+    }
+}
@@ -1,35 +1,73 @@
 package com.example.productservice.service.serviceImpl;
 
+import com.example.productservice.cache.CategoryCache;
+import com.example.productservice.cache.CategoryListingCache;
+import com.example.productservice.cache.PriceCache;
+import com.example.productservice.cache.SingleFlight;
+import com.example.productservice.config.PricingServiceFeignFallback;
+import com.example.productservice.config.RequestDeadline;
+import com.example.productservice.exception.DeadlineExceededException;
 import com.example.productservice.exception.ResourceNotFoundException;
+import com.example.productservice.feignclient.HedgedRequestExecutor;
 import com.example.productservice.feignclient.InventoryServiceFeignClient;
 import com.example.productservice.feignclient.PricingServiceFeignClient;
+import com.example.productservice.mapper.ProductMapper;
 import com.example.productservice.model.Category;
 import com.example.productservice.model.Product;
-import com.example.productservice.repository.CategoryRepository;
+import com.example.productservice.model.ProductSnapshot;
 import com.example.productservice.repository.ProductRepository;
+import com.example.productservice.request.ProductFacetRequest;
+import com.example.productservice.request.ProductInclude;
 import com.example.productservice.request.ProductRequest;
 import com.example.productservice.response.ApiResponse;
 import com.example.productservice.response.InventoryResponse;
 import com.example.productservice.response.PriceResponse;
+import com.example.productservice.search.ProductFacetIndex;
+import com.example.productservice.search.ProductSearchIndex;
 import com.example.productservice.dto.ProductDto;
+import com.example.productservice.dto.ProductFacetResultDto;
+import com.example.productservice.dto.ProductPageDto;
+import com.example.productservice.dto.ProductSearchResultDto;
+import com.example.productservice.dto.ProductSummary;
+import com.example.productservice.event.ProductChangedEvent;
 import com.example.productservice.service.CategoryService;
+import com.example.productservice.service.ProductProjectionService;
 import com.example.productservice.service.ProductService;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.modelmapper.ModelMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 @Service
 public class ProductServiceImpl implements ProductService {
 
@@ -39,24 +77,97 @@ public class ProductServiceImpl implements ProductService {
     private ProductRepository productRepository;
 
     @Autowired
-    private CategoryRepository categoryRepository;
+    private ProductMapper productMapper;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private CategoryService categoryService;
 
     @Autowired
-    private CategoryService categoryService;
+    private CategoryCache categoryCache;
 
     @Autowired
     private PricingServiceFeignClient pricingServiceFeignClient;
 
+    @Autowired
+    private PricingServiceFeignFallback pricingServiceFeignFallback;
+
     @Autowired
     private InventoryServiceFeignClient inventoryServiceFeignClient;
 
+    @Autowired
+    @Qualifier("pricingHedger")
+    private HedgedRequestExecutor pricingHedger;
+
+    @Autowired
+    @Qualifier("inventoryHedger")
+    private HedgedRequestExecutor inventoryHedger;
+
+    @Autowired
+    private ProductProjectionService productProjectionService;
+
+    @Autowired
+    private PriceCache priceCache;
+
+    @Autowired
+    private CategoryListingCache categoryListingCache;
+
+    @Autowired
+    private SingleFlight<Long, ProductDto> productLoadSingleFlight;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private ProductFacetIndex productFacetIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    @Qualifier("enrichmentExecutor")
+    private Executor enrichmentExecutor;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${product.read-model.enabled:true}")
+    private boolean readModelEnabled = true;
+
+    @Value("${product.single-flight.enabled:true}")
+    private boolean singleFlightEnabled = true;
+
+    @Value("${product.enrichment.batch-size:200}")
+    private int enrichmentBatchSize = 200;
+
+    // The smaller of pricing.bulk-lookup.max-product-ids and inventory.bulk-lookup.max-product-ids
+    @Value("${product.enrichment.downstream-max-batch-size:500}")
+    private int downstreamMaxBatchSize = 500;
+
+    @Value("${product.catalog.default-page-size:50}")
+    private int defaultPageSize = 50;
+
+    @Value("${product.catalog.max-page-size:500}")
+    private int maxPageSize = 500;
+
+    @Value("${product.search.default-limit:20}")
+    private int defaultSearchLimit = 20;
+
+    @Value("${product.search.max-limit:100}")
+    private int maxSearchLimit = 100;
+
+
+
+    // A chunk above the downstream cap is rejected by pricing and inventory on every listing, so refuse to start
+    @PostConstruct
+    public void validateEnrichmentBatchSize() {
+        if (enrichmentBatchSize < 1 || enrichmentBatchSize > downstreamMaxBatchSize) {
+            throw new IllegalStateException("product.enrichment.batch-size must be between 1 and "
+                    + "product.enrichment.downstream-max-batch-size (" + downstreamMaxBatchSize + "), was " + enrichmentBatchSize);
+        }
+    }
 
     @Override
     @Transactional
@@ -73,11 +184,12 @@ public class ProductServiceImpl implements ProductService {
             Category category = categoryService.findById(productRequest.getCategory());
 
             // Map request to product entity
-            Product product = modelMapper.map(productRequest, Product.class);
+            Product product = productMapper.toEntity(productRequest);
             product.setCategory(category);
             // Save product
             Product savedProduct = productRepository.save(product);
-            ProductDto response = modelMapper.map(savedProduct, ProductDto.class);
+            ProductDto response = productMapper.toDto(savedProduct);
+            eventPublisher.publishEvent(ProductChangedEvent.upserted(response));
 
             return ApiResponse.success(response, "Product created successfully", traceId, HttpStatus.CREATED);
         } catch (ResourceNotFoundException ex) {
@@ -106,12 +218,13 @@ public class ProductServiceImpl implements ProductService {
             }
 
             // Map request to existing product
-            modelMapper.map(productRequest, existingProduct);
+            productMapper.updateEntity(productRequest, existingProduct);
             existingProduct.setUpdatedAt(LocalDateTime.now());
 
             // Save updated product
             Product updatedProduct = productRepository.save(existingProduct);
-            ProductDto response = modelMapper.map(updatedProduct, ProductDto.class);
+            ProductDto response = productMapper.toDto(updatedProduct);
+            eventPublisher.publishEvent(ProductChangedEvent.upserted(response));
 
             return ApiResponse.success(response, "Product updated successfully", traceId, HttpStatus.OK);
         } catch (ResourceNotFoundException ex) {
@@ -134,6 +247,8 @@ public class ProductServiceImpl implements ProductService {
 
             // Delete product
             productRepository.delete(product);
+            priceCache.invalidate(productId);
+            eventPublisher.publishEvent(ProductChangedEvent.deleted(productId));
 
             return ApiResponse.success(null, "Product deleted successfully", traceId, HttpStatus.OK);
         } catch (ResourceNotFoundException ex) {
@@ -146,21 +261,129 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    public ApiResponse getAllProducts() {
+    public ApiResponse getAllProducts(Long afterId, Integer size) {
+        return getAllProducts(afterId, size, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse getAllProducts(Long afterId, Integer size, String include) {
         String traceId = UUID.randomUUID().toString();
+        Set<ProductInclude> includes;
         try {
-            // Fetch all products
-            List<ProductDto> products = productRepository.findAll().stream()
-                    .map(product -> modelMapper.map(product, ProductDto.class))
+            // Listing pages have never carried price or stock, so they stay opt-in
+            includes = ProductInclude.parse(include, EnumSet.noneOf(ProductInclude.class));
+        } catch (IllegalArgumentException ex) {
+            log.error("[{}] Invalid include parameter: {}", traceId, ex.getMessage());
+            return ApiResponse.failure(ex.getMessage(), traceId, HttpStatus.BAD_REQUEST);
+        }
+        try {
+            int pageSize = (size == null || size <= 0) ? defaultPageSize : Math.min(size, maxPageSize);
+            long cursor = afterId == null ? 0L : afterId;
+
+            // Fetch one extra row to learn whether another page follows
+            List<Product> products = productRepository.findPageAfterId(cursor, PageRequest.of(0, pageSize + 1));
+            boolean hasMore = products.size() > pageSize;
+            if (hasMore) {
+                products = products.subList(0, pageSize);
+            }
+
+            List<ProductDto> items = products.stream()
+                    .map(product -> productMapper.toDto(product))
                     .collect(Collectors.toList());
+            if (!includes.isEmpty()) {
+                enrichWithPriceAndInventory(items, includes, traceId);
+            }
 
-            return ApiResponse.success(products, "Products retrieved successfully", traceId, HttpStatus.OK);
+            ProductPageDto page = ProductPageDto.builder()
+                    .items(items)
+                    .size(items.size())
+                    .hasMore(hasMore)
+                    .nextCursor(hasMore ? products.get(products.size() - 1).getId() : null)
+                    .build();
+
+            log.info("[{}] Retrieved {} products after ID {}", traceId, items.size(), cursor);
+            return ApiResponse.success(page, "Products retrieved successfully", traceId, HttpStatus.OK);
+        } catch (DeadlineExceededException ex) {
+            log.error("[{}] Deadline exceeded while fetching products: {}", traceId, ex.getMessage());
+            throw ex;
         } catch (Exception ex) {
-            log.error("[{}] Error fetching all products: {}", traceId, ex.getMessage(), ex);
+            log.error("[{}] Error fetching products: {}", traceId, ex.getMessage(), ex);
             return ApiResponse.failure("Failed to retrieve products", traceId, HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllProducts(OutputStream outputStream) throws IOException {
+        String traceId = UUID.randomUUID().toString();
+        log.info("[{}] Streaming product catalog", traceId);
+
+        ObjectWriter writer = objectMapper.writerFor(ProductDto.class);
+        long count = 0;
+        try (Stream<Product> products = productRepository.streamAll()) {
+            Iterator<Product> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                Product product = iterator.next();
+                outputStream.write(writer.writeValueAsBytes(productMapper.toDto(product)));
+                outputStream.write('\n');
+                // Detach each row so the persistence context stays flat regardless of catalog size
+                entityManager.detach(product);
+                count++;
+            }
+        }
+        outputStream.flush();
+        log.info("[{}] Streamed {} products", traceId, count);
+    }
+
+    @Override
+    public ApiResponse searchProducts(String query, Integer limit) {
+        String traceId = UUID.randomUUID().toString();
+        if (query == null || query.trim().isEmpty()) {
+            log.error("[{}] Search query is null or empty.", traceId);
+            return ApiResponse.failure("Search query must not be null or empty.", traceId, HttpStatus.BAD_REQUEST);
+        }
+        try {
+            int resultLimit = (limit == null || limit <= 0) ? defaultSearchLimit : Math.min(limit, maxSearchLimit);
+
+            // Served entirely from the in-memory index
+            ProductSearchResultDto result = productSearchIndex.search(query.trim(), resultLimit);
+
+            log.info("[{}] Search '{}' matched {} products, returning {}", traceId, query, result.getTotalHits(), result.getItems().size());
+            return ApiResponse.success(result, "Products searched successfully", traceId, HttpStatus.OK);
+        } catch (Exception ex) {
+            log.error("[{}] Error searching products: {}", traceId, ex.getMessage(), ex);
+            return ApiResponse.failure("Failed to search products", traceId, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    public ApiResponse facetProducts(ProductFacetRequest facetRequest) {
+        String traceId = UUID.randomUUID().toString();
+        if (facetRequest.getPage() < 0) {
+            log.error("[{}] Invalid facet page: {}", traceId, facetRequest.getPage());
+            return ApiResponse.failure("Page must not be negative.", traceId, HttpStatus.BAD_REQUEST);
+        }
+        if (facetRequest.getMinPrice() != null && facetRequest.getMaxPrice() != null
+                && facetRequest.getMinPrice() > facetRequest.getMaxPrice()) {
+            log.error("[{}] Invalid price range: {} - {}", traceId, facetRequest.getMinPrice(), facetRequest.getMaxPrice());
+            return ApiResponse.failure("minPrice must not be greater than maxPrice.", traceId, HttpStatus.BAD_REQUEST);
+        }
+        try {
+            int size = facetRequest.getSize();
+            facetRequest.setSize(size <= 0 ? defaultPageSize : Math.min(size, maxPageSize));
+
+            // Bitmap intersections over the in-memory facet index; no database access
+            ProductFacetResultDto result = productFacetIndex.query(facetRequest);
+
+            log.info("[{}] Facet query matched {} products, returning {}", traceId, result.getTotal(), result.getItems().size());
+            return ApiResponse.success(result, "Products filtered successfully", traceId, HttpStatus.OK);
+        } catch (Exception ex) {
+            log.error("[{}] Error filtering products: {}", traceId, ex.getMessage(), ex);
+            return ApiResponse.failure("Failed to filter products", traceId, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
     @Override
     public ApiResponse<List<ProductDto>> getProductsByCategory(String categoryName) {
         String traceId = UUID.randomUUID().toString(); // Generate a trace ID for tracking requests
@@ -174,17 +397,17 @@ public class ProductServiceImpl implements ProductService {
                 return ApiResponse.failure("Category not found with name: " + categoryName, traceId, HttpStatus.NOT_FOUND);
             }
 
-            // Fetch available products by category name
-            List<Product> products = productRepository.findAvailableProductsByCategoryName(categoryName);
+            // Fetch available products by category name, selecting only the columns the DTO carries
+            List<ProductSummary> products = productRepository.findSummariesByCategoryName(categoryName);
 
             if (products.isEmpty()) {
                 log.warn("No products available with sufficient inventory for category: {}", categoryName);
                 return ApiResponse.failure("No products available with sufficient inventory in the requested category.", traceId, HttpStatus.NOT_FOUND);
             }
 
-            // Map Product entities to ProductDto
+            // Map product summaries to ProductDto
             List<ProductDto> productDtos = products.stream()
-                    .map(product -> modelMapper.map(product, ProductDto.class))
+                    .map(product -> productMapper.toDto(product))
                     .toList();
 
             log.info("Products fetched successfully for category: {}", categoryName);
@@ -198,42 +421,151 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     public ApiResponse<ProductDto> getProductById(Long productId) {
+        return getProductById(productId, null);
+    }
+
+    @Override
+    public ApiResponse<ProductDto> getProductById(Long productId, String include) {
         String traceId = UUID.randomUUID().toString();
+        Set<ProductInclude> includes;
         try {
-            log.info("[{}] Fetching product details for Product ID: {}", traceId, productId);
-
-            // Fetch product from the database
-            Product product = productRepository.findById(productId)
-                    .orElseThrow(() -> {
-                        log.error("[{}] Product not found for Product ID: {}", traceId, productId);
-                        return new ResourceNotFoundException("Product not found with ID: " + productId);
-                    });
-
-            log.info("[{}] Product details retrieved successfully for Product ID: {}", traceId, productId);
-
-            // Create an empty ProductDto object to populate later
-            ProductDto productDto = modelMapper.map(product, ProductDto.class);
+            includes = ProductInclude.parse(include, EnumSet.allOf(ProductInclude.class));
+        } catch (IllegalArgumentException ex) {
+            log.error("[{}] Invalid include parameter: {}", traceId, ex.getMessage());
+            return ApiResponse.failure(ex.getMessage(), traceId, HttpStatus.BAD_REQUEST);
+        }
+        try {
+            log.info("[{}] Fetching product details for Product ID: {} | include: {}", traceId, productId, includes);
 
-            // Fetch price and inventory in parallel
-            CompletableFuture<Void> priceFuture = CompletableFuture.runAsync(() -> fetchPriceFromPricingService(productDto, productId, traceId));
-            CompletableFuture<Void> inventoryFuture = CompletableFuture.runAsync(() -> fetchInventoryFromInventoryService(productDto, productId, traceId));
+            // Concurrent full loads of the same product share one DB read and one set of downstream
+            // lookups; narrower loads are cheaper and are not coalesced with them
+            boolean fullLoad = includes.size() == ProductInclude.values().length;
+            ProductDto loaded = singleFlightEnabled && fullLoad
+                    ? loadCoalesced(productId, includes, traceId)
+                    : loadProduct(productId, includes, traceId);
 
-            // Wait for both futures to complete
-            CompletableFuture.allOf(priceFuture, inventoryFuture).join();
+            // Coalesced callers share the loaded instance, so each response gets its own copy
+            ProductDto productDto = copyOf(loaded);
 
             return ApiResponse.success(productDto, "Product retrieved successfully", traceId, HttpStatus.OK);
         } catch (ResourceNotFoundException ex) {
             log.error("[{}] Product not found: {}", traceId, ex.getMessage());
             return ApiResponse.failure(ex.getMessage(), traceId, HttpStatus.NOT_FOUND);
+        } catch (DeadlineExceededException ex) {
+            log.error("[{}] Deadline exceeded while fetching product details: {}", traceId, ex.getMessage());
+            throw ex;
         } catch (Exception ex) {
             log.error("[{}] Error while fetching product details: {}", traceId, ex.getMessage(), ex);
             return ApiResponse.failure("Failed to retrieve product details", traceId, HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    @Override
+    public ApiResponse productExists(Long productId) {
+        String traceId = UUID.randomUUID().toString();
+        try {
+            if (productRepository.existsById(productId)) {
+                return ApiResponse.success(true, "Product exists", traceId, HttpStatus.OK);
+            }
+            log.warn("[{}] Product not found for Product ID: {}", traceId, productId);
+            return ApiResponse.failure("Product not found with ID: " + productId, traceId, HttpStatus.NOT_FOUND);
+        } catch (Exception ex) {
+            log.error("[{}] Error while checking product existence: {}", traceId, ex.getMessage(), ex);
+            return ApiResponse.failure("Failed to check product existence", traceId, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // The shared load runs under the leader's deadline; a caller with budget left does not inherit its timeout
+    private ProductDto loadCoalesced(Long productId, Set<ProductInclude> includes, String traceId) {
+        try {
+            return productLoadSingleFlight.execute(productId, () -> loadProduct(productId, includes, traceId));
+        } catch (DeadlineExceededException ex) {
+            if (RequestDeadline.isExpired()) {
+                throw ex;
+            }
+            log.warn("[{}] Shared load of Product ID: {} ran out of time, loading it again", traceId, productId);
+            return loadProduct(productId, includes, traceId);
+        }
+    }
+
+    private ProductDto loadProduct(Long productId, Set<ProductInclude> includes, String traceId) {
+        // Fetch product from the database
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> {
+                    log.error("[{}] Product not found for Product ID: {}", traceId, productId);
+                    return new ResourceNotFoundException("Product not found with ID: " + productId);
+                });
+
+        log.info("[{}] Product details retrieved successfully for Product ID: {}", traceId, productId);
+
+        // Create an empty ProductDto object to populate later
+        ProductDto productDto = productMapper.toDto(product);
+
+        if (includes.isEmpty()) {
+            return productDto;
+        }
+
+        // Serve price and stock from the local read model; only missing halves go over the network
+        ProductSnapshot snapshot = readModelEnabled ? productProjectionService.findSnapshot(productId).orElse(null) : null;
+        List<CompletableFuture<Void>> lookups = new ArrayList<>(2);
+
+        if (!includes.contains(ProductInclude.PRICE)) {
+            log.debug("[{}] Price not requested for Product ID: {}", traceId, productId);
+        } else if (snapshot != null && snapshot.getPrice() != null) {
+            productDto.setPrice(snapshot.getPrice());
+        } else {
+            lookups.add(CompletableFuture.runAsync(() -> fetchPriceFromPricingService(productDto, productId, traceId), enrichmentExecutor));
+        }
+        if (!includes.contains(ProductInclude.INVENTORY)) {
+            log.debug("[{}] Inventory not requested for Product ID: {}", traceId, productId);
+        } else if (snapshot != null && snapshot.getQuantity() != null) {
+            productDto.setQuantityStatus(snapshot.getQuantity() > 0 ? "In Stock" : "Out of Stock");
+        } else {
+            lookups.add(CompletableFuture.runAsync(() -> fetchInventoryFromInventoryService(productDto, productId, traceId), enrichmentExecutor));
+        }
+
+        // Wait for any fallback lookups to complete
+        await(CompletableFuture.allOf(lookups.toArray(new CompletableFuture[0])));
+        return productDto;
+    }
+
+    private static ProductDto copyOf(ProductDto productDto) {
+        return new ProductDto(productDto.getId(), productDto.getName(), productDto.getBrand(), productDto.getDescription(),
+                productDto.getPrice(), productDto.isPriceStale(), productDto.getQuantityStatus(), productDto.getCategory());
+    }
+
     @Override
     public ApiResponse findAvailableProductsByCategory(String categoryName, String sortBy) {
+        return availableProductsByCategory(categoryName, sortBy, UUID.randomUUID().toString(), new HashSet<>());
+    }
+
+    @Override
+    public byte[] findAvailableProductsByCategoryJson(String categoryName, String sortBy) {
         String traceId = UUID.randomUUID().toString();
+        String order = "high".equalsIgnoreCase(sortBy) ? "high" : "low";
+        Function<String, CategoryListingCache.Build> builder = buildTraceId -> {
+            Set<Long> categoryProductIds = new HashSet<>();
+            ApiResponse<List<ProductDto>> response = availableProductsByCategory(categoryName, order, buildTraceId, categoryProductIds);
+            // A listing priced from the stale-price fallback is served but not cached
+            boolean cacheable = response.isSuccess() && response.getData().stream().noneMatch(ProductDto::isPriceStale);
+            return new CategoryListingCache.Build(response, categoryProductIds, cacheable);
+        };
+        String key = categoryName == null ? "" : categoryName;
+        try {
+            return categoryListingCache.get(key, order, traceId, builder);
+        } catch (DeadlineExceededException ex) {
+            // Rebuilds are shared, so the deadline that ran out may have been another caller's
+            if (RequestDeadline.isExpired()) {
+                throw ex;
+            }
+            log.warn("[{}] Shared listing build for category '{}' ran out of time, building it again", traceId, categoryName);
+            return categoryListingCache.get(key, order, traceId, builder);
+        }
+    }
+
+    // categoryProductIds receives every product of the category, including those filtered out as unavailable
+    private ApiResponse<List<ProductDto>> availableProductsByCategory(String categoryName, String sortBy, String traceId,
+                                                                      Set<Long> categoryProductIds) {
         try {
             log.info("[{}] Fetching available products for category: '{}'", traceId, categoryName);
 
@@ -245,7 +577,7 @@ public class ProductServiceImpl implements ProductService {
 
             categoryName = categoryName.trim();
             String finalCategoryName = categoryName;
-            Category category = categoryRepository.findByName(categoryName)
+            Category category = categoryCache.findByName(categoryName)
                     .orElseThrow(() -> new ResourceNotFoundException("Category '" + finalCategoryName + "' does not exist"));
 
 
@@ -257,29 +589,25 @@ public class ProductServiceImpl implements ProductService {
 
             // Fetch products by category
             List<Product> products = productRepository.findAvailableProductsByCategoryName(categoryName);
+            products.forEach(product -> categoryProductIds.add(product.getId()));
             if (products.isEmpty()) {
                 log.warn("[{}] No products found for category: '{}'.", traceId, categoryName);
                 throw new ResourceNotFoundException("No products found for category: " + categoryName);
             }
 
-            List<ProductDto> availableProducts = new ArrayList<>();
-
+            List<ProductDto> productDtos = new ArrayList<>(products.size());
             for (Product product : products) {
-                ProductDto productDto = modelMapper.map(product, ProductDto.class);
+                ProductDto productDto = productMapper.toDto(product);
                 productDto.setCategory(categoryName); // Set category name in ProductDto
+                productDtos.add(productDto);
+            }
 
-                CompletableFuture<Void> priceFuture = CompletableFuture.runAsync(() ->
-                        fetchPriceFromPricingService(productDto, product.getId(), traceId));
-
-                CompletableFuture<Void> inventoryFuture = CompletableFuture.runAsync(() ->
-                        fetchInventoryFromInventoryService(productDto, product.getId(), traceId));
-
-                CompletableFuture.allOf(priceFuture, inventoryFuture).join();
+            // One bulk call per downstream service (per chunk) instead of two calls per product
+            enrichWithPriceAndInventory(productDtos, EnumSet.allOf(ProductInclude.class), traceId);
 
-                if ("In Stock".equalsIgnoreCase(productDto.getQuantityStatus())) { // Safe comparison
-                    availableProducts.add(productDto);
-                }
-            }
+            List<ProductDto> availableProducts = productDtos.stream()
+                    .filter(productDto -> "In Stock".equalsIgnoreCase(productDto.getQuantityStatus())) // Safe comparison
+                    .collect(Collectors.toCollection(ArrayList::new));
 
             if (availableProducts.isEmpty()) {
                 log.warn("[{}] All products in category '{}' are out of stock.", traceId, categoryName);
@@ -298,6 +626,9 @@ public class ProductServiceImpl implements ProductService {
         } catch (ResourceNotFoundException ex) {
             log.error("[{}] Error: {}", traceId, ex.getMessage());
             return ApiResponse.failure(ex.getMessage(), traceId, HttpStatus.NOT_FOUND);
+        } catch (DeadlineExceededException ex) {
+            log.error("[{}] Deadline exceeded while fetching products: {}", traceId, ex.getMessage());
+            throw ex;
         } catch (Exception ex) {
             log.error("[{}] Error while fetching products: {}", traceId, ex.getMessage(), ex);
             return ApiResponse.failure("Failed to retrieve products", traceId, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -305,27 +636,211 @@ public class ProductServiceImpl implements ProductService {
     }
 
 
-    private void fetchPriceFromPricingService(ProductDto productDto, Long productId, String traceId) {
+    private void enrichWithPriceAndInventory(List<ProductDto> productDtos, Set<ProductInclude> includes, String traceId) {
+        List<Long> productIds = productDtos.stream().map(ProductDto::getId).toList();
+        Map<Long, Double> prices = new HashMap<>();
+        Map<Long, Integer> quantities = new HashMap<>();
+        boolean includePrice = includes.contains(ProductInclude.PRICE);
+        boolean includeInventory = includes.contains(ProductInclude.INVENTORY);
+
+        // Serve what the local read model already holds; only misses fall back to the downstream services
+        if (readModelEnabled) {
+            productProjectionService.findSnapshots(productIds).forEach((productId, snapshot) -> {
+                if (includePrice && snapshot.getPrice() != null) {
+                    prices.put(productId, snapshot.getPrice());
+                }
+                if (includeInventory && snapshot.getQuantity() != null) {
+                    quantities.put(productId, snapshot.getQuantity());
+                }
+            });
+        }
+        // Enrichments the caller did not ask for never reach the downstream services
+        List<Long> priceMisses = includePrice
+                ? productIds.stream().filter(id -> !prices.containsKey(id)).toList() : List.of();
+        List<Long> inventoryMisses = includeInventory
+                ? productIds.stream().filter(id -> !quantities.containsKey(id)).toList() : List.of();
+        if (readModelEnabled && (!priceMisses.isEmpty() || !inventoryMisses.isEmpty())) {
+            log.info("[{}] Read model missed {} prices and {} inventory records of {} products",
+                    traceId, priceMisses.size(), inventoryMisses.size(), productIds.size());
+        }
+
+        // Cached prices answer next; stale ones are served as-is and refreshed in the background
+        Set<Long> stalePrices = new HashSet<>();
+        if (!priceMisses.isEmpty()) {
+            List<Long> toRefresh = new ArrayList<>();
+            priceCache.lookupAll(priceMisses).forEach((productId, cached) -> {
+                prices.put(productId, cached.price());
+                if (cached.stale()) {
+                    stalePrices.add(productId);
+                    toRefresh.add(productId);
+                }
+            });
+            if (!toRefresh.isEmpty()) {
+                priceCache.refreshAsync(toRefresh, ids -> fetchPricesFromPricingService(ids, traceId));
+            }
+            priceMisses = priceMisses.stream().filter(id -> !prices.containsKey(id)).toList();
+        }
+
+        // Chunk very large categories so request URLs and downstream IN lists stay bounded
+        int missCount = Math.max(priceMisses.size(), inventoryMisses.size());
+        for (int from = 0; from < missCount; from += enrichmentBatchSize) {
+            CompletableFuture<Map<Long, Double>> priceFuture = fetchChunkAsync(priceMisses, from, chunk -> {
+                Map<Long, Double> fetched = fetchPricesFromPricingService(chunk, traceId);
+                priceCache.putAll(fetched);
+                return fetched;
+            });
+            CompletableFuture<Map<Long, Integer>> inventoryFuture = fetchChunkAsync(inventoryMisses, from,
+                    chunk -> fetchInventoriesFromInventoryService(chunk, traceId));
+
+            prices.putAll(await(priceFuture));
+            quantities.putAll(await(inventoryFuture));
+        }
+
+        // Anything pricing-service could not price falls back to its last known price, flagged stale
+        List<Long> unpriced = priceMisses.stream().filter(id -> !prices.containsKey(id)).toList();
+        if (!unpriced.isEmpty()) {
+            ApiResponse<List<PriceResponse>> lastKnown = pricingServiceFeignFallback.getPricesByProductIds(unpriced, "PRODUCT-SERVICE");
+            if (lastKnown != null && lastKnown.isSuccess() && lastKnown.getData() != null) {
+                for (PriceResponse price : lastKnown.getData()) {
+                    prices.put(price.getProductId(), price.getPrice());
+                    stalePrices.add(price.getProductId());
+                }
+                log.warn("[{}] Serving {} last known prices of {} unpriced products", traceId, lastKnown.getData().size(), unpriced.size());
+            }
+        }
+
+        for (ProductDto productDto : productDtos) {
+            Double price = prices.get(productDto.getId());
+            if (price != null) {
+                productDto.setPrice(price);
+                productDto.setPriceStale(stalePrices.contains(productDto.getId()));
+            }
+            Integer quantity = quantities.get(productDto.getId());
+            if (quantity != null) {
+                productDto.setQuantityStatus(quantity > 0 ? "In Stock" : "Out of Stock");
+            }
+        }
+    }
+
+    private <T> CompletableFuture<Map<Long, T>> fetchChunkAsync(List<Long> productIds, int from,
+                                                               Function<List<Long>, Map<Long, T>> fetcher) {
+        if (from >= productIds.size()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        List<Long> chunk = productIds.subList(from, Math.min(from + enrichmentBatchSize, productIds.size()));
+        return CompletableFuture.supplyAsync(() -> fetcher.apply(chunk), enrichmentExecutor);
+    }
+
+    // Lookups run on the enrichment executor; a deadline hit there surfaces as-is rather than wrapped
+    private static <T> T await(CompletableFuture<T> future) {
         try {
-            log.info("[{}] Fetching price from Pricing Service for Product ID: {}", traceId, productId);
-            ApiResponse<PriceResponse> priceResponse = pricingServiceFeignClient.getPriceByProductId(productId, "PRODUCT-SERVICE");
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof DeadlineExceededException deadlineExceeded) {
+                throw deadlineExceeded;
+            }
+            throw ex;
+        }
+    }
+
+    private Map<Long, Double> fetchPricesFromPricingService(List<Long> productIds, String traceId) {
+        Map<Long, Double> prices = new HashMap<>();
+        try {
+            log.info("[{}] Fetching prices from Pricing Service for {} Product IDs", traceId, productIds.size());
+            ApiResponse<List<PriceResponse>> priceResponse = pricingHedger.execute(
+                    () -> pricingServiceFeignClient.getPricesByProductIds(productIds, "PRODUCT-SERVICE"));
 
             if (priceResponse != null && priceResponse.isSuccess() && priceResponse.getData() != null) {
-                PriceResponse price = priceResponse.getData();
-                productDto.setPrice(price.getPrice());
-                log.info("[{}] Price successfully retrieved for Product ID: {}", traceId, productId);
+                for (PriceResponse price : priceResponse.getData()) {
+                    // Stale entries come from the fallback; they must not be cached as fresh
+                    if (price.getPrice() != null && !price.isStale()) {
+                        prices.put(price.getProductId(), price.getPrice());
+                    }
+                }
+                log.info("[{}] {} prices retrieved for {} Product IDs", traceId, prices.size(), productIds.size());
+            } else {
+                log.warn("[{}] Prices not found for {} Product IDs", traceId, productIds.size());
+            }
+        } catch (DeadlineExceededException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("[{}] Error while fetching prices for {} Product IDs. Error: {}", traceId, productIds.size(), e.getMessage(), e);
+        }
+        return prices;
+    }
+
+    private Map<Long, Integer> fetchInventoriesFromInventoryService(List<Long> productIds, String traceId) {
+        Map<Long, Integer> quantities = new HashMap<>();
+        try {
+            log.info("[{}] Fetching inventory from Inventory Service for {} Product IDs", traceId, productIds.size());
+            ApiResponse<List<InventoryResponse>> inventoryResponse = inventoryHedger.execute(
+                    () -> inventoryServiceFeignClient.getInventoriesByProductIds(productIds, "PRODUCT-SERVICE"));
+
+            if (inventoryResponse != null && inventoryResponse.isSuccess() && inventoryResponse.getData() != null) {
+                for (InventoryResponse inventory : inventoryResponse.getData()) {
+                    if (inventory.getQuantity() != null) {
+                        quantities.put(inventory.getProductId(), inventory.getQuantity());
+                    }
+                }
+                log.info("[{}] {} inventory records retrieved for {} Product IDs", traceId, quantities.size(), productIds.size());
             } else {
-                log.warn("[{}] Price not found for Product ID: {}", traceId, productId);
+                log.warn("[{}] Inventory not found for {} Product IDs", traceId, productIds.size());
+            }
+        } catch (DeadlineExceededException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("[{}] Error while fetching inventory for {} Product IDs. Error: {}", traceId, productIds.size(), e.getMessage(), e);
+        }
+        return quantities;
+    }
+
+    private void fetchPriceFromPricingService(ProductDto productDto, Long productId, String traceId) {
+        // A cached price answers without a remote call; a stale one is refreshed behind the response
+        PriceCache.CachedPrice cached = priceCache.lookup(productId);
+        if (cached != null) {
+            productDto.setPrice(cached.price());
+            productDto.setPriceStale(cached.stale());
+            if (cached.stale()) {
+                priceCache.refreshAsync(List.of(productId), ids -> fetchPricesFromPricingService(ids, traceId));
             }
+            return;
+        }
+
+        ApiResponse<PriceResponse> priceResponse = null;
+        try {
+            log.info("[{}] Fetching price from Pricing Service for Product ID: {}", traceId, productId);
+            priceResponse = pricingHedger.execute(
+                    () -> pricingServiceFeignClient.getPriceByProductId(productId, "PRODUCT-SERVICE"));
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("[{}] Error while fetching price for Product ID: {}. Error: {}", traceId, productId, e.getMessage(), e);
         }
+
+        // Pricing-service could not answer: fall back to the last known price
+        if (priceResponse == null || priceResponse.getHttpStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            priceResponse = pricingServiceFeignFallback.getPriceByProductId(productId, "PRODUCT-SERVICE");
+        }
+
+        if (priceResponse != null && priceResponse.isSuccess() && priceResponse.getData() != null
+                && priceResponse.getData().getPrice() != null) {
+            PriceResponse price = priceResponse.getData();
+            productDto.setPrice(price.getPrice());
+            productDto.setPriceStale(price.isStale());
+            if (!price.isStale()) {
+                priceCache.put(productId, price.getPrice());
+            }
+            log.info("[{}] Price successfully retrieved for Product ID: {}", traceId, productId);
+        } else {
+            log.warn("[{}] Price not found for Product ID: {}", traceId, productId);
+        }
     }
 
     private void fetchInventoryFromInventoryService(ProductDto productDto, Long productId, String traceId) {
         try {
             log.info("[{}] Fetching inventory from Inventory Service for Product ID: {}", traceId, productId);
-            ApiResponse<InventoryResponse> inventoryResponse = inventoryServiceFeignClient.getInventoryByProductId(productId, "PRODUCT-SERVICE");
+            ApiResponse<InventoryResponse> inventoryResponse = inventoryHedger.execute(
+                    () -> inventoryServiceFeignClient.getInventoryByProductId(productId, "PRODUCT-SERVICE"));
 
             if (inventoryResponse != null && inventoryResponse.isSuccess() && inventoryResponse.getData() != null) {
                 InventoryResponse inventory = inventoryResponse.getData();
@@ -338,6 +853,8 @@ public class ProductServiceImpl implements ProductService {
             } else {
                 log.warn("[{}] Inventory not found for Product ID: {}", traceId, productId);
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("[{}] Error while fetching inventory for Product ID: {}. Error: {}", traceId, productId, e.getMessage(), e);
         }
@@ -0,0 +1,32 @@
+-- Baseline schema, matching what ddl-auto=update previously generated for these entities.
+-- IF NOT EXISTS lets it run against databases that were created before Flyway was introduced.
+
+CREATE TABLE IF NOT EXISTS categories (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    name        VARCHAR(255),
+    description VARCHAR(255),
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS products (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    name        VARCHAR(100),
+    brand       VARCHAR(50),
+    description VARCHAR(500),
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    category_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_products_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE TABLE IF NOT EXISTS product_snapshot (
+    product_id          BIGINT NOT NULL,
+    price               DOUBLE,
+    price_updated_at    DATETIME(6),
+    quantity            INT,
+    quantity_updated_at DATETIME(6),
+    PRIMARY KEY (product_id)
+);
@@ -0,0 +1,9 @@
+-- createProduct rejects duplicate names, so findByName can be backed by a unique index.
+CREATE UNIQUE INDEX ux_products_name ON products (name);
+
+-- Category names are not deduplicated on create, so this one stays non-unique.
+-- (name, id) resolves p.category.name to ids from the index alone for findAvailableProductsByCategoryName.
+CREATE INDEX idx_categories_name_id ON categories (name, id);
+
+-- Drives the other side of that join: all products of a category, in id order.
+CREATE INDEX idx_products_category_id_id ON products (category_id, id);
@@ -0,0 +1,7 @@
+-- Backs the pooled-lo id generator on Product (a table, since MySQL has no sequences).
+-- Seeded past the existing ids so generated ids never collide with rows inserted under IDENTITY.
+CREATE TABLE product_seq (
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO product_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM products;
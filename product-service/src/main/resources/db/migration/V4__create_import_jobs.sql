@@ -0,0 +1,21 @@
+-- Background CSV imports; see ImportJobWorker.
+CREATE TABLE import_jobs (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    file_name      VARCHAR(255) NOT NULL,
+    file_path      VARCHAR(255) NOT NULL,
+    status         VARCHAR(20)  NOT NULL,
+    claim_token    VARCHAR(36),
+    processed_rows BIGINT       NOT NULL DEFAULT 0,
+    created_rows   BIGINT       NOT NULL DEFAULT 0,
+    rejected_rows  BIGINT       NOT NULL DEFAULT 0,
+    failed_rows    BIGINT       NOT NULL DEFAULT 0,
+    message        VARCHAR(255),
+    created_at     DATETIME(6),
+    updated_at     DATETIME(6),
+    started_at     DATETIME(6),
+    finished_at    DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+-- Drives the worker's poll for pending and stalled jobs.
+CREATE INDEX idx_import_jobs_status_updated_at ON import_jobs (status, updated_at);
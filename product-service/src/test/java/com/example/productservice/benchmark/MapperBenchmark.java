@@ -0,0 +1,112 @@
+package com.example.productservice.benchmark;
+
+import com.example.productservice.dto.ProductDto;
+import com.example.productservice.mapper.ProductMapper;
+import com.example.productservice.model.Category;
+import com.example.productservice.model.Product;
+import com.example.productservice.request.ProductRequest;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.PropertyMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hand-written mappers against the ModelMapper configuration they replaced.
+ * Run from the product-service directory after {@code mvn test-compile}:
+ * <pre>
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     com.example.productservice.benchmark.MapperBenchmark
+ * </pre>
+ * The GC profiler reports gc.alloc.rate.norm, i.e. bytes allocated per mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private ProductMapper productMapper;
+    private Product product;
+    private ProductRequest productRequest;
+
+    @Setup
+    public void setUp() {
+        modelMapper = legacyModelMapper();
+        productMapper = new ProductMapper();
+
+        Category category = new Category();
+        category.setId(3L);
+        category.setName("Electronics");
+
+        product = new Product();
+        product.setId(42L);
+        product.setName("Phone");
+        product.setBrand("Acme");
+        product.setDescription("A phone");
+        product.setCategory(category);
+
+        productRequest = new ProductRequest("Phone", "Acme", "A phone", 3L);
+    }
+
+    @Benchmark
+    public ProductDto modelMapperProductToDto() {
+        return modelMapper.map(product, ProductDto.class);
+    }
+
+    @Benchmark
+    public ProductDto productMapperToDto() {
+        return productMapper.toDto(product);
+    }
+
+    @Benchmark
+    public Product modelMapperRequestToEntity() {
+        return modelMapper.map(productRequest, Product.class);
+    }
+
+    @Benchmark
+    public Product productMapperToEntity() {
+        return productMapper.toEntity(productRequest);
+    }
+
+    // Same configuration the service used before switching to ProductMapper
+    private static ModelMapper legacyModelMapper() {
+        ModelMapper mapper = new ModelMapper();
+        mapper.addMappings(new PropertyMap<Product, ProductDto>() {
+            @Override
+            protected void configure() {
+                map().setId(source.getId());
+                map().setName(source.getName());
+                map().setBrand(source.getBrand());
+                map().setDescription(source.getDescription());
+                map().setCategory(source.getCategory().getName());
+            }
+        });
+        return mapper;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.productservice.cache;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.productservice.model.Category;
+import com.example.productservice.repository.CategoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public class CategoryCacheTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CategoryCache categoryCache;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        categoryCache = new CategoryCache(categoryRepository, meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    public void testFindByName_SecondLookupServedFromCache() {
+        // Arrange
+        when(categoryRepository.findByName("Electronics")).thenReturn(Optional.of(category(1L, "Electronics")));
+
+        // Act
+        Optional<Category> first = categoryCache.findByName("Electronics");
+        Optional<Category> second = categoryCache.findByName("Electronics");
+
+        // Assert
+        assertTrue(first.isPresent());
+        assertEquals(1L, second.get().getId());
+        verify(categoryRepository, times(1)).findByName("Electronics");
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "categoriesByName").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    public void testFindById_ReturnsCopiesWithoutProducts() {
+        // Arrange
+        when(categoryRepository.findById(1L)).thenReturn(Optional.of(category(1L, "Electronics")));
+
+        // Act
+        Category first = categoryCache.findById(1L).orElseThrow();
+        first.setName("Mutated");
+        Category second = categoryCache.findById(1L).orElseThrow();
+
+        // Assert
+        assertEquals("Electronics", second.getName());
+        assertTrue(second.getProducts().isEmpty());
+    }
+
+    @Test
+    public void testFindById_MissesAreNotCached() {
+        // Arrange
+        when(categoryRepository.findById(2L)).thenReturn(Optional.empty(), Optional.of(category(2L, "Books")));
+
+        // Act
+        Optional<Category> beforeCreate = categoryCache.findById(2L);
+        Optional<Category> afterCreate = categoryCache.findById(2L);
+
+        // Assert
+        assertTrue(beforeCreate.isEmpty());
+        assertTrue(afterCreate.isPresent());
+    }
+
+    @Test
+    public void testInvalidateAll_ReloadsFromRepository() {
+        // Arrange
+        when(categoryRepository.findByName("Electronics")).thenReturn(Optional.of(category(1L, "Electronics")));
+        categoryCache.findByName("Electronics");
+
+        // Act
+        categoryCache.invalidateAll();
+        categoryCache.findByName("Electronics");
+
+        // Assert
+        verify(categoryRepository, times(2)).findByName("Electronics");
+    }
+
+    private Category category(Long id, String name) {
+        Category category = new Category();
+        category.setId(id);
+        category.setName(name);
+        return category;
+    }
+}
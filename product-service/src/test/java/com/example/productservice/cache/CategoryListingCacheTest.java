@@ -0,0 +1,130 @@
+package com.example.productservice.cache;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.productservice.dto.ProductDto;
+import com.example.productservice.event.ProductChangedEvent;
+import com.example.productservice.event.ProductSnapshotChangedEvent;
+import com.example.productservice.model.ProductSnapshot;
+import com.example.productservice.response.ApiResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class CategoryListingCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private CategoryListingCache categoryListingCache;
+    private AtomicInteger builds;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        categoryListingCache = new CategoryListingCache(objectMapper, meterRegistry, 1_000_000, Duration.ofMinutes(1));
+        builds = new AtomicInteger();
+    }
+
+    @Test
+    public void testGet_HitServesCachedBytesWithOwnTraceId() throws Exception {
+        // Act
+        categoryListingCache.get("Electronics", "low", "11111111-1111-1111-1111-111111111111", listing(true));
+        byte[] body = categoryListingCache.get(" electronics ", "low", "22222222-2222-2222-2222-222222222222", listing(true));
+
+        // Assert
+        assertEquals(1, builds.get());
+        JsonNode json = objectMapper.readTree(body);
+        assertEquals("22222222-2222-2222-2222-222222222222", json.get("traceId").asText());
+        assertEquals("Phone", json.get("data").get(0).get("name").asText());
+        assertEquals(HttpStatus.OK.value(), json.get("httpStatus").asInt());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "categoryListings").tag("result", "hit").functionCounter().count());
+        assertEquals(1, meterRegistry.get("product.listing.cache.rebuild").timer().count());
+    }
+
+    @Test
+    public void testGet_FailureNotCached() throws Exception {
+        // Arrange
+        Function<String, CategoryListingCache.Build> notFound = traceId -> {
+            builds.incrementAndGet();
+            return new CategoryListingCache.Build(ApiResponse.failure("Category 'Toys' does not exist", traceId, HttpStatus.NOT_FOUND),
+                    Set.of(), false);
+        };
+
+        // Act
+        categoryListingCache.get("Toys", "low", "11111111-1111-1111-1111-111111111111", notFound);
+        byte[] body = categoryListingCache.get("Toys", "low", "22222222-2222-2222-2222-222222222222", notFound);
+
+        // Assert
+        assertEquals(2, builds.get());
+        JsonNode json = objectMapper.readTree(body);
+        assertFalse(json.get("success").asBoolean());
+        assertEquals("22222222-2222-2222-2222-222222222222", json.get("traceId").asText());
+    }
+
+    @Test
+    public void testOnSnapshotChanged_DropsListingsOfChangedProducts() {
+        // Arrange
+        categoryListingCache.get("Electronics", "low", "11111111-1111-1111-1111-111111111111", listing(true));
+        ProductSnapshot snapshot = ProductSnapshot.builder().productId(2L).quantity(5).build(); // Listed as out of stock
+
+        // Act
+        categoryListingCache.onSnapshotChanged(new ProductSnapshotChangedEvent(List.of(snapshot)));
+        categoryListingCache.get("Electronics", "low", "22222222-2222-2222-2222-222222222222", listing(true));
+
+        // Assert
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    public void testOnProductChanged_DropsListingsOfProductCategory() {
+        // Arrange
+        categoryListingCache.get("Electronics", "low", "11111111-1111-1111-1111-111111111111", listing(true));
+        categoryListingCache.get("Electronics", "high", "11111111-1111-1111-1111-111111111111", listing(true));
+        categoryListingCache.get("Books", "low", "11111111-1111-1111-1111-111111111111", listing(true));
+        ProductDto newProduct = new ProductDto(9L, "Tablet", "Brand", "Description", 0, false, null, "ELECTRONICS");
+
+        // Act
+        categoryListingCache.onProductChanged(ProductChangedEvent.upserted(newProduct));
+        categoryListingCache.get("Electronics", "low", "22222222-2222-2222-2222-222222222222", listing(true));
+        categoryListingCache.get("Electronics", "high", "22222222-2222-2222-2222-222222222222", listing(true));
+        categoryListingCache.get("Books", "low", "22222222-2222-2222-2222-222222222222", listing(true));
+
+        // Assert
+        assertEquals(5, builds.get());
+    }
+
+    @Test
+    public void testGet_BuildOverlappingInvalidationNotCached() {
+        // Arrange
+        Function<String, CategoryListingCache.Build> racing = traceId -> {
+            CategoryListingCache.Build build = listing(true).apply(traceId);
+            categoryListingCache.onProductChanged(ProductChangedEvent.deleted(1L));
+            return build;
+        };
+
+        // Act
+        categoryListingCache.get("Electronics", "low", "11111111-1111-1111-1111-111111111111", racing);
+        categoryListingCache.get("Electronics", "low", "22222222-2222-2222-2222-222222222222", listing(true));
+
+        // Assert
+        assertEquals(2, builds.get());
+    }
+
+    // Product 1 is listed; product 2 belongs to the category but is out of stock
+    private Function<String, CategoryListingCache.Build> listing(boolean cacheable) {
+        return traceId -> {
+            builds.incrementAndGet();
+            ProductDto phone = new ProductDto(1L, "Phone", "Brand", "Description", 99.0, false, "In Stock", "Electronics");
+            return new CategoryListingCache.Build(ApiResponse.success(List.of(phone), "Products retrieved successfully", traceId, HttpStatus.OK),
+                    Set.of(1L, 2L), cacheable);
+        };
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.productservice.cache;
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class PriceCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final List<Runnable> pendingRefreshes = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private PriceCache priceCache;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Refreshes are queued and run by the test so in-flight deduplication can be observed
+        priceCache = new PriceCache(meterRegistry, 100, Duration.ofSeconds(30), Duration.ofMinutes(5),
+                Duration.ofHours(1), pendingRefreshes::add, nanos::get);
+    }
+
+    @Test
+    public void testLookup_FreshEntryIsNotStale() {
+        // Arrange
+        priceCache.put(1L, 19.99);
+
+        // Act
+        PriceCache.CachedPrice cached = priceCache.lookup(1L);
+
+        // Assert
+        assertEquals(19.99, cached.price());
+        assertFalse(cached.stale());
+        assertNull(priceCache.lookup(2L));
+    }
+
+    @Test
+    public void testLookup_ExpiredEntryIsServedStaleWhileRevalidating() {
+        // Arrange
+        priceCache.put(1L, 19.99);
+        advance(Duration.ofSeconds(31));
+
+        // Act
+        PriceCache.CachedPrice cached = priceCache.lookup(1L);
+
+        // Assert
+        assertTrue(cached.stale());
+        assertEquals(19.99, cached.price());
+        assertEquals(1.0, meterRegistry.get("product.price.cache.served").tag("freshness", "stale").counter().count());
+    }
+
+    @Test
+    public void testLookup_BeyondStaleWindowOnlyLastKnown() {
+        // Arrange
+        priceCache.put(1L, 19.99);
+        advance(Duration.ofMinutes(10));
+
+        // Act
+        PriceCache.CachedPrice cached = priceCache.lookup(1L);
+        PriceCache.CachedPrice lastKnown = priceCache.lastKnown(1L);
+
+        // Assert
+        assertNull(cached);
+        assertEquals(19.99, lastKnown.price());
+        assertTrue(lastKnown.stale());
+        advance(Duration.ofHours(1));
+        assertNull(priceCache.lastKnown(1L));
+    }
+
+    @Test
+    public void testRefreshAsync_OneRefreshPerProductAndFailuresKeepLastKnown() {
+        // Arrange
+        priceCache.putAll(Map.of(1L, 19.99, 2L, 5.0));
+        advance(Duration.ofSeconds(31));
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        priceCache.refreshAsync(List.of(1L, 2L), ids -> {
+            loads.incrementAndGet();
+            return Map.of(1L, 24.99);
+        });
+        priceCache.refreshAsync(List.of(1L), ids -> {
+            loads.incrementAndGet();
+            return Map.of();
+        });
+        pendingRefreshes.forEach(Runnable::run);
+
+        // Assert
+        assertEquals(1, pendingRefreshes.size());
+        assertEquals(1, loads.get());
+        assertEquals(24.99, priceCache.lookup(1L).price());
+        assertFalse(priceCache.lookup(1L).stale());
+        assertEquals(5.0, priceCache.lookup(2L).price());
+        assertTrue(priceCache.lookup(2L).stale());
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
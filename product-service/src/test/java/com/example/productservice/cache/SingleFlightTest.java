@@ -0,0 +1,130 @@
+package com.example.productservice.cache;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.productservice.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<Long, String> singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>(meterRegistry, "test.load");
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testExecute_ConcurrentCallersShareOneLoad() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<String> loader = () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "product-1";
+        };
+
+        // Act
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute(1L, loader)));
+        waitUntil(() -> inFlight() == 1);
+        for (int i = 0; i < 5; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(1L, loader)));
+        }
+        waitUntil(() -> calls("follower") == 5);
+        release.countDown();
+
+        // Assert
+        for (Future<String> result : results) {
+            assertEquals("product-1", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1.0, calls("leader"));
+        assertEquals(5.0 / 6, meterRegistry.get("test.load.coalescing.ratio").gauge().value(), 1e-9);
+        assertEquals(0, inFlight());
+    }
+
+    @Test
+    public void testExecute_FollowersSeeLeaderException() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> loader = () -> {
+            await(release);
+            throw new ResourceNotFoundException("Product not found with ID: 1");
+        };
+
+        // Act
+        Future<String> leader = executor.submit(() -> singleFlight.execute(1L, loader));
+        waitUntil(() -> inFlight() == 1);
+        Future<String> follower = executor.submit(() -> singleFlight.execute(1L, loader));
+        waitUntil(() -> calls("follower") == 1);
+        release.countDown();
+
+        // Assert
+        Exception leaderFailure = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        Exception followerFailure = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ResourceNotFoundException.class, leaderFailure.getCause());
+        assertInstanceOf(ResourceNotFoundException.class, followerFailure.getCause());
+    }
+
+    @Test
+    public void testExecute_LoadsAgainOnceCompleted() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        singleFlight.execute(1L, () -> "v" + loads.incrementAndGet());
+        String second = singleFlight.execute(1L, () -> "v" + loads.incrementAndGet());
+
+        // Assert
+        assertEquals("v2", second);
+        assertEquals(2.0, calls("leader"));
+        assertEquals(0.0, calls("follower"));
+    }
+
+    private double calls(String role) {
+        return meterRegistry.get("test.load.calls").tag("role", role).counter().count();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("test.load.in.flight").gauge().value();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.get()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for condition");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.productservice.config;
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class EnrichmentTaskDecoratorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EnrichmentTaskDecorator decorator = new EnrichmentTaskDecorator(meterRegistry, "product.enrichment");
+
+    @AfterEach
+    public void tearDown() {
+        MDC.clear();
+        RequestDeadline.clear();
+    }
+
+    @Test
+    public void testDecorate_PropagatesMdcAndRecordsLatency() throws Exception {
+        // Arrange
+        MDC.put("traceId", "trace-123");
+        AtomicReference<String> seenTraceId = new AtomicReference<>();
+        Runnable task = decorator.decorate(() -> seenTraceId.set(MDC.get("traceId")));
+        MDC.clear();
+
+        // Act
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        worker.submit(task).get(5, TimeUnit.SECONDS);
+        worker.submit(() -> assertNull(MDC.get("traceId"))).get(5, TimeUnit.SECONDS);
+        worker.shutdown();
+
+        // Assert
+        assertEquals("trace-123", seenTraceId.get());
+        assertEquals(1, meterRegistry.get("product.enrichment.task.queue.wait").timer().count());
+        assertEquals(1, meterRegistry.get("product.enrichment.task.execution").timer().count());
+    }
+
+    @Test
+    public void testDecorate_PropagatesRequestDeadline() throws Exception {
+        // Arrange
+        RequestDeadline.start(60_000);
+        AtomicLong seenRemaining = new AtomicLong();
+        Runnable task = decorator.decorate(() -> seenRemaining.set(RequestDeadline.remainingMillis()));
+        RequestDeadline.clear();
+
+        // Act
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        worker.submit(task).get(5, TimeUnit.SECONDS);
+        worker.submit(() -> assertFalse(RequestDeadline.isSet())).get(5, TimeUnit.SECONDS);
+        worker.shutdown();
+
+        // Assert
+        assertTrue(seenRemaining.get() > 0 && seenRemaining.get() <= 60_000);
+    }
+}
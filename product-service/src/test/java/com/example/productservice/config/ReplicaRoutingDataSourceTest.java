@@ -0,0 +1,124 @@
+package com.example.productservice.config;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+public class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica0;
+
+    @Mock
+    private DataSource replica1;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replica0Connection;
+
+    @Mock
+    private Connection replica1Connection;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        MockitoAnnotations.openMocks(this);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica0.getConnection()).thenReturn(replica0Connection);
+        when(replica1.getConnection()).thenReturn(replica1Connection);
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica0, replica1), 5, Duration.ofSeconds(5));
+        routingDataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    public void testReadWriteAndNonTransactionalWorkUsesPrimary() throws Exception {
+        // Arrange
+        replicaLag(replica0Connection, 0L);
+        replicaLag(replica1Connection, 0L);
+        routingDataSource.checkReplicas();
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+    }
+
+    @Test
+    public void testReadOnlyTransactionsRoundRobinOverReplicas() throws Exception {
+        // Arrange
+        replicaLag(replica0Connection, 0L);
+        replicaLag(replica1Connection, 2L);
+        routingDataSource.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Connection first = routingDataSource.getConnection();
+        Connection second = routingDataSource.getConnection();
+
+        // Assert
+        assertNotSame(first, second);
+        assertTrue(List.of(replica0Connection, replica1Connection).containsAll(List.of(first, second)));
+    }
+
+    @Test
+    public void testLaggingOrStoppedReplicasFallBackToPrimary() throws Exception {
+        // Arrange
+        replicaLag(replica0Connection, 30L);
+        replicaLag(replica1Connection, null);
+        routingDataSource.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+    }
+
+    @Test
+    public void testReplicasUnusableUntilFirstCheck() throws Exception {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+    }
+
+    private static void replicaLag(Connection connection, Long lagSeconds) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Source")).thenReturn(lagSeconds == null ? 0L : lagSeconds);
+        when(resultSet.wasNull()).thenReturn(lagSeconds == null);
+    }
+}
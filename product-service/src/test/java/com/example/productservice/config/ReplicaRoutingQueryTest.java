@@ -0,0 +1,141 @@
+package com.example.productservice.config;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.productservice.dto.ProductSummary;
+import com.example.productservice.model.Category;
+import com.example.productservice.model.Product;
+import com.example.productservice.repository.CategoryRepository;
+import com.example.productservice.repository.ProductRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+// Drives the declared repository queries through the real routing stack: the "replica" is a mock
+// that passes the lag check and then hands out connections to the same H2 database, so every
+// connection it gives out is a read that was routed away from the primary
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(ReplicaRoutingQueryTest.RoutingConfig.class)
+public class ReplicaRoutingQueryTest {
+
+    private static final DataSource replica = mock(DataSource.class);
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @BeforeEach
+    public void setUp() {
+        Category category = new Category();
+        category.setName("Books");
+        category = categoryRepository.save(category);
+        Product product = new Product();
+        product.setName("Book 1");
+        product.setBrand("Brand");
+        product.setDescription("Description");
+        product.setCategory(category);
+        productRepository.save(product);
+        clearInvocations(replica);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    public void testFindSummariesByCategoryName_RoutedToReplica() throws Exception {
+        // Act
+        List<ProductSummary> summaries = productRepository.findSummariesByCategoryName("Books");
+
+        // Assert
+        assertEquals(1, summaries.size());
+        verify(replica).getConnection();
+    }
+
+    @Test
+    public void testFindAvailableProductsByCategoryName_RoutedToReplica() throws Exception {
+        // Act
+        List<Product> products = productRepository.findAvailableProductsByCategoryName("Books");
+
+        // Assert
+        assertEquals(1, products.size());
+        verify(replica).getConnection();
+    }
+
+    @Test
+    public void testFindPageAfterId_RoutedToReplica() throws Exception {
+        // Act
+        List<Product> products = productRepository.findPageAfterId(0L, PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(1, products.size());
+        verify(replica).getConnection();
+    }
+
+    @Test
+    public void testFindExistingNames_StaysOnPrimary() throws Exception {
+        // Act
+        List<String> names = productRepository.findExistingNames(List.of("Book 1"));
+
+        // Assert
+        assertEquals(List.of("Book 1"), names);
+        verify(replica, never()).getConnection();
+    }
+
+    @TestConfiguration
+    static class RoutingConfig {
+
+        @Bean(destroyMethod = "close", autowireCandidate = false)
+        public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties) throws Exception {
+            HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            ReplicaRoutingDataSource routingDataSource =
+                    new ReplicaRoutingDataSource(primary, List.of(replica), 5, Duration.ofSeconds(5));
+            routingDataSource.afterPropertiesSet();
+
+            Connection lagConnection = mock(Connection.class);
+            Statement statement = mock(Statement.class);
+            ResultSet resultSet = mock(ResultSet.class);
+            when(lagConnection.createStatement()).thenReturn(statement);
+            when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+            when(resultSet.next()).thenReturn(true);
+            when(resultSet.getLong("Seconds_Behind_Source")).thenReturn(0L);
+            when(replica.getConnection()).thenReturn(lagConnection);
+            routingDataSource.checkReplicas();
+
+            when(replica.getConnection()).thenAnswer(invocation -> primary.getConnection());
+            return routingDataSource;
+        }
+
+        @Bean
+        @Primary
+        public DataSource dataSource(DataSourceProperties dataSourceProperties) throws Exception {
+            return new LazyConnectionDataSourceProxy(replicaRoutingDataSource(dataSourceProperties));
+        }
+    }
+}
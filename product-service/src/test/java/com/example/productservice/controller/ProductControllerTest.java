@@ -3,8 +3,13 @@ import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.example.productservice.dto.ProductDto;
+import com.example.productservice.dto.ProductFacetResultDto;
+import com.example.productservice.dto.ProductImportResultDto;
+import com.example.productservice.dto.ProductSearchResultDto;
+import com.example.productservice.request.ProductFacetRequest;
 import com.example.productservice.request.ProductRequest;
 import com.example.productservice.response.ApiResponse;
+import com.example.productservice.service.ProductImportService;
 import com.example.productservice.service.ProductService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,7 +17,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
-
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,6 +33,9 @@ public class ProductControllerTest {
     @Mock
     private ProductService productService;
 
+    @Mock
+    private ProductImportService productImportService;
+
     @InjectMocks
     private ProductController productController;
 
@@ -29,6 +44,31 @@ public class ProductControllerTest {
         MockitoAnnotations.openMocks(this);
     }
 
+    // Test cases for import endpoints
+
+    @Test
+    public void testImportProductsCsv_PassesFileContent() throws Exception {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", "products.csv", "text/csv",
+                "name,brand,description,category\nLamp,Lumo,Bright,1\n".getBytes(StandardCharsets.UTF_8));
+        ApiResponse<ProductImportResultDto> expectedResponse = ApiResponse.success(
+                ProductImportResultDto.builder().total(1).created(1).failed(0).rows(List.of()).build(),
+                "Imported 1 of 1 products", UUID.randomUUID().toString(), HttpStatus.OK);
+        when(productImportService.importProductsCsv(any(InputStream.class))).thenAnswer(invocation -> {
+            InputStream csv = invocation.getArgument(0);
+            assertTrue(new String(csv.readAllBytes(), StandardCharsets.UTF_8).contains("Lamp,Lumo"));
+            return expectedResponse;
+        });
+
+        // Act
+        ApiResponse response = productController.importProductsCsv(file);
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        assertEquals("Imported 1 of 1 products", response.getMessage());
+        verify(productImportService).importProductsCsv(any(InputStream.class));
+    }
+
     // Test cases for createProduct endpoint
 
     @Test
@@ -44,7 +84,7 @@ public class ProductControllerTest {
         ApiResponse response = productController.createProduct(productRequest);
 
         // Assert
-        assertEquals(HttpStatus.CREATED, response.getHttpStatus());
+        assertEquals(HttpStatus.CREATED.value(), response.getHttpStatus());
         assertEquals("Product created successfully", response.getMessage());
         assertNotNull(response.getData());
     }
@@ -57,12 +97,8 @@ public class ProductControllerTest {
 
         when(productService.createProduct(productRequest)).thenThrow(new RuntimeException("Service Error"));
 
-        // Act
-        ApiResponse response = productController.createProduct(productRequest);
-
-        // Assert
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getHttpStatus());
-        assertTrue(response.getMessage().contains("Failed to create product"));
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> productController.createProduct(productRequest));
     }
 
     // Test cases for updateProduct endpoint
@@ -81,7 +117,7 @@ public class ProductControllerTest {
         ApiResponse response = productController.updateProduct(productId, productRequest);
 
         // Assert
-        assertEquals(HttpStatus.OK, response.getHttpStatus());
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
         assertEquals("Product updated successfully", response.getMessage());
         assertNotNull(response.getData());
     }
@@ -95,12 +131,8 @@ public class ProductControllerTest {
 
         when(productService.updateProduct(productId, productRequest)).thenThrow(new RuntimeException("Service Error"));
 
-        // Act
-        ApiResponse response = productController.updateProduct(productId, productRequest);
-
-        // Assert
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getHttpStatus());
-        assertTrue(response.getMessage().contains("Failed to update product"));
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> productController.updateProduct(productId, productRequest));
     }
 
     // Test cases for getProductById endpoint
@@ -112,13 +144,13 @@ public class ProductControllerTest {
         String serviceName = "PRODUCT-SERVICE";
 
         ApiResponse expectedResponse = ApiResponse.success(new ProductDto(), "Product retrieved successfully", UUID.randomUUID().toString(), HttpStatus.OK);
-        when(productService.getProductById(productId)).thenReturn(expectedResponse);
+        when(productService.getProductById(productId, null)).thenReturn(expectedResponse);
 
         // Act
-        ApiResponse response = productController.getProductById(productId, serviceName);
+        ApiResponse response = productController.getProductById(productId, null, serviceName);
 
         // Assert
-        assertEquals(HttpStatus.OK, response.getHttpStatus());
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
         assertEquals("Product retrieved successfully", response.getMessage());
         assertNotNull(response.getData());
     }
@@ -129,14 +161,25 @@ public class ProductControllerTest {
         Long productId = 1L;
         String serviceName = "PRODUCT-SERVICE";
 
-        when(productService.getProductById(productId)).thenThrow(new RuntimeException("Service Error"));
+        when(productService.getProductById(productId, null)).thenThrow(new RuntimeException("Service Error"));
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> productController.getProductById(productId, null, serviceName));
+    }
+
+    @Test
+    public void testProductExists_DelegatesToService() {
+        // Arrange
+        ApiResponse expectedResponse = ApiResponse.success(true, "Product exists", UUID.randomUUID().toString(), HttpStatus.OK);
+        when(productService.productExists(1L)).thenReturn(expectedResponse);
 
         // Act
-        ApiResponse response = productController.getProductById(productId, serviceName);
+        ApiResponse response = productController.productExists(1L, "PRICING-SERVICE");
 
         // Assert
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getHttpStatus());
-        assertTrue(response.getMessage().contains("Failed to retrieve product details"));
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        assertEquals(true, response.getData());
+        verify(productService, never()).getProductById(anyLong(), any());
     }
 
     // Test cases for getAllProducts endpoint
@@ -145,13 +188,13 @@ public class ProductControllerTest {
     public void testGetAllProducts_Success() {
         // Arrange
         ApiResponse expectedResponse = ApiResponse.success(List.of(new ProductDto()), "Products retrieved successfully", UUID.randomUUID().toString(), HttpStatus.OK);
-        when(productService.getAllProducts()).thenReturn(expectedResponse);
+        when(productService.getAllProducts(null, null, null)).thenReturn(expectedResponse);
 
         // Act
-        ApiResponse response = productController.getAllProducts();
+        ApiResponse response = productController.getAllProducts(null, null, null);
 
         // Assert
-        assertEquals(HttpStatus.OK, response.getHttpStatus());
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
         assertEquals("Products retrieved successfully", response.getMessage());
         assertNotNull(response.getData());
     }
@@ -159,14 +202,10 @@ public class ProductControllerTest {
     @Test
     public void testGetAllProducts_Exception() {
         // Arrange
-        when(productService.getAllProducts()).thenThrow(new RuntimeException("Service Error"));
-
-        // Act
-        ApiResponse response = productController.getAllProducts();
+        when(productService.getAllProducts(null, null, null)).thenThrow(new RuntimeException("Service Error"));
 
-        // Assert
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getHttpStatus());
-        assertTrue(response.getMessage().contains("Failed to retrieve products"));
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> productController.getAllProducts(null, null, null));
     }
 
     // Test cases for findAvailableProductsByCategory endpoint
@@ -177,16 +216,16 @@ public class ProductControllerTest {
         String categoryName = "Electronics";
         String priceRange = "low";
 
-        ApiResponse expectedResponse = ApiResponse.success(List.of(new ProductDto()), "Products retrieved successfully", UUID.randomUUID().toString(), HttpStatus.OK);
-        when(productService.findAvailableProductsByCategory(categoryName, priceRange)).thenReturn(expectedResponse);
+        byte[] listing = "{\"success\":true,\"message\":\"Products retrieved successfully\"}".getBytes(StandardCharsets.UTF_8);
+        when(productService.findAvailableProductsByCategoryJson(categoryName, priceRange)).thenReturn(listing);
 
         // Act
-        ApiResponse response = productController.findAvailableProductsByCategory(categoryName, priceRange);
+        ResponseEntity<byte[]> response = productController.findAvailableProductsByCategory(" " + categoryName + " ", priceRange);
 
         // Assert
-        assertEquals(HttpStatus.OK, response.getHttpStatus());
-        assertEquals("Products retrieved successfully", response.getMessage());
-        assertNotNull(response.getData());
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertSame(listing, response.getBody());
     }
 
     @Test
@@ -195,14 +234,10 @@ public class ProductControllerTest {
         String categoryName = "Electronics";
         String priceRange = "low";
 
-        when(productService.findAvailableProductsByCategory(categoryName, priceRange)).thenThrow(new RuntimeException("Service Error"));
-
-        // Act
-        ApiResponse response = productController.findAvailableProductsByCategory(categoryName, priceRange);
+        when(productService.findAvailableProductsByCategoryJson(categoryName, priceRange)).thenThrow(new RuntimeException("Service Error"));
 
-        // Assert
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getHttpStatus());
-        assertTrue(response.getMessage().contains("Failed to retrieve products"));
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> productController.findAvailableProductsByCategory(categoryName, priceRange));
     }
 
     // Test cases for getProductsByCategory endpoint
@@ -219,7 +254,7 @@ public class ProductControllerTest {
         ApiResponse response = productController.getProductsByCategory(categoryName);
 
         // Assert
-        assertEquals(HttpStatus.OK, response.getHttpStatus());
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
         assertEquals("Products fetched successfully", response.getMessage());
         assertNotNull(response.getData());
     }
@@ -231,11 +266,61 @@ public class ProductControllerTest {
 
         when(productService.getProductsByCategory(categoryName)).thenThrow(new RuntimeException("Service Error"));
 
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> productController.getProductsByCategory(categoryName));
+    }
+
+    // Test cases for searchProducts endpoint
+
+    @Test
+    public void testSearchProducts_DelegatesToService() {
+        // Arrange
+        ApiResponse expectedResponse = ApiResponse.success(new ProductSearchResultDto(), "Products searched successfully", UUID.randomUUID().toString(), HttpStatus.OK);
+        when(productService.searchProducts("phone", 5)).thenReturn(expectedResponse);
+
         // Act
-        ApiResponse response = productController.getProductsByCategory(categoryName);
+        ApiResponse response = productController.searchProducts("phone", 5);
+
+        // Assert
+        assertSame(expectedResponse, response);
+    }
+
+    // Test cases for facetProducts endpoint
+
+    @Test
+    public void testFacetProducts_BuildsRequestFromParameters() {
+        // Arrange
+        ProductFacetRequest expectedRequest = ProductFacetRequest.builder()
+                .brands(List.of("Acme"))
+                .minPrice(10.0)
+                .maxPrice(50.0)
+                .inStock(true)
+                .page(1)
+                .size(20)
+                .build();
+        ApiResponse expectedResponse = ApiResponse.success(new ProductFacetResultDto(), "Products filtered successfully", UUID.randomUUID().toString(), HttpStatus.OK);
+        when(productService.facetProducts(expectedRequest)).thenReturn(expectedResponse);
+
+        // Act
+        ApiResponse response = productController.facetProducts(List.of("Acme"), null, 10.0, 50.0, true, 1, 20);
+
+        // Assert
+        assertSame(expectedResponse, response);
+    }
+
+    // Test cases for streamAllProducts endpoint
+
+    @Test
+    public void testStreamAllProducts_WritesThroughService() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = productController.streamAllProducts();
+        response.getBody().writeTo(out);
 
         // Assert
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getHttpStatus());
-        assertTrue(response.getMessage().contains("Failed to fetch products"));
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        verify(productService, times(1)).streamAllProducts(out);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,60 @@
+package com.example.productservice.controller;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.productservice.dto.InventoryChangeEvent;
+import com.example.productservice.dto.PriceChangeEvent;
+import com.example.productservice.response.ApiResponse;
+import com.example.productservice.service.ProductProjectionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class ProjectionControllerTest {
+
+    @Mock
+    private ProductProjectionService productProjectionService;
+
+    @InjectMocks
+    private ProjectionController projectionController;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    public void testApplyPriceChanges_Success() {
+        // Arrange
+        List<PriceChangeEvent> changes = List.of(new PriceChangeEvent(1L, 10.0, LocalDateTime.now()));
+        ApiResponse expectedResponse = ApiResponse.success(1, "Price changes applied", UUID.randomUUID().toString(), HttpStatus.OK);
+        when(productProjectionService.applyPriceChanges(changes)).thenReturn(expectedResponse);
+
+        // Act
+        ApiResponse response = projectionController.applyPriceChanges(changes, "PRICING-SERVICE");
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        verify(productProjectionService, times(1)).applyPriceChanges(changes);
+    }
+
+    @Test
+    public void testApplyInventoryChanges_RejectsUnknownCaller() {
+        // Arrange
+        List<InventoryChangeEvent> changes = List.of(new InventoryChangeEvent(1L, 4, LocalDateTime.now()));
+
+        // Act
+        ApiResponse response = projectionController.applyInventoryChanges(changes, "PRICING-SERVICE");
+
+        // Assert
+        assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getHttpStatus());
+        verifyNoInteractions(productProjectionService);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.productservice.feignclient;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.example.productservice.config.RequestDeadline;
+import com.example.productservice.exception.DeadlineExceededException;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+public class DeadlineAwareClientTest {
+
+    @Mock
+    private Client delegate;
+
+    private DeadlineAwareClient client;
+
+    private final Request request = Request.create(Request.HttpMethod.GET, "http://PRICING-SERVICE/price",
+            Collections.emptyMap(), null, StandardCharsets.UTF_8, new RequestTemplate());
+    private final Request.Options options = new Request.Options(2, TimeUnit.SECONDS, 5, TimeUnit.SECONDS, true);
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        client = new DeadlineAwareClient(delegate);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    public void testExecute_WithoutDeadlineKeepsConfiguredOptions() throws Exception {
+        // Arrange
+        Response response = mock(Response.class);
+        when(delegate.execute(request, options)).thenReturn(response);
+
+        // Act
+        Response result = client.execute(request, options);
+
+        // Assert
+        assertSame(response, result);
+    }
+
+    @Test
+    public void testExecute_DeadlineShortensTimeoutsAndIsForwarded() throws Exception {
+        // Arrange
+        RequestDeadline.start(800);
+        ArgumentCaptor<Request> sentRequest = ArgumentCaptor.forClass(Request.class);
+        ArgumentCaptor<Request.Options> sentOptions = ArgumentCaptor.forClass(Request.Options.class);
+        when(delegate.execute(any(), any())).thenReturn(mock(Response.class));
+
+        // Act
+        client.execute(request, options);
+
+        // Assert
+        verify(delegate).execute(sentRequest.capture(), sentOptions.capture());
+        assertTrue(sentOptions.getValue().connectTimeoutMillis() <= 800);
+        assertTrue(sentOptions.getValue().readTimeoutMillis() <= 800);
+        long forwarded = Long.parseLong(sentRequest.getValue().headers().get(RequestDeadline.HEADER).iterator().next());
+        assertTrue(forwarded > 0 && forwarded <= 800);
+    }
+
+    @Test
+    public void testExecute_ExhaustedDeadlineFailsFast() throws Exception {
+        // Arrange
+        RequestDeadline.start(0);
+
+        // Act & Assert
+        assertThrows(DeadlineExceededException.class, () -> client.execute(request, options));
+        verify(delegate, never()).execute(any(), any());
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.productservice.feignclient;
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HedgedRequestExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testExecute_DisabledRunsOnCallerThread() {
+        // Arrange
+        HedgedRequestExecutor hedger = hedger(false, 10);
+        String caller = Thread.currentThread().getName();
+
+        // Act
+        String result = hedger.execute(() -> Thread.currentThread().getName());
+
+        // Assert
+        assertEquals(caller, result);
+    }
+
+    @Test
+    public void testExecute_SlowPrimaryIsHedgedAndCancelled() throws Exception {
+        // Arrange
+        HedgedRequestExecutor hedger = hedger(true, 10);
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch primaryInterrupted = new CountDownLatch(1);
+
+        // Act
+        String result = hedger.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    primaryInterrupted.countDown();
+                }
+                return "slow";
+            }
+            return "fast";
+        });
+
+        // Assert
+        assertEquals("fast", result);
+        assertTrue(primaryInterrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(1.0, meterRegistry.get("product.hedging.hedges").tag("client", "pricing").counter().count());
+        assertEquals(1.0, meterRegistry.get("product.hedging.wins").tag("client", "pricing").counter().count());
+    }
+
+    @Test
+    public void testExecute_EmptyBudgetWaitsForPrimary() {
+        // Arrange
+        HedgedRequestExecutor hedger = hedger(true, 0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        String result = hedger.execute(() -> {
+            attempts.incrementAndGet();
+            sleep(100);
+            return "slow";
+        });
+
+        // Assert
+        assertEquals("slow", result);
+        assertEquals(1, attempts.get());
+        assertEquals(1.0, meterRegistry.get("product.hedging.budget.exhausted").tag("client", "pricing").counter().count());
+    }
+
+    @Test
+    public void testExecute_FailedAttemptWaitsForTheOther() {
+        // Arrange
+        HedgedRequestExecutor hedger = hedger(true, 10);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        String result = hedger.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(50);
+                throw new IllegalStateException("Connection reset");
+            }
+            sleep(150);
+            return "ok";
+        });
+
+        // Assert
+        assertEquals("ok", result);
+    }
+
+    @Test
+    public void testExecute_FailureWithoutHedgeIsRethrown() {
+        // Arrange
+        HedgedRequestExecutor hedger = hedger(true, 10);
+
+        // Act & Assert
+        IllegalStateException failure = assertThrows(IllegalStateException.class, () -> hedger.execute(() -> {
+            throw new IllegalStateException("Connection refused");
+        }));
+        assertEquals("Connection refused", failure.getMessage());
+    }
+
+    // No latency samples yet, so the hedge delay is the 20 ms maximum
+    private HedgedRequestExecutor hedger(boolean enabled, int maxBudgetTokens) {
+        return new HedgedRequestExecutor("pricing", executor, meterRegistry, enabled, 0.95,
+                Duration.ofMillis(5), Duration.ofMillis(20), 0.05, maxBudgetTokens);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.productservice.mapper;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.productservice.dto.CategoryDto;
+import com.example.productservice.dto.ProductDto;
+import com.example.productservice.dto.ProductSummary;
+import com.example.productservice.model.Category;
+import com.example.productservice.model.Product;
+import com.example.productservice.request.CategoryRequest;
+import com.example.productservice.request.ProductRequest;
+import org.junit.jupiter.api.Test;
+
+public class ProductMapperTest {
+
+    private final ProductMapper productMapper = new ProductMapper();
+    private final CategoryMapper categoryMapper = new CategoryMapper();
+
+    @Test
+    public void testToDto_MapsFieldsAndCategoryName() {
+        // Arrange
+        Category category = new Category();
+        category.setId(3L);
+        category.setName("Electronics");
+        Product product = new Product();
+        product.setId(1L);
+        product.setName("Phone");
+        product.setBrand("Acme");
+        product.setDescription("A phone");
+        product.setCategory(category);
+
+        // Act
+        ProductDto productDto = productMapper.toDto(product);
+
+        // Assert
+        assertEquals(1L, productDto.getId());
+        assertEquals("Phone", productDto.getName());
+        assertEquals("Acme", productDto.getBrand());
+        assertEquals("A phone", productDto.getDescription());
+        assertEquals("Electronics", productDto.getCategory());
+        assertNull(productDto.getQuantityStatus());
+    }
+
+    @Test
+    public void testToDto_FromSummary() {
+        // Arrange
+        ProductSummary productSummary = new ProductSummary(1L, "Phone", "Acme", "A phone", "Electronics");
+
+        // Act
+        ProductDto productDto = productMapper.toDto(productSummary);
+
+        // Assert
+        assertEquals(1L, productDto.getId());
+        assertEquals("Phone", productDto.getName());
+        assertEquals("Acme", productDto.getBrand());
+        assertEquals("A phone", productDto.getDescription());
+        assertEquals("Electronics", productDto.getCategory());
+    }
+
+    @Test
+    public void testToDto_WithoutCategory() {
+        // Arrange
+        Product product = new Product();
+        product.setId(1L);
+
+        // Act
+        ProductDto productDto = productMapper.toDto(product);
+
+        // Assert
+        assertNull(productDto.getCategory());
+    }
+
+    @Test
+    public void testToEntity_LeavesCategoryToCaller() {
+        // Arrange
+        ProductRequest productRequest = new ProductRequest("Phone", "Acme", "A phone", 3L);
+
+        // Act
+        Product product = productMapper.toEntity(productRequest);
+
+        // Assert
+        assertNull(product.getId());
+        assertEquals("Phone", product.getName());
+        assertEquals("Acme", product.getBrand());
+        assertEquals("A phone", product.getDescription());
+        assertNull(product.getCategory());
+    }
+
+    @Test
+    public void testUpdateEntity_KeepsFieldsMissingFromRequest() {
+        // Arrange
+        Product product = new Product();
+        product.setName("Phone");
+        product.setBrand("Acme");
+        product.setDescription("A phone");
+        ProductRequest productRequest = new ProductRequest();
+        productRequest.setDescription("A better phone");
+
+        // Act
+        productMapper.updateEntity(productRequest, product);
+
+        // Assert
+        assertEquals("Phone", product.getName());
+        assertEquals("Acme", product.getBrand());
+        assertEquals("A better phone", product.getDescription());
+    }
+
+    @Test
+    public void testCategoryMapper_RoundTrip() {
+        // Arrange
+        CategoryRequest categoryRequest = new CategoryRequest("Books", "Paper and ink");
+
+        // Act
+        Category category = categoryMapper.toEntity(categoryRequest);
+        category.setId(5L);
+        CategoryDto categoryDto = categoryMapper.toDto(category);
+
+        // Assert
+        assertEquals(new CategoryDto(5L, "Books", "Paper and ink"), categoryDto);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.productservice.repository;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.productservice.dto.ProductDto;
+import com.example.productservice.dto.ProductSummary;
+import com.example.productservice.mapper.ProductMapper;
+import com.example.productservice.model.Category;
+import com.example.productservice.model.Product;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Listing queries must cost a fixed number of statements however many products they return;
+// the second-level cache is evicted first so a warm cache cannot hide an N+1
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ListingQueryCountTest {
+
+    private static final int MAX_LISTING_STATEMENTS = 1;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ProductMapper productMapper = new ProductMapper();
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Product> products = new ArrayList<>();
+        for (String categoryName : List.of("Electronics", "Books", "Garden")) {
+            Category category = new Category();
+            category.setName(categoryName);
+            category = categoryRepository.save(category);
+            for (int i = 1; i <= 4; i++) {
+                products.add(product(categoryName + " " + i, category));
+            }
+        }
+        productRepository.saveAll(products);
+        entityManagerFactory.getCache().evictAll();
+        SqlStatementCounter.reset();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    public void testFindAvailableProductsByCategoryName_FetchesCategoryInSameStatement() {
+        // Act
+        List<ProductDto> productDtos = transactionTemplate.execute(status ->
+                productRepository.findAvailableProductsByCategoryName("Books").stream().map(productMapper::toDto).toList());
+
+        // Assert
+        assertEquals(4, productDtos.size());
+        assertTrue(productDtos.stream().allMatch(productDto -> "Books".equals(productDto.getCategory())));
+        assertTrue(SqlStatementCounter.count() <= MAX_LISTING_STATEMENTS, "statements: " + SqlStatementCounter.count());
+    }
+
+    @Test
+    public void testFindSummariesByCategoryName_SingleStatement() {
+        // Act
+        List<ProductSummary> summaries = productRepository.findSummariesByCategoryName("Garden");
+
+        // Assert
+        assertEquals(4, summaries.size());
+        assertEquals("Garden", summaries.get(0).categoryName());
+        assertTrue(SqlStatementCounter.count() <= MAX_LISTING_STATEMENTS, "statements: " + SqlStatementCounter.count());
+    }
+
+    @Test
+    public void testFindPageAfterId_FetchesCategoriesInSameStatement() {
+        // Act
+        List<ProductDto> productDtos = transactionTemplate.execute(status ->
+                productRepository.findPageAfterId(0L, PageRequest.of(0, 50)).stream().map(productMapper::toDto).toList());
+
+        // Assert
+        assertEquals(12, productDtos.size());
+        assertTrue(productDtos.stream().allMatch(productDto -> productDto.getCategory() != null));
+        assertTrue(SqlStatementCounter.count() <= MAX_LISTING_STATEMENTS, "statements: " + SqlStatementCounter.count());
+    }
+
+    private static Product product(String name, Category category) {
+        Product product = new Product();
+        product.setName(name);
+        product.setBrand("Brand");
+        product.setDescription("Description");
+        product.setCategory(category);
+        return product;
+    }
+}
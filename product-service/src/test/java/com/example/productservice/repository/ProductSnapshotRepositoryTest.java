@@ -0,0 +1,106 @@
+package com.example.productservice.repository;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.productservice.model.ProductSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// The read-model writes run against the real schema: their newer-than checks live in SQL
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ProductSnapshotRepositoryTest {
+
+    @Autowired
+    private ProductSnapshotRepository productSnapshotRepository;
+
+    @AfterEach
+    public void tearDown() {
+        productSnapshotRepository.deleteAll();
+    }
+
+    @Test
+    public void testInsertIfAbsent_KeepsExistingRow() {
+        // Arrange
+        LocalDateTime changedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        productSnapshotRepository.save(ProductSnapshot.builder().productId(1L).price(30.0).priceUpdatedAt(changedAt).build());
+
+        // Act
+        int inserted = productSnapshotRepository.insertIfAbsent(1L);
+
+        // Assert
+        assertEquals(0, inserted);
+        assertEquals(30.0, productSnapshotRepository.findById(1L).orElseThrow().getPrice());
+    }
+
+    @Test
+    public void testUpdatePriceIfNewer_OlderChangeDoesNotOverwrite() {
+        // Arrange
+        LocalDateTime current = LocalDateTime.of(2024, 1, 1, 12, 0);
+        productSnapshotRepository.save(ProductSnapshot.builder().productId(1L).price(30.0).priceUpdatedAt(current)
+                .quantity(4).quantityUpdatedAt(current).build());
+
+        // Act
+        int older = productSnapshotRepository.updatePriceIfNewer(1L, 25.0, current.minusSeconds(5));
+        int same = productSnapshotRepository.updatePriceIfNewer(1L, 25.0, current);
+        int newer = productSnapshotRepository.updatePriceIfNewer(1L, 35.0, current.plusSeconds(5));
+
+        // Assert
+        assertEquals(List.of(0, 0, 1), List.of(older, same, newer));
+        ProductSnapshot snapshot = productSnapshotRepository.findById(1L).orElseThrow();
+        assertEquals(35.0, snapshot.getPrice());
+        assertEquals(current.plusSeconds(5), snapshot.getPriceUpdatedAt());
+        assertEquals(4, snapshot.getQuantity());
+    }
+
+    @Test
+    public void testUpdateQuantityIfNewer_ConcurrentDeliveriesKeepNewest() throws Exception {
+        // Arrange
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+        int deliveries = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(deliveries);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        // Act
+        try {
+            for (int i = 1; i <= deliveries; i++) {
+                int quantity = i;
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (productSnapshotRepository.updateQuantityIfNewer(2L, quantity, base.plusSeconds(quantity)) == 0) {
+                        productSnapshotRepository.insertIfAbsent(2L);
+                        productSnapshotRepository.updateQuantityIfNewer(2L, quantity, base.plusSeconds(quantity));
+                    }
+                }, executor));
+            }
+            start.countDown();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        ProductSnapshot snapshot = productSnapshotRepository.findById(2L).orElseThrow();
+        assertEquals(deliveries, snapshot.getQuantity());
+        assertEquals(base.plusSeconds(deliveries), snapshot.getQuantityUpdatedAt());
+    }
+}
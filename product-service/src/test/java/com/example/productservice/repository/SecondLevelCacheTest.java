@@ -0,0 +1,133 @@
+package com.example.productservice.repository;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.productservice.dto.ProductDto;
+import com.example.productservice.mapper.ProductMapper;
+import com.example.productservice.model.Category;
+import com.example.productservice.model.Product;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+// Runs against the migrated H2 schema; each step commits so cache puts and invalidations happen as in production
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SecondLevelCacheTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    public void testListingProducts_ResolvesCategoriesFromCache() {
+        // Arrange
+        Category electronics = categoryRepository.save(category("Electronics"));
+        Category books = categoryRepository.save(category("Books"));
+        productRepository.saveAll(List.of(
+                product("Phone", electronics), product("Laptop", electronics), product("Novel", books)));
+        ProductMapper productMapper = new ProductMapper();
+        // Identity-generated inserts are not cached, so the first listing loads and caches the categories
+        transactionTemplate.execute(status -> productRepository.findAll().stream().map(productMapper::toDto).toList());
+        statistics.clear();
+
+        // Act
+        List<ProductDto> productDtos = transactionTemplate.execute(status ->
+                productRepository.findAll().stream().map(productMapper::toDto).toList());
+
+        // Assert
+        assertEquals(3, productDtos.size());
+        assertEquals("Electronics", productDtos.get(0).getCategory());
+        assertEquals("Books", productDtos.get(2).getCategory());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getDomainDataRegionStatistics("categories").getHitCount());
+    }
+
+    @Test
+    public void testFindProductByName_ResolvesNaturalIdFromCache() {
+        // Arrange
+        Category electronics = categoryRepository.save(category("Electronics"));
+        Product phone = productRepository.save(product("Phone", electronics));
+        transactionTemplate.execute(status -> productRepository.findByName("Phone"));
+        statistics.clear();
+
+        // Act
+        Optional<Product> found = transactionTemplate.execute(status -> productRepository.findByName("Phone"));
+
+        // Assert
+        assertEquals(phone.getId(), found.orElseThrow().getId());
+        assertEquals(1, statistics.getNaturalIdCacheHitCount());
+        assertEquals(0, statistics.getNaturalIdQueryExecutionCount());
+    }
+
+    @Test
+    public void testFindCategoryByName_ServedFromQueryCacheUntilCategoriesChange() {
+        // Arrange
+        categoryRepository.save(category("Electronics"));
+        transactionTemplate.execute(status -> categoryRepository.findByName("Electronics"));
+        statistics.clear();
+
+        // Act
+        Optional<Category> cached = transactionTemplate.execute(status -> categoryRepository.findByName("Electronics"));
+        long statementsWhileCached = statistics.getPrepareStatementCount();
+        categoryRepository.save(category("Books"));
+        transactionTemplate.execute(status -> categoryRepository.findByName("Electronics"));
+
+        // Assert
+        assertEquals("Electronics", cached.orElseThrow().getName());
+        assertEquals(0, statementsWhileCached);
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(1, statistics.getQueryCacheMissCount());
+    }
+
+    private static Category category(String name) {
+        Category category = new Category();
+        category.setName(name);
+        return category;
+    }
+
+    private static Product product(String name, Category category) {
+        Product product = new Product();
+        product.setName(name);
+        product.setBrand("Brand");
+        product.setDescription("Description");
+        product.setCategory(category);
+        return product;
+    }
+}
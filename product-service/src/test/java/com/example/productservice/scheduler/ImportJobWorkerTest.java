@@ -0,0 +1,163 @@
+package com.example.productservice.scheduler;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.productservice.config.ImportJobConfig;
+import com.example.productservice.mapper.ProductCsvParser;
+import com.example.productservice.mapper.ProductMapper;
+import com.example.productservice.model.Category;
+import com.example.productservice.model.ImportJob;
+import com.example.productservice.repository.CategoryRepository;
+import com.example.productservice.repository.ImportJobRepository;
+import com.example.productservice.repository.ProductRepository;
+import com.example.productservice.service.serviceImpl.ProductImportBatchWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+// Jobs run against H2 so claims, progress and batch commits share real transactions
+@DataJpaTest(properties = "product.import.batch-size=2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ImportJobWorker.class, ImportJobConfig.class, ProductImportBatchWriter.class, ProductCsvParser.class, ProductMapper.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+public class ImportJobWorkerTest {
+
+    private static final String TOKEN = "worker-token";
+
+    @Autowired
+    private ImportJobWorker importJobWorker;
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @TempDir
+    private Path directory;
+
+    private Path file;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Category category = new Category();
+        category.setName("Electronics");
+        Long categoryId = categoryRepository.save(category).getId();
+
+        StringBuilder csv = new StringBuilder("name,brand,description,category\n");
+        for (int i = 1; i <= 5; i++) {
+            csv.append("Product ").append(i).append(",Brand,Description,").append(categoryId).append('\n');
+        }
+        csv.append("Product 6,Brand,Description,999\n");
+        file = Files.writeString(directory.resolve("products.csv"), csv);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        importJobRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    public void testRun_ImportsFileAndCompletes() {
+        // Arrange
+        Long jobId = claimedJob(0);
+
+        // Act
+        importJobWorker.run(jobId, TOKEN);
+
+        // Assert
+        ImportJob job = importJobRepository.findById(jobId).orElseThrow();
+        assertEquals(ImportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(6, job.getProcessedRows());
+        assertEquals(5, job.getCreatedRows());
+        assertEquals(1, job.getRejectedRows());
+        assertEquals(0, job.getFailedRows());
+        assertEquals(5, productRepository.count());
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void testRun_ResumesAfterCommittedRows() {
+        // Arrange
+        Long jobId = claimedJob(4);
+
+        // Act
+        importJobWorker.run(jobId, TOKEN);
+
+        // Assert
+        ImportJob job = importJobRepository.findById(jobId).orElseThrow();
+        assertEquals(ImportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(6, job.getProcessedRows());
+        assertEquals(1, productRepository.count());
+        assertTrue(productRepository.findByName("Product 5").isPresent());
+    }
+
+    @Test
+    public void testRun_StopsWhenJobClaimedElsewhere() {
+        // Arrange
+        Long jobId = claimedJob(0);
+
+        // Act
+        importJobWorker.run(jobId, "stale-token");
+
+        // Assert
+        ImportJob job = importJobRepository.findById(jobId).orElseThrow();
+        assertEquals(ImportJob.Status.RUNNING, job.getStatus());
+        assertEquals(0, job.getProcessedRows());
+        assertEquals(0, productRepository.count());
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    public void testDispatch_ClaimsPendingJob() throws Exception {
+        // Arrange
+        Long jobId = importJobRepository.save(ImportJob.builder()
+                .fileName("products.csv")
+                .filePath(file.toString())
+                .status(ImportJob.Status.PENDING)
+                .build()).getId();
+
+        // Act
+        importJobWorker.dispatch();
+
+        // Assert
+        ImportJob job = importJobRepository.findById(jobId).orElseThrow();
+        for (int i = 0; i < 100 && job.getStatus() != ImportJob.Status.COMPLETED; i++) {
+            Thread.sleep(100);
+            job = importJobRepository.findById(jobId).orElseThrow();
+        }
+        assertEquals(ImportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(5, job.getCreatedRows());
+    }
+
+    private Long claimedJob(long processedRows) {
+        ImportJob job = importJobRepository.save(ImportJob.builder()
+                .fileName("products.csv")
+                .filePath(file.toString())
+                .status(ImportJob.Status.PENDING)
+                .processedRows(processedRows)
+                .build());
+        LocalDateTime now = LocalDateTime.now();
+        assertEquals(1, importJobRepository.claim(job.getId(), TOKEN, ImportJob.Status.PENDING, ImportJob.Status.RUNNING,
+                now, now.minusMinutes(2)));
+        return job.getId();
+    }
+}
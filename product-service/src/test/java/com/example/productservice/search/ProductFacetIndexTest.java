@@ -0,0 +1,168 @@
+package com.example.productservice.search;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.productservice.dto.ProductDto;
+import com.example.productservice.dto.ProductFacetResultDto;
+import com.example.productservice.model.ProductSnapshot;
+import com.example.productservice.request.ProductFacetRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+public class ProductFacetIndexTest {
+
+    private ProductFacetIndex productFacetIndex;
+
+    @BeforeEach
+    public void setUp() {
+        productFacetIndex = new ProductFacetIndex(new SimpleMeterRegistry(), new double[]{25, 50, 100});
+        productFacetIndex.rebuild(
+                List.of(product(1L, "Acme", "Phones"), product(2L, "Acme", "Laptops"),
+                        product(3L, "Globex", "Phones"), product(4L, "Globex", "Phones")),
+                List.of(snapshot(1L, 20.0, 5), snapshot(2L, 800.0, 0), snapshot(3L, 45.0, 2)));
+    }
+
+    @Test
+    public void testQuery_BrandFilterWithDisjunctiveCounts() {
+        // Act
+        ProductFacetResultDto result = productFacetIndex.query(request().brands(List.of("Acme")).build());
+
+        // Assert
+        assertEquals(2, result.getTotal());
+        assertEquals(List.of(1L, 2L), ids(result));
+        assertEquals(Map.of("Acme", 2L, "Globex", 2L), result.getBrands());
+        assertEquals(Map.of("Phones", 1L, "Laptops", 1L), result.getCategories());
+    }
+
+    @Test
+    public void testQuery_PriceRangeAndStockRefineBoundaryBuckets() {
+        // Act
+        ProductFacetResultDto result = productFacetIndex.query(request().minPrice(30.0).maxPrice(800.0).inStock(true).build());
+
+        // Assert
+        assertEquals(List.of(3L), ids(result));
+        assertEquals(45.0, result.getItems().get(0).getPrice());
+        assertEquals(ProductFacetIndex.IN_STOCK, result.getItems().get(0).getQuantityStatus());
+        assertEquals(1L, result.getAvailability().get(ProductFacetIndex.IN_STOCK));
+        assertEquals(1L, result.getAvailability().get(ProductFacetIndex.OUT_OF_STOCK));
+    }
+
+    @Test
+    public void testQuery_PricesOutsideTheReadModelAreNotBucketed() {
+        // Act
+        ProductFacetResultDto result = productFacetIndex.query(request().build());
+
+        // Assert
+        assertEquals(4, result.getTotal());
+        assertEquals(List.of("0-25", "25-50", "50-100", "100+"), List.copyOf(result.getPriceRanges().keySet()));
+        assertEquals(List.of(1L, 1L, 0L, 1L), List.copyOf(result.getPriceRanges().values()));
+    }
+
+    @Test
+    public void testApplySnapshot_MovesProductBetweenFacets() {
+        // Act
+        productFacetIndex.applySnapshot(snapshot(1L, 60.0, 0));
+        ProductFacetResultDto result = productFacetIndex.query(request().build());
+
+        // Assert
+        assertEquals(0L, result.getPriceRanges().get("0-25"));
+        assertEquals(1L, result.getPriceRanges().get("50-100"));
+        assertEquals(2L, result.getAvailability().get(ProductFacetIndex.OUT_OF_STOCK));
+    }
+
+    @Test
+    public void testApplySnapshot_HeldUntilProductIsIndexed() {
+        // Act
+        productFacetIndex.applySnapshot(snapshot(5L, 70.0, 3));
+        productFacetIndex.upsertProduct(product(5L, "Initech", "Phones"));
+        ProductFacetResultDto result = productFacetIndex.query(request().brands(List.of("Initech")).build());
+
+        // Assert
+        assertEquals(70.0, result.getItems().get(0).getPrice());
+        assertEquals(ProductFacetIndex.IN_STOCK, result.getItems().get(0).getQuantityStatus());
+    }
+
+    @Test
+    public void testRemoveProduct_DropsItFromEveryFacet() {
+        // Act
+        productFacetIndex.removeProduct(1L);
+        ProductFacetResultDto result = productFacetIndex.query(request().build());
+
+        // Assert
+        assertEquals(3, result.getTotal());
+        assertEquals(1L, result.getBrands().get("Acme"));
+        assertEquals(0L, result.getPriceRanges().get("0-25"));
+        assertEquals(3, productFacetIndex.size());
+    }
+
+    @Test
+    public void testQuery_PagesThroughMatches() {
+        // Act
+        ProductFacetResultDto result = productFacetIndex.query(request().page(1).size(3).build());
+
+        // Assert
+        assertEquals(4, result.getTotal());
+        assertEquals(List.of(4L), ids(result));
+    }
+
+    @Test
+    public void testRebuild_ReplaysChangesMadeDuringTheScan() {
+        // Arrange
+        productFacetIndex.beginRebuild();
+        List<ProductDto> scannedProducts = List.of(product(1L, "Acme", "Phones"), product(2L, "Acme", "Laptops"));
+        List<ProductSnapshot> scannedSnapshots = List.of(snapshot(1L, 20.0, 5), snapshot(2L, 800.0, 0));
+        productFacetIndex.upsertProduct(product(5L, "Initech", "Phones"));
+        productFacetIndex.applySnapshot(snapshot(5L, 70.0, 3));
+        productFacetIndex.applySnapshot(snapshot(1L, 60.0, 0));
+        productFacetIndex.removeProduct(2L);
+
+        // Act
+        productFacetIndex.rebuild(scannedProducts, scannedSnapshots);
+        ProductFacetResultDto result = productFacetIndex.query(request().build());
+
+        // Assert
+        assertEquals(List.of(1L, 5L), ids(result));
+        assertEquals(60.0, result.getItems().get(0).getPrice());
+        assertEquals(70.0, result.getItems().get(1).getPrice());
+        assertEquals(Map.of("Acme", 1L, "Initech", 1L), result.getBrands());
+        assertEquals(1L, result.getAvailability().get(ProductFacetIndex.OUT_OF_STOCK));
+    }
+
+    @Test
+    public void testCancelRebuild_StopsRecordingChanges() {
+        // Arrange
+        productFacetIndex.beginRebuild();
+        productFacetIndex.removeProduct(2L);
+        productFacetIndex.cancelRebuild();
+
+        // Act
+        productFacetIndex.rebuild(List.of(product(2L, "Acme", "Laptops")), List.of());
+
+        // Assert
+        assertEquals(List.of(2L), ids(productFacetIndex.query(request().build())));
+    }
+
+    private ProductFacetRequest.ProductFacetRequestBuilder request() {
+        return ProductFacetRequest.builder().page(0).size(10);
+    }
+
+    private List<Long> ids(ProductFacetResultDto result) {
+        return result.getItems().stream().map(ProductDto::getId).toList();
+    }
+
+    private ProductDto product(Long id, String brand, String category) {
+        ProductDto product = new ProductDto();
+        product.setId(id);
+        product.setName("Product " + id);
+        product.setBrand(brand);
+        product.setCategory(category);
+        return product;
+    }
+
+    private ProductSnapshot snapshot(Long productId, Double price, Integer quantity) {
+        return ProductSnapshot.builder().productId(productId).price(price).quantity(quantity).build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.productservice.search;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.productservice.dto.ProductDto;
+import com.example.productservice.dto.ProductSearchResultDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class ProductSearchIndexTest {
+
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    public void setUp() {
+        productSearchIndex = new ProductSearchIndex(new SimpleMeterRegistry(), 3.0, 2.0, 1.0);
+        productSearchIndex.rebuild(List.of(
+                product(1L, "Galaxy Phone", "Samsung", "Android phone with a large screen"),
+                product(2L, "Phone Case", "Spigen", "Protective case"),
+                product(3L, "Laptop Stand", "Rain", "Aluminium stand, fits any laptop"),
+                product(4L, "Wireless Charger", "Samsung", "Charges any Qi phone")));
+    }
+
+    @Test
+    public void testSearch_RanksNameMatchesAboveDescriptionMatches() {
+        // Act
+        ProductSearchResultDto result = productSearchIndex.search("phone", 10);
+
+        // Assert
+        assertEquals(3, result.getTotalHits());
+        assertEquals(List.of(1L, 2L, 4L), ids(result));
+    }
+
+    @Test
+    public void testSearch_ReturnsOnlyTopK() {
+        // Act
+        ProductSearchResultDto result = productSearchIndex.search("samsung phone", 1);
+
+        // Assert
+        assertEquals(3, result.getTotalHits());
+        assertEquals(List.of(1L), ids(result));
+    }
+
+    @Test
+    public void testSearch_TokenizesCaseAndPunctuationInsensitively() {
+        // Act
+        ProductSearchResultDto result = productSearchIndex.search("ALUMINIUM, Laptop!", 10);
+
+        // Assert
+        assertEquals(List.of(3L), ids(result));
+    }
+
+    @Test
+    public void testUpsert_ReplacesPreviousTerms() {
+        // Act
+        productSearchIndex.upsert(product(3L, "Monitor Arm", "Rain", "Desk mount"));
+
+        // Assert
+        assertTrue(productSearchIndex.search("laptop", 10).getItems().isEmpty());
+        assertEquals(List.of(3L), ids(productSearchIndex.search("monitor", 10)));
+        assertEquals(4, productSearchIndex.size());
+    }
+
+    @Test
+    public void testRemove_DropsProductFromResults() {
+        // Act
+        productSearchIndex.remove(2L);
+
+        // Assert
+        assertEquals(List.of(1L, 4L), ids(productSearchIndex.search("phone", 10)));
+        assertEquals(3, productSearchIndex.size());
+    }
+
+    @Test
+    public void testSearch_ReturnsCopies() {
+        // Act
+        productSearchIndex.search("laptop", 10).getItems().get(0).setName("Mutated");
+
+        // Assert
+        assertEquals("Laptop Stand", productSearchIndex.search("laptop", 10).getItems().get(0).getName());
+    }
+
+    @Test
+    public void testRebuild_ReplaysChangesMadeDuringTheScan() {
+        // Arrange
+        productSearchIndex.beginRebuild();
+        List<ProductDto> scanned = List.of(
+                product(1L, "Galaxy Phone", "Samsung", "Android phone with a large screen"),
+                product(2L, "Phone Case", "Spigen", "Protective case"));
+        productSearchIndex.upsert(product(5L, "Phone Grip", "PopSockets", "Stick-on grip"));
+        productSearchIndex.remove(2L);
+
+        // Act
+        productSearchIndex.rebuild(scanned);
+
+        // Assert
+        assertEquals(List.of(1L, 5L), ids(productSearchIndex.search("phone", 10)));
+        assertEquals(2, productSearchIndex.size());
+    }
+
+    @Test
+    public void testCancelRebuild_StopsRecordingChanges() {
+        // Arrange
+        productSearchIndex.beginRebuild();
+        productSearchIndex.remove(2L);
+        productSearchIndex.cancelRebuild();
+
+        // Act
+        productSearchIndex.rebuild(List.of(product(2L, "Phone Case", "Spigen", "Protective case")));
+
+        // Assert
+        assertEquals(List.of(2L), ids(productSearchIndex.search("case", 10)));
+    }
+
+    private List<Long> ids(ProductSearchResultDto result) {
+        return result.getItems().stream().map(ProductDto::getId).toList();
+    }
+
+    private ProductDto product(Long id, String name, String brand, String description) {
+        ProductDto product = new ProductDto();
+        product.setId(id);
+        product.setName(name);
+        product.setBrand(brand);
+        product.setDescription(description);
+        return product;
+    }
+}
@@ -1,21 +1,26 @@
 package com.example.productservice.service;
 
 
+import com.example.productservice.cache.CategoryCache;
+import com.example.productservice.cache.CategoryListingCache;
 import com.example.productservice.exception.ResourceNotFoundException;
+import com.example.productservice.mapper.CategoryMapper;
 import com.example.productservice.model.Category;
 import com.example.productservice.repository.CategoryRepository;
 import com.example.productservice.request.CategoryRequest;
 import com.example.productservice.response.ApiResponse;
 import com.example.productservice.service.serviceImpl.CategoryServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Optional;
@@ -32,7 +37,10 @@ public class CategoryServiceImplTest {
     private CategoryRepository categoryRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private CategoryMapper categoryMapper;
+
+    @Mock
+    private CategoryListingCache categoryListingCache;
 
     @InjectMocks
     private CategoryServiceImpl categoryService;
@@ -43,6 +51,9 @@ public class CategoryServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(categoryService, "categoryCache",
+                new CategoryCache(categoryRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(10)));
+
         categoryRequest = new CategoryRequest();
         categoryRequest.setName("Test Category");
         categoryRequest.setDescription("Test Description");
@@ -56,13 +67,13 @@ public class CategoryServiceImplTest {
         apiResponse = ApiResponse.builder()
                 .success(true)
                 .message("Success")
-                .httpStatus(HttpStatus.OK)
+                .httpStatus(HttpStatus.OK.value())
                 .build();
     }
 
     @Test
     void createCategory_Success() {
-        when(modelMapper.map(any(CategoryRequest.class), eq(Category.class))).thenReturn(category);
+        when(categoryMapper.toEntity(any(CategoryRequest.class))).thenReturn(category);
         when(categoryRepository.save(any(Category.class))).thenReturn(category);
 
         ApiResponse response = categoryService.createCategory(categoryRequest);
@@ -76,7 +87,7 @@ public class CategoryServiceImplTest {
 
     @Test
     void createCategory_Exception() {
-        when(modelMapper.map(any(CategoryRequest.class), eq(Category.class))).thenReturn(category);
+        when(categoryMapper.toEntity(any(CategoryRequest.class))).thenReturn(category);
         when(categoryRepository.save(any(Category.class))).thenThrow(new RuntimeException("Database error"));
 
         Exception exception = assertThrows(RuntimeException.class, () -> {
@@ -0,0 +1,223 @@
+package com.example.productservice.service;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.productservice.dto.ProductImportResultDto;
+import com.example.productservice.dto.ProductImportResultDto.Status;
+import com.example.productservice.mapper.ProductCsvParser;
+import com.example.productservice.mapper.ProductMapper;
+import com.example.productservice.model.Category;
+import com.example.productservice.model.Product;
+import com.example.productservice.repository.CategoryRepository;
+import com.example.productservice.repository.ProductRepository;
+import com.example.productservice.repository.SqlStatementCounter;
+import com.example.productservice.request.ProductRequest;
+import com.example.productservice.response.ApiResponse;
+import com.example.productservice.service.serviceImpl.ProductImportBatchWriter;
+import com.example.productservice.service.serviceImpl.ProductImportServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Runs against H2 so batching, the duplicate-name query and per-batch transactions are real
+@DataJpaTest(properties = "product.import.batch-size=10")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ProductImportServiceImpl.class, ProductImportBatchWriter.class, ProductCsvParser.class, ProductMapper.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+public class ProductImportServiceImplTest {
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Long categoryId;
+
+    @BeforeEach
+    public void setUp() {
+        Category category = new Category();
+        category.setName("Electronics");
+        categoryId = categoryRepository.save(category).getId();
+
+        Product existing = new Product();
+        existing.setName("Existing Phone");
+        existing.setBrand("Brand");
+        existing.setDescription("Description");
+        existing.setCategory(category);
+        productRepository.save(existing);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    public void testImportProducts_ReportsEachRow() {
+        // Arrange
+        List<ProductRequest> requests = Arrays.asList(
+                request("Laptop", categoryId),
+                request("Existing Phone", categoryId),
+                request("Tablet", 999L),
+                ProductRequest.builder().name("No Brand").description("Description").category(categoryId).build(),
+                request("LAPTOP", categoryId),
+                null);
+
+        // Act
+        ApiResponse<ProductImportResultDto> response = productImportService.importProducts(requests);
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        ProductImportResultDto result = response.getData();
+        assertEquals(6, result.getTotal());
+        assertEquals(1, result.getCreated());
+        assertEquals(5, result.getFailed());
+        assertEquals(List.of(Status.CREATED, Status.DUPLICATE, Status.CATEGORY_NOT_FOUND, Status.INVALID, Status.DUPLICATE, Status.INVALID),
+                result.getRows().stream().map(ProductImportResultDto.Row::getStatus).toList());
+        assertEquals(1, result.getRows().get(0).getRow());
+        assertNotNull(result.getRows().get(0).getProductId());
+        assertEquals("Brand is required", result.getRows().get(3).getMessage());
+        assertTrue(productRepository.findByName("Laptop").isPresent());
+        assertEquals(2, productRepository.count());
+    }
+
+    @Test
+    public void testImportProducts_BatchesInserts() {
+        // Arrange
+        List<ProductRequest> requests = new ArrayList<>();
+        for (int i = 1; i <= 25; i++) {
+            requests.add(request("Product " + i, categoryId));
+        }
+        SqlStatementCounter.reset();
+
+        // Act
+        ApiResponse<ProductImportResultDto> response = productImportService.importProducts(requests);
+
+        // Assert
+        assertEquals(25, response.getData().getCreated());
+        assertEquals(26, productRepository.count());
+        // Per batch of 10: one name check, one batched insert; ids and the category come in bulk
+        assertTrue(SqlStatementCounter.count() <= 12, "statements: " + SqlStatementCounter.count());
+    }
+
+    @Test
+    public void testImportProductsCsv_QuotedFields() {
+        // Arrange
+        String csv = "category,name,brand,description\n"
+                + categoryId + ",\"Desk Lamp, LED\",Lumo,\"Says \"\"bright\"\"\nover two lines\"\n"
+                + "\n"
+                + "abc,Chair,Seato,Wooden\n";
+
+        // Act
+        ApiResponse<ProductImportResultDto> response = productImportService.importProductsCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        ProductImportResultDto result = response.getData();
+        assertEquals(2, result.getTotal());
+        assertEquals(Status.CREATED, result.getRows().get(0).getStatus());
+        assertEquals(Status.INVALID, result.getRows().get(1).getStatus());
+        Product lamp = productRepository.findByName("Desk Lamp, LED").orElseThrow();
+        assertEquals("Says \"bright\"\nover two lines", lamp.getDescription());
+    }
+
+    @Test
+    public void testImportProductsCsv_MissingColumn() {
+        // Arrange
+        String csv = "name,brand,description\nLamp,Lumo,Bright\n";
+
+        // Act
+        ApiResponse<ProductImportResultDto> response = productImportService.importProductsCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST.value(), response.getHttpStatus());
+        assertTrue(response.getMessage().contains("category"));
+        assertEquals(1, productRepository.count());
+    }
+
+    @Test
+    public void testImportProductsCsv_RejectsUploadOverRowCapWithoutReadingItAll() {
+        // Arrange
+        ReflectionTestUtils.setField(productImportService, "maxRows", 5);
+        StringBuilder csv = new StringBuilder("name,brand,description,category\n");
+        for (int i = 0; i < 50_000; i++) {
+            csv.append("Lamp ").append(i).append(",Lumo,Bright,").append(categoryId).append('\n');
+        }
+        byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
+        CountingInputStream upload = new CountingInputStream(new ByteArrayInputStream(bytes));
+
+        // Act
+        ApiResponse<ProductImportResultDto> response;
+        try {
+            response = productImportService.importProductsCsv(upload);
+        } finally {
+            ReflectionTestUtils.setField(productImportService, "maxRows", 100000);
+        }
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST.value(), response.getHttpStatus());
+        assertTrue(response.getMessage().contains("At most 5"));
+        assertEquals(1, productRepository.count());
+        assertTrue(upload.count < bytes.length / 10, "bytes read: " + upload.count);
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+
+    private static ProductRequest request(String name, Long category) {
+        return ProductRequest.builder()
+                .name(name)
+                .brand("Brand")
+                .description("Description")
+                .category(category)
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.productservice.service;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.productservice.dto.InventoryChangeEvent;
+import com.example.productservice.dto.PriceChangeEvent;
+import com.example.productservice.event.ProductSnapshotChangedEvent;
+import com.example.productservice.model.ProductSnapshot;
+import com.example.productservice.repository.ProductSnapshotRepository;
+import com.example.productservice.response.ApiResponse;
+import com.example.productservice.service.serviceImpl.ProductProjectionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+public class ProductProjectionServiceImplTest {
+
+    @Mock
+    private ProductSnapshotRepository productSnapshotRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ProductProjectionServiceImpl productProjectionService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    public void testApplyPriceChanges_CreatesSnapshotForUnknownProduct() {
+        // Arrange
+        LocalDateTime changedAt = LocalDateTime.now();
+        ProductSnapshot stored = ProductSnapshot.builder().productId(1L).price(25.0).priceUpdatedAt(changedAt).build();
+        when(productSnapshotRepository.updatePriceIfNewer(1L, 25.0, changedAt)).thenReturn(0, 1);
+        when(productSnapshotRepository.insertIfAbsent(1L)).thenReturn(1);
+        when(productSnapshotRepository.findAllById(Set.of(1L))).thenReturn(List.of(stored));
+
+        // Act
+        ApiResponse response = productProjectionService.applyPriceChanges(List.of(new PriceChangeEvent(1L, 25.0, changedAt)));
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        assertEquals(1, response.getData());
+        InOrder inOrder = inOrder(productSnapshotRepository);
+        inOrder.verify(productSnapshotRepository).updatePriceIfNewer(1L, 25.0, changedAt);
+        inOrder.verify(productSnapshotRepository).insertIfAbsent(1L);
+        inOrder.verify(productSnapshotRepository).updatePriceIfNewer(1L, 25.0, changedAt);
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof ProductSnapshotChangedEvent changed
+                && changed.getSnapshots().size() == 1 && changed.getSnapshots().get(0).getPrice().equals(25.0)));
+    }
+
+    @Test
+    public void testApplyPriceChanges_IgnoresOlderChange() {
+        // Arrange
+        LocalDateTime changedAt = LocalDateTime.now().minusSeconds(5);
+        when(productSnapshotRepository.updatePriceIfNewer(1L, 25.0, changedAt)).thenReturn(0);
+        when(productSnapshotRepository.insertIfAbsent(1L)).thenReturn(0);
+
+        // Act
+        ApiResponse response = productProjectionService.applyPriceChanges(List.of(new PriceChangeEvent(1L, 25.0, changedAt)));
+
+        // Assert
+        assertEquals(0, response.getData());
+        verify(productSnapshotRepository, never()).saveAll(anyIterable());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    public void testApplyInventoryChanges_AppliesEachChangeConditionally() {
+        // Arrange
+        LocalDateTime base = LocalDateTime.now();
+        when(productSnapshotRepository.updateQuantityIfNewer(1L, 8, base.plusSeconds(2))).thenReturn(1);
+        when(productSnapshotRepository.updateQuantityIfNewer(1L, 3, base.plusSeconds(1))).thenReturn(0);
+        when(productSnapshotRepository.findAllById(Set.of(1L)))
+                .thenReturn(List.of(ProductSnapshot.builder().productId(1L).quantity(8).build()));
+
+        // Act
+        ApiResponse response = productProjectionService.applyInventoryChanges(List.of(
+                new InventoryChangeEvent(1L, 8, base.plusSeconds(2)),
+                new InventoryChangeEvent(1L, 3, base.plusSeconds(1))));
+
+        // Assert
+        assertEquals(1, response.getData());
+        verify(productSnapshotRepository).updateQuantityIfNewer(1L, 8, base.plusSeconds(2));
+        verify(productSnapshotRepository, times(2)).updateQuantityIfNewer(1L, 3, base.plusSeconds(1));
+        verify(eventPublisher, times(1)).publishEvent(any(ProductSnapshotChangedEvent.class));
+    }
+}
@@ -2,34 +2,66 @@ package com.example.productservice.service;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.example.productservice.cache.CategoryCache;
+import com.example.productservice.cache.PriceCache;
+import com.example.productservice.cache.SingleFlight;
+import com.example.productservice.config.PricingServiceFeignFallback;
+import com.example.productservice.config.RequestDeadline;
 import com.example.productservice.dto.ProductDto;
+import com.example.productservice.dto.ProductFacetResultDto;
+import com.example.productservice.dto.ProductPageDto;
+import com.example.productservice.dto.ProductSearchResultDto;
+import com.example.productservice.dto.ProductSummary;
+import com.example.productservice.event.ProductChangedEvent;
+import com.example.productservice.exception.DeadlineExceededException;
+import com.example.productservice.exception.GlobalExceptionHandler;
 import com.example.productservice.exception.ResourceNotFoundException;
+import com.example.productservice.feignclient.HedgedRequestExecutor;
 import com.example.productservice.feignclient.InventoryServiceFeignClient;
 import com.example.productservice.feignclient.PricingServiceFeignClient;
+import com.example.productservice.mapper.ProductMapper;
 import com.example.productservice.model.Category;
 import com.example.productservice.model.Product;
+import com.example.productservice.model.ProductSnapshot;
 import com.example.productservice.repository.CategoryRepository;
 import com.example.productservice.repository.ProductRepository;
+import com.example.productservice.request.ProductFacetRequest;
 import com.example.productservice.request.ProductRequest;
 import com.example.productservice.response.ApiResponse;
 import com.example.productservice.response.InventoryResponse;
 import com.example.productservice.response.PriceResponse;
+import com.example.productservice.search.ProductFacetIndex;
+import com.example.productservice.search.ProductSearchIndex;
 import com.example.productservice.service.CategoryService;
+import com.example.productservice.service.ProductProjectionService;
 import com.example.productservice.service.serviceImpl.ProductServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 public class ProductServiceImplTest {
 
@@ -40,7 +72,7 @@ public class ProductServiceImplTest {
     private CategoryRepository categoryRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private ProductMapper productMapper;
 
     @Mock
     private CategoryService categoryService;
@@ -51,12 +83,51 @@ public class ProductServiceImplTest {
     @Mock
     private InventoryServiceFeignClient inventoryServiceFeignClient;
 
+    @Mock
+    private ProductProjectionService productProjectionService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductFacetIndex productFacetIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
+    private PriceCache priceCache;
+
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(productService, "enrichmentExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(productService, "categoryCache",
+                new CategoryCache(categoryRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(10)));
+        ReflectionTestUtils.setField(productService, "productLoadSingleFlight",
+                new SingleFlight<Long, ProductDto>(new SimpleMeterRegistry(), "product.load.single.flight"));
+        ReflectionTestUtils.setField(productService, "pricingHedger", disabledHedger("pricing"));
+        ReflectionTestUtils.setField(productService, "inventoryHedger", disabledHedger("inventory"));
+        usePriceCache(Duration.ofSeconds(30), Duration.ofMinutes(5));
+    }
+
+    private void usePriceCache(Duration timeToLive, Duration staleWhileRevalidate) {
+        priceCache = new PriceCache(new SimpleMeterRegistry(), 100, timeToLive, staleWhileRevalidate,
+                Duration.ofDays(1), Runnable::run);
+        PricingServiceFeignFallback fallback = new PricingServiceFeignFallback();
+        ReflectionTestUtils.setField(fallback, "priceCache", priceCache);
+        ReflectionTestUtils.setField(productService, "priceCache", priceCache);
+        ReflectionTestUtils.setField(productService, "pricingServiceFeignFallback", fallback);
+    }
+
+    private HedgedRequestExecutor disabledHedger(String clientName) {
+        return new HedgedRequestExecutor(clientName, Runnable::run, new SimpleMeterRegistry(), false, 0.95,
+                Duration.ofMillis(10), Duration.ofMillis(500), 0.05, 10);
     }
 
     // Test cases for createProduct method
@@ -82,15 +153,15 @@ public class ProductServiceImplTest {
 
         when(productRepository.findByName("Test Product")).thenReturn(Optional.empty());
         when(categoryService.findById(1L)).thenReturn(category);
-        when(modelMapper.map(productRequest, Product.class)).thenReturn(product);
+        when(productMapper.toEntity(productRequest)).thenReturn(product);
         when(productRepository.save(product)).thenReturn(product);
-        when(modelMapper.map(product, ProductDto.class)).thenReturn(productDto);
+        when(productMapper.toDto(product)).thenReturn(productDto);
 
         // Act
         ApiResponse response = productService.createProduct(productRequest);
 
         // Assert
-        assertEquals(HttpStatus.resolve(201), response.getHttpStatus());
+        assertEquals(HttpStatus.CREATED.value(), response.getHttpStatus());
         assertEquals("Product created successfully", response.getMessage());
         assertNotNull(response.getData());
 
@@ -108,7 +179,7 @@ public class ProductServiceImplTest {
         ApiResponse response = productService.createProduct(productRequest);
 
         // Assert
-        assertEquals(HttpStatus.CONFLICT, response.getHttpStatus());
+        assertEquals(HttpStatus.CONFLICT.value(), response.getHttpStatus());
         assertEquals("Product with the same name already exists", response.getMessage());
     }
 
@@ -126,7 +197,7 @@ public class ProductServiceImplTest {
         ApiResponse response = productService.createProduct(productRequest);
 
         // Assert
-        assertEquals(HttpStatus.NOT_FOUND, response.getHttpStatus());
+        assertEquals(HttpStatus.NOT_FOUND.value(), response.getHttpStatus());
         assertEquals("Category not found", response.getMessage());
     }
 
@@ -142,7 +213,7 @@ public class ProductServiceImplTest {
         ApiResponse response = productService.createProduct(productRequest);
 
         // Assert
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getHttpStatus());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), response.getHttpStatus());
         assertEquals("Failed to create product", response.getMessage());
     }
 
@@ -175,13 +246,13 @@ public class ProductServiceImplTest {
         when(productRepository.findById(productId)).thenReturn(Optional.of(existingProduct));
         when(categoryService.findById(2L)).thenReturn(category);
         when(productRepository.save(existingProduct)).thenReturn(updatedProduct);
-        when(modelMapper.map(updatedProduct, ProductDto.class)).thenReturn(productDto);
+        when(productMapper.toDto(updatedProduct)).thenReturn(productDto);
 
         // Act
         ApiResponse response = productService.updateProduct(productId, productRequest);
 
         // Assert
-        assertEquals(HttpStatus.OK, response.getHttpStatus());
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
         assertEquals("Product updated successfully", response.getMessage());
         assertNotNull(response.getData());
     }
@@ -198,7 +269,7 @@ public class ProductServiceImplTest {
         ApiResponse response = productService.updateProduct(productId, productRequest);
 
         // Assert
-        assertEquals(HttpStatus.NOT_FOUND, response.getHttpStatus());
+        assertEquals(HttpStatus.NOT_FOUND.value(), response.getHttpStatus());
         assertEquals("Product not found with ID: " + productId, response.getMessage());
     }
 
@@ -214,7 +285,7 @@ public class ProductServiceImplTest {
         ApiResponse response = productService.updateProduct(productId, productRequest);
 
         // Assert
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getHttpStatus());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), response.getHttpStatus());
         assertEquals("Failed to update product", response.getMessage());
     }
 
@@ -233,10 +304,26 @@ public class ProductServiceImplTest {
         ApiResponse response = productService.deleteProduct(productId);
 
         // Assert
-        assertEquals(HttpStatus.OK, response.getHttpStatus());
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
         assertEquals("Product deleted successfully", response.getMessage());
     }
 
+    @Test
+    public void testDeleteProduct_PublishesDeletedEvent() {
+        // Arrange
+        Long productId = 1L;
+        Product product = new Product();
+        product.setId(productId);
+
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+
+        // Act
+        productService.deleteProduct(productId);
+
+        // Assert
+        verify(eventPublisher, times(1)).publishEvent(ProductChangedEvent.deleted(productId));
+    }
+
     @Test
     public void testDeleteProduct_ProductNotFound() {
         // Arrange
@@ -248,7 +335,7 @@ public class ProductServiceImplTest {
         ApiResponse response = productService.deleteProduct(productId);
 
         // Assert
-        assertEquals(HttpStatus.NOT_FOUND, response.getHttpStatus());
+        assertEquals(HttpStatus.NOT_FOUND.value(), response.getHttpStatus());
         assertEquals("Product not found with ID: " + productId, response.getMessage());
     }
 
@@ -263,7 +350,7 @@ public class ProductServiceImplTest {
         ApiResponse response = productService.deleteProduct(productId);
 
         // Assert
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getHttpStatus());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), response.getHttpStatus());
         assertEquals("Failed to delete product", response.getMessage());
     }
 
@@ -279,15 +366,15 @@ public class ProductServiceImplTest {
 
         List<Product> products = List.of(product1, product2);
 
-        when(productRepository.findAll()).thenReturn(products);
-        when(modelMapper.map(product1, ProductDto.class)).thenReturn(new ProductDto());
-        when(modelMapper.map(product2, ProductDto.class)).thenReturn(new ProductDto());
+        when(productRepository.findPageAfterId(eq(0L), any(Pageable.class))).thenReturn(products);
+        when(productMapper.toDto(product1)).thenReturn(new ProductDto());
+        when(productMapper.toDto(product2)).thenReturn(new ProductDto());
 
         // Act
-        ApiResponse response = productService.getAllProducts();
+        ApiResponse response = productService.getAllProducts(null, null);
 
         // Assert
-        assertEquals(HttpStatus.OK, response.getHttpStatus());
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
         assertEquals("Products retrieved successfully", response.getMessage());
         assertNotNull(response.getData());
     }
@@ -295,16 +382,94 @@ public class ProductServiceImplTest {
     @Test
     public void testGetAllProducts_Exception() {
         // Arrange
-        when(productRepository.findAll()).thenThrow(new RuntimeException("Database Error"));
+        when(productRepository.findPageAfterId(eq(0L), any(Pageable.class))).thenThrow(new RuntimeException("Database Error"));
 
         // Act
-        ApiResponse response = productService.getAllProducts();
+        ApiResponse response = productService.getAllProducts(null, null);
 
         // Assert
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getHttpStatus());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), response.getHttpStatus());
         assertEquals("Failed to retrieve products", response.getMessage());
     }
 
+    @Test
+    public void testGetAllProducts_ReturnsCursorWhenMorePagesExist() {
+        // Arrange
+        Product product1 = new Product();
+        product1.setId(11L);
+        Product product2 = new Product();
+        product2.setId(12L);
+        Product product3 = new Product();
+        product3.setId(13L);
+
+        when(productRepository.findPageAfterId(eq(10L), eq(PageRequest.of(0, 3))))
+                .thenReturn(List.of(product1, product2, product3));
+        when(productMapper.toDto(any(Product.class))).thenReturn(new ProductDto());
+
+        // Act
+        ApiResponse response = productService.getAllProducts(10L, 2);
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        ProductPageDto page = (ProductPageDto) response.getData();
+        assertEquals(2, page.getSize());
+        assertTrue(page.isHasMore());
+        assertEquals(12L, page.getNextCursor());
+    }
+
+    @Test
+    public void testGetAllProducts_LastPageHasNoCursorAndSizeIsCapped() {
+        // Arrange
+        Product product1 = new Product();
+        product1.setId(1L);
+
+        when(productRepository.findPageAfterId(eq(0L), eq(PageRequest.of(0, 501)))).thenReturn(List.of(product1));
+        when(productMapper.toDto(product1)).thenReturn(new ProductDto());
+
+        // Act
+        ApiResponse response = productService.getAllProducts(null, 10_000);
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        ProductPageDto page = (ProductPageDto) response.getData();
+        assertEquals(1, page.getSize());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void testStreamAllProducts_WritesOneJsonLinePerProduct() throws Exception {
+        // Arrange
+        Product product1 = new Product();
+        product1.setId(1L);
+        Product product2 = new Product();
+        product2.setId(2L);
+
+        ProductDto dto1 = new ProductDto();
+        dto1.setId(1L);
+        dto1.setName("Phone");
+        ProductDto dto2 = new ProductDto();
+        dto2.setId(2L);
+        dto2.setName("Laptop");
+
+        ReflectionTestUtils.setField(productService, "objectMapper", new ObjectMapper());
+        when(productRepository.streamAll()).thenReturn(Stream.of(product1, product2));
+        when(productMapper.toDto(product1)).thenReturn(dto1);
+        when(productMapper.toDto(product2)).thenReturn(dto2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        productService.streamAllProducts(out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"name\":\"Phone\""));
+        assertTrue(lines[1].contains("\"name\":\"Laptop\""));
+        verify(entityManager).detach(product1);
+        verify(entityManager).detach(product2);
+    }
+
     // Test cases for getProductsByCategory method
 
     @Test
@@ -314,23 +479,21 @@ public class ProductServiceImplTest {
         Category category = new Category();
         category.setName(categoryName);
 
-        Product product1 = new Product();
-        product1.setId(1L);
-        Product product2 = new Product();
-        product2.setId(2L);
+        ProductSummary product1 = new ProductSummary(1L, "Phone", "Brand", "Description", categoryName);
+        ProductSummary product2 = new ProductSummary(2L, "Laptop", "Brand", "Description", categoryName);
 
-        List<Product> products = List.of(product1, product2);
+        List<ProductSummary> products = List.of(product1, product2);
 
         when(categoryService.getCategoryByName(categoryName)).thenReturn(category);
-        when(productRepository.findAvailableProductsByCategoryName(categoryName)).thenReturn(products);
-        when(modelMapper.map(product1, ProductDto.class)).thenReturn(new ProductDto());
-        when(modelMapper.map(product2, ProductDto.class)).thenReturn(new ProductDto());
+        when(productRepository.findSummariesByCategoryName(categoryName)).thenReturn(products);
+        when(productMapper.toDto(product1)).thenReturn(new ProductDto());
+        when(productMapper.toDto(product2)).thenReturn(new ProductDto());
 
         // Act
         ApiResponse response = productService.getProductsByCategory(categoryName);
 
         // Assert
-        assertEquals(HttpStatus.OK, response.getHttpStatus());
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
         assertEquals("Products fetched successfully", response.getMessage());
         assertNotNull(response.getData());
     }
@@ -346,7 +509,7 @@ public class ProductServiceImplTest {
         ApiResponse response = productService.getProductsByCategory(categoryName);
 
         // Assert
-        assertEquals(HttpStatus.NOT_FOUND, response.getHttpStatus());
+        assertEquals(HttpStatus.NOT_FOUND.value(), response.getHttpStatus());
         assertEquals("Category not found with name: " + categoryName, response.getMessage());
     }
 
@@ -358,13 +521,13 @@ public class ProductServiceImplTest {
         category.setName(categoryName);
 
         when(categoryService.getCategoryByName(categoryName)).thenReturn(category);
-        when(productRepository.findAvailableProductsByCategoryName(categoryName)).thenReturn(List.of());
+        when(productRepository.findSummariesByCategoryName(categoryName)).thenReturn(List.of());
 
         // Act
         ApiResponse response = productService.getProductsByCategory(categoryName);
 
         // Assert
-        assertEquals(HttpStatus.NOT_FOUND, response.getHttpStatus());
+        assertEquals(HttpStatus.NOT_FOUND.value(), response.getHttpStatus());
         assertEquals("No products available with sufficient inventory in the requested category.", response.getMessage());
     }
 
@@ -379,7 +542,7 @@ public class ProductServiceImplTest {
         ApiResponse response = productService.getProductsByCategory(categoryName);
 
         // Assert
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getHttpStatus());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), response.getHttpStatus());
         assertEquals("An error occurred while fetching products. Please try again later.", response.getMessage());
     }
 
@@ -396,7 +559,7 @@ public class ProductServiceImplTest {
         productDto.setId(productId);
 
         when(productRepository.findById(productId)).thenReturn(Optional.of(product));
-        when(modelMapper.map(product, ProductDto.class)).thenReturn(productDto);
+        when(productMapper.toDto(product)).thenReturn(productDto);
         when(pricingServiceFeignClient.getPriceByProductId(productId, "PRODUCT-SERVICE")).thenReturn(ApiResponse.success(new PriceResponse(), "Success", UUID.randomUUID().toString(), HttpStatus.OK));
         when(inventoryServiceFeignClient.getInventoryByProductId(productId, "PRODUCT-SERVICE")).thenReturn(ApiResponse.success(new InventoryResponse(), "Success", UUID.randomUUID().toString(), HttpStatus.OK));
 
@@ -404,7 +567,7 @@ public class ProductServiceImplTest {
         ApiResponse response = productService.getProductById(productId);
 
         // Assert
-        assertEquals(HttpStatus.OK, response.getHttpStatus());
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
         assertEquals("Product retrieved successfully", response.getMessage());
         assertNotNull(response.getData());
     }
@@ -420,7 +583,7 @@ public class ProductServiceImplTest {
         ApiResponse response = productService.getProductById(productId);
 
         // Assert
-        assertEquals(HttpStatus.NOT_FOUND, response.getHttpStatus());
+        assertEquals(HttpStatus.NOT_FOUND.value(), response.getHttpStatus());
         assertEquals("Product not found with ID: " + productId, response.getMessage());
     }
 
@@ -435,10 +598,72 @@ public class ProductServiceImplTest {
         ApiResponse response = productService.getProductById(productId);
 
         // Assert
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getHttpStatus());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), response.getHttpStatus());
         assertEquals("Failed to retrieve product details", response.getMessage());
     }
 
+    @Test
+    public void testGetProductById_DeadlineExceededDuringEnrichmentIsGatewayTimeout() {
+        // Arrange
+        Long productId = 1L;
+        Product product = new Product();
+        product.setId(productId);
+
+        ProductDto productDto = new ProductDto();
+        productDto.setId(productId);
+
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productMapper.toDto(product)).thenReturn(productDto);
+        when(pricingServiceFeignClient.getPriceByProductId(productId, "PRODUCT-SERVICE"))
+                .thenThrow(new DeadlineExceededException("Request deadline exceeded"));
+        when(inventoryServiceFeignClient.getInventoryByProductId(productId, "PRODUCT-SERVICE"))
+                .thenReturn(ApiResponse.success(new InventoryResponse(), "Success", UUID.randomUUID().toString(), HttpStatus.OK));
+
+        // Act
+        RequestDeadline.start(0);
+        DeadlineExceededException ex;
+        try {
+            ex = assertThrows(DeadlineExceededException.class, () -> productService.getProductById(productId));
+        } finally {
+            RequestDeadline.clear();
+        }
+        ResponseEntity<ApiResponse> response = new GlobalExceptionHandler().handleDeadlineExceededException(ex);
+
+        // Assert
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, response.getStatusCode());
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT.value(), response.getBody().getHttpStatus());
+        verify(pricingServiceFeignClient, times(1)).getPriceByProductId(productId, "PRODUCT-SERVICE");
+    }
+
+    @Test
+    public void testGetProductById_SharedLoadDeadlineIsRetriedWithBudgetLeft() {
+        // Arrange
+        Long productId = 1L;
+        Product product = new Product();
+        product.setId(productId);
+
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productMapper.toDto(product)).thenAnswer(invocation -> {
+            ProductDto productDto = new ProductDto();
+            productDto.setId(productId);
+            return productDto;
+        });
+        PriceResponse price = priceResponse(productId, 25.0);
+        when(pricingServiceFeignClient.getPriceByProductId(productId, "PRODUCT-SERVICE"))
+                .thenThrow(new DeadlineExceededException("Request deadline exceeded"))
+                .thenReturn(ApiResponse.success(price, "Success", UUID.randomUUID().toString(), HttpStatus.OK));
+        when(inventoryServiceFeignClient.getInventoryByProductId(productId, "PRODUCT-SERVICE"))
+                .thenReturn(ApiResponse.success(new InventoryResponse(), "Success", UUID.randomUUID().toString(), HttpStatus.OK));
+
+        // Act
+        ApiResponse response = productService.getProductById(productId);
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        assertEquals(25.0, ((ProductDto) response.getData()).getPrice());
+        verify(pricingServiceFeignClient, times(2)).getPriceByProductId(productId, "PRODUCT-SERVICE");
+    }
+
     // Test cases for findAvailableProductsByCategory method
 
     @Test
@@ -457,16 +682,25 @@ public class ProductServiceImplTest {
 
         List<Product> products = List.of(product1, product2);
 
+        ProductDto productDto1 = new ProductDto();
+        productDto1.setId(1L);
+        ProductDto productDto2 = new ProductDto();
+        productDto2.setId(2L);
+
         when(categoryRepository.findByName(categoryName)).thenReturn(Optional.of(category));
         when(productRepository.findAvailableProductsByCategoryName(categoryName)).thenReturn(products);
-        when(modelMapper.map(product1, ProductDto.class)).thenReturn(new ProductDto());
-        when(modelMapper.map(product2, ProductDto.class)).thenReturn(new ProductDto());
+        when(productMapper.toDto(product1)).thenReturn(productDto1);
+        when(productMapper.toDto(product2)).thenReturn(productDto2);
+        when(pricingServiceFeignClient.getPricesByProductIds(List.of(1L, 2L), "PRODUCT-SERVICE"))
+                .thenReturn(ApiResponse.success(List.of(priceResponse(1L, 10.0), priceResponse(2L, 20.0)), "Success", UUID.randomUUID().toString(), HttpStatus.OK));
+        when(inventoryServiceFeignClient.getInventoriesByProductIds(List.of(1L, 2L), "PRODUCT-SERVICE"))
+                .thenReturn(ApiResponse.success(List.of(inventoryResponse(1L, 5), inventoryResponse(2L, 3)), "Success", UUID.randomUUID().toString(), HttpStatus.OK));
 
         // Act
         ApiResponse response = productService.findAvailableProductsByCategory(categoryName, sortBy);
 
         // Assert
-        assertEquals(HttpStatus.OK, response.getHttpStatus());
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
         assertEquals("Products retrieved successfully", response.getMessage());
         assertNotNull(response.getData());
     }
@@ -483,7 +717,7 @@ public class ProductServiceImplTest {
         ApiResponse response = productService.findAvailableProductsByCategory(categoryName, sortBy);
 
         // Assert
-        assertEquals(HttpStatus.NOT_FOUND, response.getHttpStatus());
+        assertEquals(HttpStatus.NOT_FOUND.value(), response.getHttpStatus());
         assertEquals("Category '" + categoryName + "' does not exist", response.getMessage());
     }
 
@@ -503,7 +737,7 @@ public class ProductServiceImplTest {
         ApiResponse response = productService.findAvailableProductsByCategory(categoryName, sortBy);
 
         // Assert
-        assertEquals(HttpStatus.NOT_FOUND, response.getHttpStatus());
+        assertEquals(HttpStatus.NOT_FOUND.value(), response.getHttpStatus());
         assertEquals("No products found for category: " + categoryName, response.getMessage());
     }
 
@@ -519,7 +753,468 @@ public class ProductServiceImplTest {
         ApiResponse response = productService.findAvailableProductsByCategory(categoryName, sortBy);
 
         // Assert
-        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getHttpStatus());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), response.getHttpStatus());
         assertEquals("Failed to retrieve products", response.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testFindAvailableProductsByCategory_UsesOneBulkCallPerService() {
+        // Arrange
+        String categoryName = "Electronics";
+        Category category = new Category();
+        category.setName(categoryName);
+
+        List<Product> products = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            Product product = new Product();
+            product.setId(id);
+            products.add(product);
+            ProductDto productDto = new ProductDto();
+            productDto.setId(id);
+            when(productMapper.toDto(product)).thenReturn(productDto);
+        }
+
+        when(categoryRepository.findByName(categoryName)).thenReturn(Optional.of(category));
+        when(productRepository.findAvailableProductsByCategoryName(categoryName)).thenReturn(products);
+        when(pricingServiceFeignClient.getPricesByProductIds(List.of(1L, 2L, 3L), "PRODUCT-SERVICE"))
+                .thenReturn(ApiResponse.success(List.of(priceResponse(1L, 30.0), priceResponse(2L, 10.0), priceResponse(3L, 20.0)),
+                        "Success", UUID.randomUUID().toString(), HttpStatus.OK));
+        when(inventoryServiceFeignClient.getInventoriesByProductIds(List.of(1L, 2L, 3L), "PRODUCT-SERVICE"))
+                .thenReturn(ApiResponse.success(List.of(inventoryResponse(1L, 5), inventoryResponse(2L, 0), inventoryResponse(3L, 2)),
+                        "Success", UUID.randomUUID().toString(), HttpStatus.OK));
+
+        // Act
+        ApiResponse response = productService.findAvailableProductsByCategory(categoryName, "low");
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        List<ProductDto> availableProducts = (List<ProductDto>) response.getData();
+        assertEquals(List.of(3L, 1L), availableProducts.stream().map(ProductDto::getId).toList());
+        verify(pricingServiceFeignClient, times(1)).getPricesByProductIds(anyList(), eq("PRODUCT-SERVICE"));
+        verify(inventoryServiceFeignClient, times(1)).getInventoriesByProductIds(anyList(), eq("PRODUCT-SERVICE"));
+        verify(pricingServiceFeignClient, never()).getPriceByProductId(anyLong(), anyString());
+        verify(inventoryServiceFeignClient, never()).getInventoryByProductId(anyLong(), anyString());
+    }
+
+    @Test
+    public void testFindAvailableProductsByCategory_DeadlineExceededPropagates() {
+        // Arrange
+        String categoryName = "Electronics";
+        Category category = new Category();
+        category.setName(categoryName);
+
+        Product product = new Product();
+        product.setId(1L);
+        ProductDto productDto = new ProductDto();
+        productDto.setId(1L);
+        when(productMapper.toDto(product)).thenReturn(productDto);
+
+        when(categoryRepository.findByName(categoryName)).thenReturn(Optional.of(category));
+        when(productRepository.findAvailableProductsByCategoryName(categoryName)).thenReturn(List.of(product));
+        when(pricingServiceFeignClient.getPricesByProductIds(List.of(1L), "PRODUCT-SERVICE"))
+                .thenThrow(new DeadlineExceededException("Request deadline exceeded"));
+        when(inventoryServiceFeignClient.getInventoriesByProductIds(List.of(1L), "PRODUCT-SERVICE"))
+                .thenReturn(ApiResponse.success(List.of(inventoryResponse(1L, 5)), "Success", UUID.randomUUID().toString(), HttpStatus.OK));
+
+        // Act & Assert
+        assertThrows(DeadlineExceededException.class, () -> productService.findAvailableProductsByCategory(categoryName, "low"));
+    }
+
+    @Test
+    public void testFindAvailableProductsByCategory_ChunksLargeCategories() {
+        // Arrange
+        String categoryName = "Electronics";
+        Category category = new Category();
+        category.setName(categoryName);
+
+        List<Product> products = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            Product product = new Product();
+            product.setId(id);
+            products.add(product);
+            ProductDto productDto = new ProductDto();
+            productDto.setId(id);
+            when(productMapper.toDto(product)).thenReturn(productDto);
+        }
+        ReflectionTestUtils.setField(productService, "enrichmentBatchSize", 2);
+
+        when(categoryRepository.findByName(categoryName)).thenReturn(Optional.of(category));
+        when(productRepository.findAvailableProductsByCategoryName(categoryName)).thenReturn(products);
+        when(pricingServiceFeignClient.getPricesByProductIds(anyList(), eq("PRODUCT-SERVICE")))
+                .thenReturn(ApiResponse.success(List.of(), "Success", UUID.randomUUID().toString(), HttpStatus.OK));
+        when(inventoryServiceFeignClient.getInventoriesByProductIds(anyList(), eq("PRODUCT-SERVICE")))
+                .thenReturn(ApiResponse.success(List.of(inventoryResponse(1L, 1), inventoryResponse(5L, 1)),
+                        "Success", UUID.randomUUID().toString(), HttpStatus.OK));
+
+        // Act
+        ApiResponse response = productService.findAvailableProductsByCategory(categoryName, "low");
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        verify(pricingServiceFeignClient).getPricesByProductIds(List.of(1L, 2L), "PRODUCT-SERVICE");
+        verify(pricingServiceFeignClient).getPricesByProductIds(List.of(3L, 4L), "PRODUCT-SERVICE");
+        verify(pricingServiceFeignClient).getPricesByProductIds(List.of(5L), "PRODUCT-SERVICE");
+        verify(inventoryServiceFeignClient, times(3)).getInventoriesByProductIds(anyList(), eq("PRODUCT-SERVICE"));
+    }
+
+    @Test
+    public void testValidateEnrichmentBatchSize_RejectsBatchAboveDownstreamCap() {
+        // Arrange
+        ReflectionTestUtils.setField(productService, "enrichmentBatchSize", 600);
+        ReflectionTestUtils.setField(productService, "downstreamMaxBatchSize", 500);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> productService.validateEnrichmentBatchSize());
+    }
+
+    @Test
+    public void testValidateEnrichmentBatchSize_AcceptsBatchAtDownstreamCap() {
+        // Arrange
+        ReflectionTestUtils.setField(productService, "enrichmentBatchSize", 500);
+        ReflectionTestUtils.setField(productService, "downstreamMaxBatchSize", 500);
+
+        // Act & Assert
+        assertDoesNotThrow(() -> productService.validateEnrichmentBatchSize());
+    }
+
+    @Test
+    public void testFindAvailableProductsByCategory_ServedFromReadModel() {
+        // Arrange
+        String categoryName = "Electronics";
+        Category category = new Category();
+        category.setName(categoryName);
+
+        List<Product> products = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            Product product = new Product();
+            product.setId(id);
+            products.add(product);
+            ProductDto productDto = new ProductDto();
+            productDto.setId(id);
+            when(productMapper.toDto(product)).thenReturn(productDto);
+        }
+
+        when(categoryRepository.findByName(categoryName)).thenReturn(Optional.of(category));
+        when(productRepository.findAvailableProductsByCategoryName(categoryName)).thenReturn(products);
+        when(productProjectionService.findSnapshots(List.of(1L, 2L, 3L))).thenReturn(Map.of(
+                1L, snapshot(1L, 30.0, 5),
+                2L, snapshot(2L, 10.0, 0),
+                3L, snapshot(3L, 20.0, null)));
+        when(inventoryServiceFeignClient.getInventoriesByProductIds(List.of(3L), "PRODUCT-SERVICE"))
+                .thenReturn(ApiResponse.success(List.of(inventoryResponse(3L, 2)), "Success", UUID.randomUUID().toString(), HttpStatus.OK));
+
+        // Act
+        ApiResponse response = productService.findAvailableProductsByCategory(categoryName, "low");
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        List<ProductDto> availableProducts = (List<ProductDto>) response.getData();
+        assertEquals(List.of(3L, 1L), availableProducts.stream().map(ProductDto::getId).toList());
+        verify(pricingServiceFeignClient, never()).getPricesByProductIds(anyList(), anyString());
+        verify(inventoryServiceFeignClient, times(1)).getInventoriesByProductIds(List.of(3L), "PRODUCT-SERVICE");
+    }
+
+    @Test
+    public void testFindAvailableProductsByCategory_ReadModelDisabledFansOut() {
+        // Arrange
+        String categoryName = "Electronics";
+        Category category = new Category();
+        category.setName(categoryName);
+
+        Product product = new Product();
+        product.setId(1L);
+        ProductDto productDto = new ProductDto();
+        productDto.setId(1L);
+
+        ReflectionTestUtils.setField(productService, "readModelEnabled", false);
+        when(categoryRepository.findByName(categoryName)).thenReturn(Optional.of(category));
+        when(productRepository.findAvailableProductsByCategoryName(categoryName)).thenReturn(List.of(product));
+        when(productMapper.toDto(product)).thenReturn(productDto);
+        when(pricingServiceFeignClient.getPricesByProductIds(List.of(1L), "PRODUCT-SERVICE"))
+                .thenReturn(ApiResponse.success(List.of(priceResponse(1L, 30.0)), "Success", UUID.randomUUID().toString(), HttpStatus.OK));
+        when(inventoryServiceFeignClient.getInventoriesByProductIds(List.of(1L), "PRODUCT-SERVICE"))
+                .thenReturn(ApiResponse.success(List.of(inventoryResponse(1L, 5)), "Success", UUID.randomUUID().toString(), HttpStatus.OK));
+
+        // Act
+        ApiResponse response = productService.findAvailableProductsByCategory(categoryName, "low");
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        verifyNoInteractions(productProjectionService);
+    }
+
+    @Test
+    public void testGetProductById_ServedFromReadModel() {
+        // Arrange
+        Long productId = 1L;
+        Product product = new Product();
+        product.setId(productId);
+
+        ProductDto productDto = new ProductDto();
+        productDto.setId(productId);
+
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productMapper.toDto(product)).thenReturn(productDto);
+        when(productProjectionService.findSnapshot(productId)).thenReturn(Optional.of(snapshot(productId, 99.0, 3)));
+
+        // Act
+        ApiResponse response = productService.getProductById(productId);
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        assertEquals(99.0, productDto.getPrice());
+        assertEquals("In Stock", productDto.getQuantityStatus());
+        verifyNoInteractions(pricingServiceFeignClient, inventoryServiceFeignClient);
+    }
+
+    @Test
+    public void testGetProductById_FreshCachedPriceSkipsPricingService() {
+        // Arrange
+        Long productId = 1L;
+        Product product = new Product();
+        product.setId(productId);
+
+        ProductDto productDto = new ProductDto();
+        productDto.setId(productId);
+
+        priceCache.put(productId, 42.0);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productMapper.toDto(product)).thenReturn(productDto);
+        when(productProjectionService.findSnapshot(productId)).thenReturn(Optional.of(snapshot(productId, null, 3)));
+
+        // Act
+        ApiResponse response = productService.getProductById(productId);
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        ProductDto result = (ProductDto) response.getData();
+        assertEquals(42.0, result.getPrice());
+        assertFalse(result.isPriceStale());
+        verifyNoInteractions(pricingServiceFeignClient);
+    }
+
+    @Test
+    public void testFindAvailableProductsByCategory_ServesLastKnownPricesWhenPricingFails() {
+        // Arrange
+        String categoryName = "Electronics";
+        Category category = new Category();
+        category.setName(categoryName);
+
+        List<Product> products = new ArrayList<>();
+        for (long id = 1; id <= 2; id++) {
+            Product product = new Product();
+            product.setId(id);
+            products.add(product);
+            ProductDto productDto = new ProductDto();
+            productDto.setId(id);
+            when(productMapper.toDto(product)).thenReturn(productDto);
+        }
+
+        // Cached prices are past their serving window, so only the fallback may hand them out
+        usePriceCache(Duration.ZERO, Duration.ZERO);
+        priceCache.putAll(Map.of(1L, 30.0, 2L, 10.0));
+        ReflectionTestUtils.setField(productService, "readModelEnabled", false);
+        when(categoryRepository.findByName(categoryName)).thenReturn(Optional.of(category));
+        when(productRepository.findAvailableProductsByCategoryName(categoryName)).thenReturn(products);
+        when(pricingServiceFeignClient.getPricesByProductIds(List.of(1L, 2L), "PRODUCT-SERVICE"))
+                .thenThrow(new RuntimeException("Connection refused"));
+        when(inventoryServiceFeignClient.getInventoriesByProductIds(List.of(1L, 2L), "PRODUCT-SERVICE"))
+                .thenReturn(ApiResponse.success(List.of(inventoryResponse(1L, 5), inventoryResponse(2L, 5)),
+                        "Success", UUID.randomUUID().toString(), HttpStatus.OK));
+
+        // Act
+        ApiResponse response = productService.findAvailableProductsByCategory(categoryName, "low");
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        List<ProductDto> availableProducts = (List<ProductDto>) response.getData();
+        assertEquals(List.of(2L, 1L), availableProducts.stream().map(ProductDto::getId).toList());
+        assertEquals(List.of(10.0, 30.0), availableProducts.stream().map(ProductDto::getPrice).toList());
+        assertTrue(availableProducts.stream().allMatch(ProductDto::isPriceStale));
+    }
+
+    @Test
+    public void testGetProductById_IncludeNoneSkipsEnrichment() {
+        // Arrange
+        Long productId = 1L;
+        Product product = new Product();
+        product.setId(productId);
+
+        ProductDto productDto = new ProductDto();
+        productDto.setId(productId);
+
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productMapper.toDto(product)).thenReturn(productDto);
+
+        // Act
+        ApiResponse response = productService.getProductById(productId, "none");
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        verifyNoInteractions(productProjectionService, pricingServiceFeignClient, inventoryServiceFeignClient);
+    }
+
+    @Test
+    public void testGetProductById_PriceOnlySkipsInventory() {
+        // Arrange
+        Long productId = 1L;
+        Product product = new Product();
+        product.setId(productId);
+
+        ProductDto productDto = new ProductDto();
+        productDto.setId(productId);
+
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productMapper.toDto(product)).thenReturn(productDto);
+        when(productProjectionService.findSnapshot(productId)).thenReturn(Optional.empty());
+        when(pricingServiceFeignClient.getPriceByProductId(productId, "PRODUCT-SERVICE"))
+                .thenReturn(ApiResponse.success(priceResponse(productId, 12.5), "Success", UUID.randomUUID().toString(), HttpStatus.OK));
+
+        // Act
+        ApiResponse response = productService.getProductById(productId, "price");
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        assertEquals(12.5, ((ProductDto) response.getData()).getPrice());
+        assertNull(((ProductDto) response.getData()).getQuantityStatus());
+        verifyNoInteractions(inventoryServiceFeignClient);
+    }
+
+    @Test
+    public void testGetProductById_UnknownIncludeIsBadRequest() {
+        // Act
+        ApiResponse response = productService.getProductById(1L, "price,reviews");
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST.value(), response.getHttpStatus());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    public void testProductExists_FoundAndNotFound() {
+        // Arrange
+        when(productRepository.existsById(1L)).thenReturn(true);
+        when(productRepository.existsById(2L)).thenReturn(false);
+
+        // Act
+        ApiResponse found = productService.productExists(1L);
+        ApiResponse missing = productService.productExists(2L);
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), found.getHttpStatus());
+        assertEquals(true, found.getData());
+        assertEquals(HttpStatus.NOT_FOUND.value(), missing.getHttpStatus());
+        assertNull(missing.getData());
+        verify(productRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    public void testGetProductById_ReturnsCopyOfSharedLoad() {
+        // Arrange
+        Long productId = 1L;
+        Product product = new Product();
+        product.setId(productId);
+
+        ProductDto productDto = new ProductDto();
+        productDto.setId(productId);
+
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productMapper.toDto(product)).thenReturn(productDto);
+        when(productProjectionService.findSnapshot(productId)).thenReturn(Optional.of(snapshot(productId, 99.0, 3)));
+
+        // Act
+        ApiResponse response = productService.getProductById(productId);
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        assertNotSame(productDto, response.getData());
+        assertEquals(productDto, response.getData());
+    }
+
+    // Test cases for searchProducts method
+
+    @Test
+    public void testSearchProducts_ServedFromIndexWithCappedLimit() {
+        // Arrange
+        ProductSearchResultDto result = ProductSearchResultDto.builder()
+                .query("phone")
+                .totalHits(1)
+                .items(List.of(new ProductDto()))
+                .build();
+        when(productSearchIndex.search("phone", 100)).thenReturn(result);
+
+        // Act
+        ApiResponse response = productService.searchProducts(" phone ", 10_000);
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        assertSame(result, response.getData());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    public void testSearchProducts_BlankQuery() {
+        // Act
+        ApiResponse response = productService.searchProducts("  ", null);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST.value(), response.getHttpStatus());
+        verifyNoInteractions(productSearchIndex);
+    }
+
+    // Test cases for facetProducts method
+
+    @Test
+    public void testFacetProducts_AppliesDefaultPageSize() {
+        // Arrange
+        ProductFacetRequest facetRequest = ProductFacetRequest.builder().brands(List.of("Acme")).build();
+        ProductFacetResultDto result = ProductFacetResultDto.builder().total(0).items(List.of()).build();
+        when(productFacetIndex.query(facetRequest)).thenReturn(result);
+
+        // Act
+        ApiResponse response = productService.facetProducts(facetRequest);
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getHttpStatus());
+        assertSame(result, response.getData());
+        assertEquals(50, facetRequest.getSize());
+        verifyNoInteractions(productRepository, pricingServiceFeignClient, inventoryServiceFeignClient);
+    }
+
+    @Test
+    public void testFacetProducts_InvalidPriceRange() {
+        // Arrange
+        ProductFacetRequest facetRequest = ProductFacetRequest.builder().minPrice(100.0).maxPrice(10.0).build();
+
+        // Act
+        ApiResponse response = productService.facetProducts(facetRequest);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST.value(), response.getHttpStatus());
+        verifyNoInteractions(productFacetIndex);
+    }
+
+    private ProductSnapshot snapshot(Long productId, Double price, Integer quantity) {
+        return ProductSnapshot.builder()
+                .productId(productId)
+                .price(price)
+                .priceUpdatedAt(price != null ? LocalDateTime.now() : null)
+                .quantity(quantity)
+                .quantityUpdatedAt(quantity != null ? LocalDateTime.now() : null)
+                .build();
+    }
+
+    private PriceResponse priceResponse(Long productId, Double price) {
+        PriceResponse priceResponse = new PriceResponse();
+        priceResponse.setProductId(productId);
+        priceResponse.setPrice(price);
+        return priceResponse;
+    }
+
+    private InventoryResponse inventoryResponse(Long productId, Integer quantity) {
+        InventoryResponse inventoryResponse = new InventoryResponse();
+        inventoryResponse.setProductId(productId);
+        inventoryResponse.setQuantity(quantity);
+        return inventoryResponse;
+    }
+}
@@ -2,7 +2,6 @@ package com.example.userservice.config;
 
 import com.example.userservice.model.Role;
 import com.example.userservice.repository.RoleRepository;
-import org.modelmapper.ModelMapper;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,13 +12,6 @@ import java.util.List;
 
 @Configuration
 public class Config {
-    @Bean
-    public ModelMapper modelMapper() {
-        ModelMapper modelMapper = new ModelMapper();
-        modelMapper.getConfiguration().setFieldMatchingEnabled(true).setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE);
-        return modelMapper;
-    }
-
     @Bean
     @Transactional
     public CommandLineRunner initRoles(RoleRepository roleRepository) {
@@ -0,0 +1,28 @@
+package com.example.userservice.mapper;
+
+import com.example.userservice.dto.UserDto;
+import com.example.userservice.model.User;
+import com.example.userservice.request.UserRequest;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserMapper {
+
+    public UserDto toDto(User user) {
+        return UserDto.builder()
+                .userId(user.getUserId())
+                .userName(user.getUserName())
+                .email(user.getEmail())
+                .roleName(user.getRole() != null ? user.getRole().getName() : null)
+                .build();
+    }
+
+    // Password encoding, role and audit fields are set by the caller
+    public User toEntity(UserRequest userRequest) {
+        User user = new User();
+        user.setUserName(userRequest.getUserName());
+        user.setEmail(userRequest.getEmail());
+        user.setPassword(userRequest.getPassword());
+        return user;
+    }
+}
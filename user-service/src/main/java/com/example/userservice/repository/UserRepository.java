@@ -1,11 +1,30 @@
 package com.example.userservice.repository;
 
+import com.example.userservice.dto.UserDto;
 import com.example.userservice.model.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User,Long> {
     User findByUserName(String username);
+
+    // Role is joined into the same select instead of being loaded eagerly afterwards. Read-write so
+    // login always reads the primary: a replica may not have a just-registered user yet
+    @EntityGraph(attributePaths = "role")
+    @Transactional
     Optional<User> findByEmail(String email);
+
+    @Override
+    @EntityGraph(attributePaths = "role")
+    List<User> findAll();
+
+    // Listing projection: only the columns UserDto carries, never the password hash or audit fields
+    @Query("SELECT new com.example.userservice.dto.UserDto(u.userId, u.userName, u.email, r.name) "
+            + "FROM User u LEFT JOIN u.role r ORDER BY u.userId ASC")
+    List<UserDto> findAllUserDtos();
 }
@@ -4,6 +4,7 @@ import com.example.userservice.dto.UserDto;
 import com.example.userservice.exception.ResourceNotFoundException;
 import com.example.userservice.exception.RoleNotFoundException;
 import com.example.userservice.exception.UserCreationException;
+import com.example.userservice.mapper.UserMapper;
 import com.example.userservice.model.Role;
 import com.example.userservice.model.User;
 import com.example.userservice.model.UserPrinciple;
@@ -14,7 +15,6 @@ import com.example.userservice.response.ApiResponse;
 import com.example.userservice.service.UserService;
 import com.example.userservice.util.JwtUtil;
 import jakarta.servlet.http.HttpSession;
-import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -49,7 +49,7 @@ public class UserServiceImpl implements UserService {
     private AuthenticationManager authenticationManager;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private UserMapper userMapper;
 
     private BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(12);
 
@@ -73,8 +73,8 @@ public class UserServiceImpl implements UserService {
             Role defaultRole = roleRepository.findByName("USER")
                     .orElseThrow(() -> new RoleNotFoundException("Default role 'USER' not found in the database."));
 
-            // Mapping UserRequest to User entity using ModelMapper
-            User newUser = modelMapper.map(userRequest, User.class);
+            // Mapping UserRequest to User entity
+            User newUser = userMapper.toEntity(userRequest);
             newUser.setRole(defaultRole);
             newUser.setCreatedBy(userRequest.getUserName());
             newUser.setPassword(encoder.encode(userRequest.getPassword()));
@@ -84,8 +84,7 @@ public class UserServiceImpl implements UserService {
             User savedUser = userRepository.save(newUser);
 
             // Map User to UserDto
-            UserDto userDto = modelMapper.map(savedUser, UserDto.class);
-            userDto.setRoleName(savedUser.getRole().getName()); // Set role name explicitly
+            UserDto userDto = userMapper.toDto(savedUser);
 
             logger.info("User created successfully with ID: {} | TraceId: {}", savedUser.getUserId(), traceId);
 
@@ -106,8 +105,7 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
 
         // Map User to UserDto
-        UserDto userDto = modelMapper.map(user, UserDto.class);
-        userDto.setRoleName(user.getRole().getName()); // Set role name explicitly
+        UserDto userDto = userMapper.toDto(user);
 
         return ApiResponse.success(userDto, "User retrieved successfully", traceId, HttpStatus.OK);
     }
@@ -192,8 +190,7 @@ public class UserServiceImpl implements UserService {
             User updatedUser = userRepository.save(existingUser);
 
             // Map User to UserDto
-            UserDto userDto = modelMapper.map(updatedUser, UserDto.class);
-            userDto.setRoleName(updatedUser.getRole().getName()); // Set role name explicitly
+            UserDto userDto = userMapper.toDto(updatedUser);
 
             logger.info("User updated successfully with ID: {} | TraceId: {}", updatedUser.getUserId(), traceId);
 
@@ -267,21 +264,14 @@ public class UserServiceImpl implements UserService {
         logger.info("Fetching all users | TraceId: {}", traceId);
 
         try {
-            // Fetch all users from the repository
-            List<User> users = userRepository.findAll();
+            // Fetch all users as DTOs in one select, role name included
+            List<UserDto> userDtos = userRepository.findAllUserDtos();
 
-            if (users.isEmpty()) {
+            if (userDtos.isEmpty()) {
                 logger.warn("No users found in the database | TraceId: {}", traceId);
                 return ApiResponse.failure("No users found.", traceId, HttpStatus.NOT_FOUND);
             }
 
-            // Map Users to UserDto list
-            List<UserDto> userDtos = users.stream().map(user -> {
-                UserDto userDto = modelMapper.map(user, UserDto.class);
-                userDto.setRoleName(user.getRole().getName()); // Set role name explicitly
-                return userDto;
-            }).toList();
-
             logger.info("Successfully fetched all users | TraceId: {}", traceId);
             return ApiResponse.success(userDtos, "Users retrieved successfully.", traceId, HttpStatus.OK);
 
@@ -0,0 +1,24 @@
+-- Baseline schema, matching what ddl-auto=update previously generated for these entities.
+-- IF NOT EXISTS lets it run against databases that were created before Flyway was introduced.
+
+CREATE TABLE IF NOT EXISTS roles (
+    id   BIGINT       NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_roles_name UNIQUE (name)
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    user_id    BIGINT NOT NULL AUTO_INCREMENT,
+    user_name  VARCHAR(50),
+    password   VARCHAR(255),
+    email      VARCHAR(255),
+    role_id    BIGINT,
+    created_at DATETIME(6),
+    created_by VARCHAR(255),
+    updated_at DATETIME(6),
+    updated_by VARCHAR(255),
+    is_active  BOOLEAN,
+    PRIMARY KEY (user_id),
+    CONSTRAINT fk_users_role FOREIGN KEY (role_id) REFERENCES roles (id)
+);
@@ -0,0 +1,4 @@
+-- Login and registration both go through findByEmail; registration already rejects duplicates.
+CREATE UNIQUE INDEX ux_users_email ON users (email);
+
+CREATE INDEX idx_users_user_name ON users (user_name);
@@ -0,0 +1,109 @@
+package com.example.userservice.benchmark;
+
+import com.example.userservice.dto.UserDto;
+import com.example.userservice.mapper.UserMapper;
+import com.example.userservice.model.Role;
+import com.example.userservice.model.User;
+import com.example.userservice.request.UserRequest;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link UserMapper} against the ModelMapper configuration it replaced.
+ * Run from the user-service directory after {@code mvn test-compile}:
+ * <pre>
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     com.example.userservice.benchmark.MapperBenchmark
+ * </pre>
+ * The GC profiler reports gc.alloc.rate.norm, i.e. bytes allocated per mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private UserMapper userMapper;
+    private User user;
+    private UserRequest userRequest;
+
+    @Setup
+    public void setUp() {
+        modelMapper = legacyModelMapper();
+        userMapper = new UserMapper();
+
+        Role role = new Role();
+        role.setId(2L);
+        role.setName("USER");
+
+        user = new User();
+        user.setUserId(42L);
+        user.setUserName("jdoe");
+        user.setEmail("jdoe@example.com");
+        user.setPassword("$2a$10$hash");
+        user.setRole(role);
+        user.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        user.setIsActive(true);
+
+        userRequest = new UserRequest("jdoe", "secret", "jdoe@example.com");
+    }
+
+    // The service set roleName itself after mapping
+    @Benchmark
+    public UserDto modelMapperUserToDto() {
+        UserDto userDto = modelMapper.map(user, UserDto.class);
+        userDto.setRoleName(user.getRole().getName());
+        return userDto;
+    }
+
+    @Benchmark
+    public UserDto userMapperToDto() {
+        return userMapper.toDto(user);
+    }
+
+    @Benchmark
+    public User modelMapperRequestToEntity() {
+        return modelMapper.map(userRequest, User.class);
+    }
+
+    @Benchmark
+    public User userMapperToEntity() {
+        return userMapper.toEntity(userRequest);
+    }
+
+    // Same configuration the service used before switching to UserMapper
+    private static ModelMapper legacyModelMapper() {
+        ModelMapper mapper = new ModelMapper();
+        mapper.getConfiguration().setFieldMatchingEnabled(true)
+                .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE);
+        return mapper;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.userservice.mapper;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.userservice.dto.UserDto;
+import com.example.userservice.model.Role;
+import com.example.userservice.model.User;
+import com.example.userservice.request.UserRequest;
+import org.junit.jupiter.api.Test;
+
+public class UserMapperTest {
+
+    private final UserMapper userMapper = new UserMapper();
+
+    @Test
+    public void testToDto_IncludesRoleNameButNotPassword() {
+        // Arrange
+        User user = new User();
+        user.setUserId(1L);
+        user.setUserName("john");
+        user.setEmail("john@example.com");
+        user.setPassword("secret");
+        user.setRole(new Role(2L, "ADMIN"));
+
+        // Act
+        UserDto userDto = userMapper.toDto(user);
+
+        // Assert
+        assertEquals(new UserDto(1L, "john", "john@example.com", "ADMIN"), userDto);
+    }
+
+    @Test
+    public void testToDto_WithoutRole() {
+        // Arrange
+        User user = new User();
+        user.setUserId(1L);
+
+        // Act
+        UserDto userDto = userMapper.toDto(user);
+
+        // Assert
+        assertNull(userDto.getRoleName());
+    }
+
+    @Test
+    public void testToEntity() {
+        // Arrange
+        UserRequest userRequest = new UserRequest("john", "secret123", "john@example.com");
+
+        // Act
+        User user = userMapper.toEntity(userRequest);
+
+        // Assert
+        assertNull(user.getUserId());
+        assertEquals("john", user.getUserName());
+        assertEquals("secret123", user.getPassword());
+        assertEquals("john@example.com", user.getEmail());
+        assertNull(user.getRole());
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.userservice.repository;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.userservice.dto.UserDto;
+import com.example.userservice.mapper.UserMapper;
+import com.example.userservice.model.Role;
+import com.example.userservice.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// Listing queries must cost a fixed number of statements however many users and roles they return
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ListingQueryCountTest {
+
+    private static final int MAX_LISTING_STATEMENTS = 1;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final UserMapper userMapper = new UserMapper();
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        List<User> users = new ArrayList<>();
+        for (String roleName : List.of("USER", "ADMIN", "AUDITOR")) {
+            Role role = new Role();
+            role.setName(roleName);
+            role = roleRepository.save(role);
+            for (int i = 1; i <= 2; i++) {
+                String userName = roleName.toLowerCase() + i;
+                users.add(User.builder()
+                        .userName(userName)
+                        .email(userName + "@example.com")
+                        .password("password123")
+                        .role(role)
+                        .build());
+            }
+        }
+        userRepository.saveAll(users);
+        SqlStatementCounter.reset();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        userRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    @Test
+    public void testFindAll_JoinsRolesInSameStatement() {
+        // Act
+        List<UserDto> userDtos = transactionTemplate.execute(status ->
+                userRepository.findAll().stream().map(userMapper::toDto).toList());
+
+        // Assert
+        assertEquals(6, userDtos.size());
+        assertTrue(userDtos.stream().allMatch(userDto -> userDto.getRoleName() != null));
+        assertTrue(SqlStatementCounter.count() <= MAX_LISTING_STATEMENTS, "statements: " + SqlStatementCounter.count());
+    }
+
+    @Test
+    public void testFindAllUserDtos_SingleStatement() {
+        // Act
+        List<UserDto> userDtos = userRepository.findAllUserDtos();
+
+        // Assert
+        assertEquals(6, userDtos.size());
+        assertEquals("USER", userDtos.get(0).getRoleName());
+        assertTrue(SqlStatementCounter.count() <= MAX_LISTING_STATEMENTS, "statements: " + SqlStatementCounter.count());
+    }
+
+    @Test
+    public void testFindByEmail_JoinsRoleInSameStatement() {
+        // Act
+        Optional<User> user = transactionTemplate.execute(status -> userRepository.findByEmail("admin1@example.com"));
+
+        // Assert
+        assertEquals("ADMIN", user.orElseThrow().getRole().getName());
+        assertTrue(SqlStatementCounter.count() <= MAX_LISTING_STATEMENTS, "statements: " + SqlStatementCounter.count());
+    }
+}
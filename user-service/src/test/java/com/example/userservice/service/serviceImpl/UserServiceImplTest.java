@@ -7,6 +7,7 @@ import com.example.userservice.dto.UserDto;
 import com.example.userservice.exception.ResourceNotFoundException;
 import com.example.userservice.exception.RoleNotFoundException;
 import com.example.userservice.exception.UserCreationException;
+import com.example.userservice.mapper.UserMapper;
 import com.example.userservice.model.Role;
 import com.example.userservice.model.User;
 import com.example.userservice.model.UserPrinciple;
@@ -21,7 +22,6 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -49,7 +49,7 @@ public class UserServiceImplTest {
     private AuthenticationManager authenticationManager;
 
     @Mock
-    private ModelMapper modelMapper;
+    private UserMapper userMapper;
 
     @Mock
     private BCryptPasswordEncoder encoder;
@@ -89,9 +89,9 @@ public class UserServiceImplTest {
 
         when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.empty());
         when(roleRepository.findByName("USER")).thenReturn(Optional.of(defaultRole));
-        when(modelMapper.map(userRequest, User.class)).thenReturn(newUser);
+        when(userMapper.toEntity(userRequest)).thenReturn(newUser);
         when(userRepository.save(newUser)).thenReturn(newUser);
-        when(modelMapper.map(newUser, UserDto.class)).thenReturn(userDto);
+        when(userMapper.toDto(newUser)).thenReturn(userDto);
 
         // Act
         ApiResponse response = userService.createUser(userRequest);
@@ -168,7 +168,7 @@ public class UserServiceImplTest {
         userDto.setRoleName("USER");
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(modelMapper.map(user, UserDto.class)).thenReturn(userDto);
+        when(userMapper.toDto(user)).thenReturn(userDto);
 
         // Act
         ApiResponse response = userService.getUserById(userId);
@@ -349,7 +349,7 @@ public class UserServiceImplTest {
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
         when(userRepository.save(existingUser)).thenReturn(updatedUser);
-        when(modelMapper.map(updatedUser, UserDto.class)).thenReturn(userDto);
+        when(userMapper.toDto(updatedUser)).thenReturn(userDto);
 
         // Act
         ApiResponse response = userService.updateUser(userId, userRequest);
@@ -519,16 +519,11 @@ public class UserServiceImplTest {
     @Test
     public void testGetAllUsers_Success() {
         // Arrange
-        User user1 = new User();
-        user1.setUserId(1L);
-        User user2 = new User();
-        user2.setUserId(2L);
+        List<UserDto> users = List.of(
+                new UserDto(1L, "john", "john@example.com", "USER"),
+                new UserDto(2L, "jane", "jane@example.com", "ADMIN"));
 
-        List<User> users = List.of(user1, user2);
-
-        when(userRepository.findAll()).thenReturn(users);
-        when(modelMapper.map(user1, UserDto.class)).thenReturn(new UserDto());
-        when(modelMapper.map(user2, UserDto.class)).thenReturn(new UserDto());
+        when(userRepository.findAllUserDtos()).thenReturn(users);
 
         // Act
         ApiResponse response = userService.getAllUsers();
@@ -542,7 +537,7 @@ public class UserServiceImplTest {
     @Test
     public void testGetAllUsers_NoUsersFound() {
         // Arrange
-        when(userRepository.findAll()).thenReturn(List.of());
+        when(userRepository.findAllUserDtos()).thenReturn(List.of());
 
         // Act
         ApiResponse response = userService.getAllUsers();
@@ -555,7 +550,7 @@ public class UserServiceImplTest {
     @Test
     public void testGetAllUsers_Exception() {
         // Arrange
-        when(userRepository.findAll()).thenThrow(new RuntimeException("Database Error"));
+        when(userRepository.findAllUserDtos()).thenThrow(new RuntimeException("Database Error"));
 
         // Act
         ApiResponse response = userService.getAllUsers();